@@ -0,0 +1,64 @@
+package com.accounting.benchmark;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic fixtures shared by the benchmarks. Amounts have two decimals like posted money values.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    static Account account(long id, AccountType type) {
+        Account account = new Account();
+        account.setId(id);
+        account.setCode(String.valueOf(1000 + id));
+        account.setName("Account " + id);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        return account;
+    }
+
+    static BigDecimal amount(SplittableRandom random) {
+        return BigDecimal.valueOf(random.nextLong(1, 10_000_000), 2);
+    }
+
+    /**
+     * A balanced entry with the given number of lines: random debits on the first half (rounded up), and
+     * the second half crediting equal shares of their total, the last credit taking the rounding remainder.
+     */
+    static JournalEntry balancedEntry(int lineCount, SplittableRandom random) {
+        Account debitAccount = account(1, AccountType.EXPENSE);
+        Account creditAccount = account(2, AccountType.ASSET);
+        int credits = lineCount / 2;
+        JournalEntry entry = new JournalEntry();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount - credits; i++) {
+            JournalEntryLine line = new JournalEntryLine();
+            line.setAccount(debitAccount);
+            line.setDebitAmount(amount(random));
+            total = total.add(line.getDebitAmount());
+            entry.addLine(line);
+        }
+
+        BigDecimal share = total.divide(BigDecimal.valueOf(credits), 2, RoundingMode.DOWN);
+        for (int i = 0; i < credits; i++) {
+            JournalEntryLine line = new JournalEntryLine();
+            line.setAccount(creditAccount);
+            line.setCreditAmount(i < credits - 1 ? share : total.subtract(share.multiply(BigDecimal.valueOf(credits - 1))));
+            entry.addLine(line);
+        }
+        return entry;
+    }
+}
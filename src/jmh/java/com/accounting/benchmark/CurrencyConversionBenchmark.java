@@ -0,0 +1,77 @@
+package com.accounting.benchmark;
+
+import com.accounting.model.Currency;
+import com.accounting.service.CurrencyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CurrencyService#convert} between two foreign currencies (divide into base, multiply out) and the
+ * same-currency shortcut. Times are per conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurrencyConversionBenchmark {
+
+    private static final int AMOUNTS = 1024;
+
+    private CurrencyService currencyService;
+    private Currency euro;
+    private Currency pound;
+    private BigDecimal[] amounts;
+
+    @Setup
+    public void setUp() {
+        // convert is pure arithmetic on the two currencies, so no repository is needed
+        currencyService = new CurrencyService(null);
+        euro = currency(2L, "EUR", "1.100000");
+        pound = currency(3L, "GBP", "1.270000");
+
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        amounts = new BigDecimal[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            amounts[i] = BenchmarkData.amount(random);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void crossCurrency(Blackhole blackhole) {
+        for (BigDecimal amount : amounts) {
+            blackhole.consume(currencyService.convert(amount, euro, pound));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void sameCurrency(Blackhole blackhole) {
+        for (BigDecimal amount : amounts) {
+            blackhole.consume(currencyService.convert(amount, euro, euro));
+        }
+    }
+
+    private static Currency currency(Long id, String code, String exchangeRate) {
+        Currency currency = new Currency(code, code, code);
+        currency.setId(id);
+        currency.setExchangeRate(new BigDecimal(exchangeRate));
+        return currency;
+    }
+}
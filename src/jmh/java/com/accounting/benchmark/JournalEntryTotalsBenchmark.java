@@ -0,0 +1,51 @@
+package com.accounting.benchmark;
+
+import com.accounting.model.JournalEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JournalEntry#getTotalDebit()} and {@link JournalEntry#getTotalCredit()}, which validation, posting
+ * events and the entry views all call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalEntryTotalsBenchmark {
+
+    @Param({"2", "10", "100", "500"})
+    private int lineCount;
+
+    private JournalEntry entry;
+
+    @Setup
+    public void setUp() {
+        entry = BenchmarkData.balancedEntry(lineCount, new SplittableRandom(BenchmarkData.SEED));
+    }
+
+    @Benchmark
+    public BigDecimal totalDebit() {
+        return entry.getTotalDebit();
+    }
+
+    @Benchmark
+    public BigDecimal totalCredit() {
+        return entry.getTotalCredit();
+    }
+}
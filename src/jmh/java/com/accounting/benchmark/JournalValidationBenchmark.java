@@ -0,0 +1,50 @@
+package com.accounting.benchmark;
+
+import com.accounting.model.JournalEntry;
+import com.accounting.service.JournalService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JournalService#validateEntry} on balanced entries, from a two-line posting up to a large import line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalValidationBenchmark {
+
+    @Param({"2", "10", "100", "500"})
+    private int lineCount;
+
+    private JournalService journalService;
+    private JournalEntry entry;
+
+    @Setup
+    public void setUp() {
+        // validateEntry only looks at the entry, so none of the collaborators are needed
+        journalService = new JournalService(null, null, null, null, null, null);
+        entry = BenchmarkData.balancedEntry(lineCount, new SplittableRandom(BenchmarkData.SEED));
+        journalService.validateEntry(entry);
+    }
+
+    @Benchmark
+    public JournalEntry validateEntry() {
+        journalService.validateEntry(entry);
+        return entry;
+    }
+}
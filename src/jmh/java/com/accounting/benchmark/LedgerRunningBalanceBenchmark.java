@@ -0,0 +1,69 @@
+package com.accounting.benchmark;
+
+import com.accounting.dto.LedgerLineDTO;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.service.LedgerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running-balance accumulation over a million ledger lines, as the ledger pages and exports do it: one
+ * {@link LedgerService#applyLine} per line, with the balance stored on the line.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class LedgerRunningBalanceBenchmark {
+
+    private static final int LINES = 1_000_000;
+
+    @Param({"ASSET", "REVENUE"})
+    private AccountType accountType;
+
+    private Account account;
+    private LedgerLineDTO[] lines;
+
+    @Setup
+    public void setUp() {
+        account = BenchmarkData.account(1, accountType);
+
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        lines = new LedgerLineDTO[LINES];
+        for (int i = 0; i < LINES; i++) {
+            BigDecimal amount = BenchmarkData.amount(random);
+            boolean debit = random.nextBoolean();
+            lines[i] = new LedgerLineDTO((long) i, (long) i / 2, date.plusDays(i / 1000), "JE-" + i / 2,
+                    null, null, debit ? amount : BigDecimal.ZERO, debit ? BigDecimal.ZERO : amount);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal accumulate() {
+        BigDecimal runningBalance = BigDecimal.ZERO;
+        for (LedgerLineDTO line : lines) {
+            runningBalance = LedgerService.applyLine(account, runningBalance, line.getDebitAmount(),
+                    line.getCreditAmount());
+            line.setRunningBalance(runningBalance);
+        }
+        return runningBalance;
+    }
+}
@@ -0,0 +1,77 @@
+package com.accounting.benchmark;
+
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.model.AccountType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembling a trial balance from per-account balances: the {@link TrialBalanceDTO.TrialBalanceLineDTO}
+ * constructor that splits a balance into its debit or credit side, and {@link TrialBalanceDTO#addLine}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TrialBalanceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int accountCount;
+
+    private String[] codes;
+    private String[] names;
+    private AccountType[] types;
+    private BigDecimal[] balances;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        AccountType[] allTypes = AccountType.values();
+        codes = new String[accountCount];
+        names = new String[accountCount];
+        types = new AccountType[accountCount];
+        balances = new BigDecimal[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            codes[i] = String.valueOf(1000 + i);
+            names[i] = "Account " + i;
+            types[i] = allTypes[i % allTypes.length];
+            // roughly one account in five carries a balance against its normal side
+            BigDecimal amount = BenchmarkData.amount(random);
+            balances[i] = random.nextInt(5) == 0 ? amount.negate() : amount;
+        }
+    }
+
+    @Benchmark
+    public void lineConstructor(Blackhole blackhole) {
+        for (int i = 0; i < accountCount; i++) {
+            blackhole.consume(new TrialBalanceDTO.TrialBalanceLineDTO(
+                    (long) i, codes[i], names[i], types[i], balances[i]));
+        }
+    }
+
+    @Benchmark
+    public TrialBalanceDTO buildTrialBalance() {
+        TrialBalanceDTO trialBalance = new TrialBalanceDTO();
+        for (int i = 0; i < accountCount; i++) {
+            trialBalance.addLine(new TrialBalanceDTO.TrialBalanceLineDTO(
+                    (long) i, codes[i], names[i], types[i], balances[i]));
+        }
+        return trialBalance;
+    }
+}
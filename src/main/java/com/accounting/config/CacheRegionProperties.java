@@ -0,0 +1,45 @@
+package com.accounting.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Second-level cache regions, bound from {@code accounting.cache.*}. Regions without their own entry use the
+ * defaults, e.g. {@code accounting.cache.regions.accounts.max-entries=5000}.
+ */
+@Data
+@ConfigurationProperties(prefix = "accounting.cache")
+public class CacheRegionProperties {
+
+    /**
+     * Size and TTL of regions that are not listed under regions.
+     */
+    private Region defaults = new Region();
+
+    /**
+     * Size and TTL by region name (see CacheRegions).
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Region regionFor(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Data
+    public static class Region {
+
+        /**
+         * Entries kept on the heap before the least recently used ones are evicted.
+         */
+        private long maxEntries = 1000;
+
+        /**
+         * Time an entry lives after it was cached. Bounds how long another node's edits can go unseen.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,78 @@
+package com.accounting.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stand-in for database replication when trying the read replica locally with two H2 databases
+ * ({@code --spring.profiles.active=local-replica}). Copies the whole primary into the replica with H2's
+ * SCRIPT command on a fixed delay, so the replica lags by up to one interval like a real asynchronous replica.
+ * The copy drops everything first, so the replica is paused in {@link ReplicaHealthMonitor} and the copy waits
+ * for reads already on the replica to finish; if they outlast the drain timeout the copy is skipped this round.
+ */
+@Slf4j
+public class LocalReplicaReplicator {
+
+    private final JdbcTemplate primary;
+    private final HikariDataSource replicaDataSource;
+    private final JdbcTemplate replica;
+    private final ReplicaHealthMonitor healthMonitor;
+    private final Duration drainTimeout;
+
+    public LocalReplicaReplicator(DataSource primary, HikariDataSource replica, ReplicaHealthMonitor healthMonitor,
+                                  Duration drainTimeout) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicaDataSource = replica;
+        this.replica = new JdbcTemplate(replica);
+        this.healthMonitor = healthMonitor;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Scheduled(initialDelayString = "${accounting.datasource.replica.local-sync-interval:PT2S}",
+            fixedDelayString = "${accounting.datasource.replica.local-sync-interval:PT2S}")
+    public synchronized void replicateNow() {
+        healthMonitor.pause();
+        try {
+            if (!awaitReplicaIdle()) {
+                log.debug("Reads on the local replica still running after {}, skipping this copy", drainTimeout);
+                return;
+            }
+            List<String> script = primary.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+            replica.execute("DROP ALL OBJECTS");
+            for (String statement : script) {
+                // Skip the row-count comments, and the users that already exist on the replica
+                if (!statement.startsWith("--") && !statement.startsWith("CREATE USER")) {
+                    replica.execute(statement);
+                }
+            }
+            log.debug("Copied {} statements from the primary to the local replica", script.size());
+        } finally {
+            healthMonitor.resume();
+        }
+    }
+
+    // New read-only transactions already go to the primary; wait for those that took a replica connection before
+    private boolean awaitReplicaIdle() {
+        HikariPoolMXBean pool = replicaDataSource.getHikariPoolMXBean();
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while (pool != null && pool.getActiveConnections() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.accounting.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs loads whose results go into an in-memory cache against the primary. Read-only transactions may be
+ * served by the replica, which can still be missing a commit the cache was just evicted for; caching that
+ * result would keep the stale value until the next eviction or expiry. Without a replica the load runs as is.
+ */
+@Component
+public class PrimaryReads {
+
+    private final boolean replicaEnabled;
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate newReadWrite;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager,
+                        @Value("${accounting.datasource.replica.enabled:false}") boolean replicaEnabled) {
+        this.replicaEnabled = replicaEnabled;
+        this.readWrite = new TransactionTemplate(transactionManager);
+        // a read-only transaction cannot be joined by a read-write one, so those loads get their own
+        this.newReadWrite = new TransactionTemplate(transactionManager);
+        this.newReadWrite.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T call(Supplier<T> load) {
+        if (!replicaEnabled) {
+            return load.get();
+        }
+        TransactionTemplate template = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? newReadWrite : readWrite;
+        return template.execute(status -> load.get());
+    }
+}
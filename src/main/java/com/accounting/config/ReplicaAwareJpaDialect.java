@@ -0,0 +1,28 @@
+package com.accounting.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Read-only transactions read the second-level cache but never put into it, since they may run on the
+ * replica and load a row an admin edit on the primary has already replaced. Read-write transactions always
+ * run on the primary and fill the cache as usual.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly()) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
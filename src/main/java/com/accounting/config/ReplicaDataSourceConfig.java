@@ -0,0 +1,93 @@
+package com.accounting.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica for read-only transactions, enabled with {@code accounting.datasource.replica.enabled=true}.
+ * The primary pool keeps the {@code spring.datasource.*} settings; the replica gets its own pool from
+ * {@code accounting.datasource.replica.*}. Flyway, data.sql and all writes go to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounting.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("accounting.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${accounting.datasource.replica.url}") String url,
+                                              @Value("${accounting.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${accounting.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                                     @Qualifier("replicaDataSource") DataSource replica,
+                                                     @Value("${accounting.datasource.replica.max-lag:PT30S}") Duration maxLag,
+                                                     MeterRegistry meterRegistry) {
+        return new ReplicaHealthMonitor(primary, replica, maxLag, meterRegistry);
+    }
+
+    // Lazy proxy: the transaction managers ask for the connection before the read-only flag is exposed,
+    // so the routing decision has to wait for the first statement
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaHealthMonitor replicaHealthMonitor, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, replicaHealthMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // Set before the factory initialises, otherwise it takes the vendor adapter's dialect
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @Profile("local-replica")
+    public LocalReplicaReplicator localReplicaReplicator(@Qualifier("primaryDataSource") DataSource primary,
+                                                         @Qualifier("replicaDataSource") HikariDataSource replica,
+                                                         ReplicaHealthMonitor replicaHealthMonitor,
+                                                         @Value("${accounting.datasource.replica.local-sync-drain-timeout:PT5S}") Duration drainTimeout) {
+        return new LocalReplicaReplicator(primary, replica, replicaHealthMonitor, drainTimeout);
+    }
+}
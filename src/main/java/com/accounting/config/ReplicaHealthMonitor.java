@@ -0,0 +1,104 @@
+package com.accounting.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Decides whether read-only transactions may use the replica. Each check compares the heartbeat on the replica
+ * with the one on the primary, then writes the current time to the primary as the next beat. The replica is usable while it answers and its lag stays within max-lag; otherwise
+ * reads fall back to the primary until a later check succeeds. While {@link #pause() paused} the replica is
+ * unusable whatever the checks find.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+    private volatile boolean paused;
+    private volatile long lagMillis;
+
+    public ReplicaHealthMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+
+        Gauge.builder("accounting.datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Replication lag seen at the last check")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("accounting.datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable && !paused;
+    }
+
+    public Duration getLag() {
+        return Duration.ofMillis(lagMillis);
+    }
+
+    /** Takes the replica out of routing, e.g. while it is being rebuilt, until {@link #resume()}. */
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    /** Puts the replica back into routing if it is within max-lag now; the heartbeat is left to the next check. */
+    public synchronized void resume() {
+        paused = false;
+        replicaUsable = replicaWithinLag(System.currentTimeMillis());
+    }
+
+    // The first check waits one interval so the migrations have run; reads use the primary until then
+    @Scheduled(initialDelayString = "${accounting.datasource.replica.check-interval:PT5S}",
+            fixedDelayString = "${accounting.datasource.replica.check-interval:PT5S}")
+    public synchronized void check() {
+        long now = System.currentTimeMillis();
+        if (!paused) {
+            replicaUsable = replicaWithinLag(now);
+        }
+
+        try {
+            primary.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", now);
+        } catch (DataAccessException e) {
+            log.warn("Could not write the replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    private boolean replicaWithinLag(long now) {
+        boolean usable;
+        try {
+            long primaryBeat = readBeat(primary);
+            long replicaBeat = readBeat(replica);
+            // Caught up with the last beat written to the primary (by any node): at most one interval behind
+            lagMillis = replicaBeat >= primaryBeat ? 0 : now - replicaBeat;
+            usable = lagMillis <= maxLag.toMillis();
+            if (!usable) {
+                log.warn("Read replica is {} ms behind (max {}), reading from the primary", lagMillis, maxLag);
+            }
+        } catch (DataAccessException e) {
+            usable = false;
+            log.warn("Read replica unavailable, reading from the primary: {}", e.getMessage());
+        }
+        if (usable && !replicaUsable) {
+            log.info("Read replica is usable (lag {} ms)", lagMillis);
+        }
+        return usable;
+    }
+
+    private static long readBeat(JdbcTemplate jdbcTemplate) {
+        Long beat = jdbcTemplate.queryForObject("SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class);
+        return beat != null ? beat : 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.accounting.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica while {@link ReplicaHealthMonitor} reports it
+ * usable, and everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy: the
+ * read-only flag of a transaction is only set after the transaction manager asked for its connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaHealthMonitor healthMonitor;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor healthMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.healthMonitor = healthMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        primaryConnections = routedCounter(meterRegistry, PRIMARY);
+        replicaConnections = routedCounter(meterRegistry, REPLICA);
+        fallbacks = Counter.builder("accounting.datasource.replica.fallbacks")
+                .description("Read-only transactions sent to the primary because the replica was unavailable or lagging")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (healthMonitor.isReplicaUsable()) {
+                replicaConnections.increment();
+                return REPLICA;
+            }
+            fallbacks.increment();
+        }
+        primaryConnections.increment();
+        return PRIMARY;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("accounting.datasource.connections.routed")
+                .description("Transactions served by the primary or the read replica")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
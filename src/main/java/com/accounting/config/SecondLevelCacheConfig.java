@@ -0,0 +1,85 @@
+package com.accounting.config;
+
+import com.accounting.model.CacheRegions;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for the reference entities (accounts, currencies, roles, fiscal years,
+ * customers) and their lookup queries, held on the heap by Ehcache through JCache. Set
+ * {@code accounting.cache.enabled=false} to turn it off.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounting.cache", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(CacheRegionProperties.class)
+public class SecondLevelCacheConfig {
+
+    /**
+     * One entry per table, so this never evicts. Timestamps must outlive the query results they validate.
+     */
+    static final long UPDATE_TIMESTAMPS_MAX_ENTRIES = 1000;
+
+    // A cache manager of its own per application context: test contexts on different databases share the JVM
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(CacheRegionProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        ClassLoader classLoader = getClass().getClassLoader();
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:accounting:second-level-cache:" + UUID.randomUUID()), new DefaultConfiguration(classLoader));
+
+        for (String region : CacheRegions.ALL) {
+            CacheRegionProperties.Region settings = properties.regionFor(region);
+            cacheManager.createCache(region, cacheConfiguration(settings.getMaxEntries(), settings.getTtl()));
+        }
+        CacheRegionProperties.Region defaults = properties.getDefaults();
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                cacheConfiguration(defaults.getMaxEntries(), defaults.getTtl()));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                cacheConfiguration(UPDATE_TIMESTAMPS_MAX_ENTRIES, null));
+        return cacheManager;
+    }
+
+    // Region statistics feed the hit ratio metrics; putIfAbsent keeps what spring.jpa.properties.* sets
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static javax.cache.configuration.Configuration<Object, Object> cacheConfiguration(long maxEntries,
+                                                                                             Duration ttl) {
+        CacheConfigurationBuilder<Object, Object> builder = CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries));
+        if (ttl != null) {
+            builder = builder.withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl));
+        }
+        CacheConfiguration<Object, Object> configuration = builder.build();
+        return Eh107Configuration.fromEhcacheCacheConfiguration(configuration);
+    }
+}
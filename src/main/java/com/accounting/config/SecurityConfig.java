@@ -3,6 +3,8 @@ package com.accounting.config;
 import com.accounting.service.UserService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -44,6 +46,28 @@ public class SecurityConfig {
         return authProvider;
     }
 
+    /**
+     * Actuator endpoints also accept HTTP Basic so that Prometheus can authenticate. Scrapers get a user with
+     * the METRICS role, which can read /actuator/prometheus here; the main chain only lets the business roles
+     * in, so the same credentials cannot read or change the books.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http, UserService userService) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .authenticationProvider(authenticationProvider(userService))
+            .csrf(csrf -> csrf.disable())
+            .authorizeHttpRequests(authz -> authz
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
+                .anyRequest().hasRole("ADMIN")
+            )
+            .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http, UserService userService) throws Exception {
         http
@@ -57,12 +81,12 @@ public class SecurityConfig {
                 .requestMatchers("/api/login", "/login", "/error", "/api/auth/**").permitAll()
                 .requestMatchers("/users/register").permitAll()
                 .requestMatchers("/admin/**", "/users/**").hasRole("ADMIN")
-                .requestMatchers("/journal/post/**", "/journal/void/**").hasAnyRole("ADMIN", "ACCOUNTANT")
+                .requestMatchers("/journal/post/**", "/journal/void/**", "/journal/bulk").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/journal/new", "/journal/edit/**").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/accounts/new", "/accounts/edit/**", "/accounts/delete/**").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/invoices/new", "/invoices/edit/**").hasAnyRole("ADMIN", "ACCOUNTANT")
                 .requestMatchers("/bank/**").hasAnyRole("ADMIN", "ACCOUNTANT")
-                .anyRequest().authenticated()
+                .anyRequest().hasAnyRole("ADMIN", "ACCOUNTANT", "VIEWER")
             )
             .formLogin(form -> form
                 .loginProcessingUrl("/api/login")
@@ -0,0 +1,74 @@
+package com.accounting.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records the SQL run by each request, reports it in a Server-Timing header and logs a warning when the
+ * endpoint goes over its statement budget or repeats one statement often enough to look like an N+1 load.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.start();
+        try {
+            // The header has to go out before the body commits the response, so it is added at that point
+            chain.doFilter(request, properties.isServerTiming() ? new ServerTimingResponse(response, stats) : response);
+        } finally {
+            SqlRequestStats.stop();
+            request.setAttribute(SqlRequestStats.REQUEST_ATTRIBUTE, stats);
+            if (properties.isServerTiming() && !response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, stats.toServerTiming());
+            }
+            checkBudget(request, stats);
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, SqlRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : request.getRequestURI();
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.getStatements() > budget) {
+            log.warn("{} {} ran {} SQL statements in {} ms, over its budget of {}", request.getMethod(), endpoint,
+                    stats.getStatements(), String.format("%.1f", stats.getExecutionMillis()), budget);
+        }
+
+        Map<String, Integer> repeated = stats.getRepeatedStatements(properties.getRepeatThreshold());
+        repeated.forEach((sql, count) -> log.warn("{} {} ran the same statement {} times, possible N+1: {}",
+                request.getMethod(), endpoint, count, sql));
+    }
+
+    private static class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlRequestStats stats;
+
+        ServerTimingResponse(HttpServletResponse response, SqlRequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(SERVER_TIMING, stats.toServerTiming());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.accounting.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-request SQL budgets, bound from {@code accounting.sql.*}. Endpoint budgets are keyed by the matched
+ * handler pattern, e.g. {@code accounting.sql.budgets.[/invoices/{id}]=5}.
+ */
+@Data
+@ConfigurationProperties(prefix = "accounting.sql")
+public class SqlBudgetProperties {
+
+    /**
+     * Add a Server-Timing header with the statement count and SQL time to every response.
+     */
+    private boolean serverTiming = true;
+
+    /**
+     * Statements allowed per request for endpoints without their own budget.
+     */
+    private int defaultBudget = 50;
+
+    /**
+     * Statements allowed per request, by handler pattern.
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    /**
+     * Warn about a possible N+1 load when one statement runs this many times in a request.
+     */
+    private int repeatThreshold = 10;
+
+    public int budgetFor(String pattern) {
+        return budgets.getOrDefault(pattern, defaultBudget);
+    }
+}
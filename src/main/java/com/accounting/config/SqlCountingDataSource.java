@@ -0,0 +1,97 @@
+package com.accounting.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the application DataSource so {@link SqlRequestStats} sees every statement, including the ones run
+ * through JdbcTemplate that Hibernate never prepares. A prepared or callable statement counts once when it
+ * is prepared, however often it is executed or batched; a plain statement counts each SQL string passed to
+ * execute or addBatch.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (isIdentityMethod(name)) {
+                        return identity(proxy, name, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (name.equals("prepareStatement") || name.equals("prepareCall")) {
+                        SqlRequestStats.recordStatement((String) args[0]);
+                        return countingStatement(result, name.equals("prepareCall")
+                                ? CallableStatement.class : PreparedStatement.class, false);
+                    }
+                    if (name.equals("createStatement")) {
+                        return countingStatement(result, Statement.class, true);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object countingStatement(Object statement, Class<?> type, boolean countSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (isIdentityMethod(name)) {
+                return identity(proxy, name, args);
+            }
+            if (countSql && args != null && args.length > 0 && args[0] instanceof String sql
+                    && (name.startsWith("execute") || name.equals("addBatch"))) {
+                SqlRequestStats.recordStatement(sql);
+            }
+            if (!name.startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long startedAt = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                SqlRequestStats.recordExecution(System.nanoTime() - startedAt);
+            }
+        };
+        return Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static boolean isIdentityMethod(String name) {
+        return name.equals("equals") || name.equals("hashCode");
+    }
+
+    // Compared by proxy identity: DataSourceUtils checks the held connection against the one it was handed back
+    private static Object identity(Object proxy, String name, Object[] args) {
+        return name.equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.accounting.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counts and timings. Set {@code accounting.sql.enabled=false} to turn it off.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounting.sql", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlMonitoringConfig {
+
+    // Only the application DataSource bean is wrapped; with a replica it routes to the primary and replica
+    // pools, so wrapping those as well would count every statement twice
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Runs ahead of the security filters so queries made while authenticating are counted too
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(new SqlBudgetFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,85 @@
+package com.accounting.config;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQL statements and JDBC execution time of the HTTP request on the current thread. {@link SqlBudgetFilter}
+ * starts and stops the recording; {@link SqlCountingDataSource} counts every statement prepared or executed
+ * through the application DataSource, whether it comes from Hibernate or a JdbcTemplate, and adds up the time
+ * spent executing them. Work done on other threads (async exports, scheduled jobs, the replica heartbeat) is
+ * not recorded.
+ */
+public class SqlRequestStats {
+
+    /**
+     * Request attribute holding the stats of a finished request, e.g. for query-count assertions in tests.
+     */
+    public static final String REQUEST_ATTRIBUTE = SqlRequestStats.class.getName();
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long executionNanos;
+
+    public static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public double getExecutionMillis() {
+        return executionNanos / 1_000_000.0;
+    }
+
+    /**
+     * Statements prepared at least {@code minCount} times, most frequent first. The same SQL repeated many
+     * times in one request is the usual sign of an N+1 load.
+     */
+    public Map<String, Integer> getRepeatedStatements(int minCount) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minCount)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * Value for the Server-Timing response header, e.g. {@code sql;desc="12 statements";dur=3.42}.
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "sql;desc=\"%d statements\";dur=%.2f",
+                statements, getExecutionMillis());
+    }
+
+    /**
+     * Called by {@link SqlCountingDataSource} for every statement prepared or executed on this thread.
+     */
+    static void recordStatement(String sql) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordExecution(long nanos) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.executionNanos += nanos;
+        }
+    }
+}
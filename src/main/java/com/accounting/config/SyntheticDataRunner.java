@@ -0,0 +1,62 @@
+package com.accounting.config;
+
+import com.accounting.dto.SyntheticDataSpecDTO;
+import com.accounting.service.SyntheticDataGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates synthetic data on startup when the "datagen" profile is active, e.g.
+ * {@code --spring.profiles.active=datagen --accounting.datagen.journal-entries=2500000} for 10M lines.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator syntheticDataGenerator;
+
+    @Value("${accounting.datagen.seed:42}")
+    private long seed = 42;
+
+    @Value("${accounting.datagen.start-year:2020}")
+    private int startYear = 2020;
+
+    @Value("${accounting.datagen.fiscal-years:5}")
+    private int fiscalYears = 5;
+
+    @Value("${accounting.datagen.customers:1000}")
+    private int customers = 1_000;
+
+    @Value("${accounting.datagen.journal-entries:100000}")
+    private int journalEntries = 100_000;
+
+    @Value("${accounting.datagen.lines-per-entry:4}")
+    private int linesPerEntry = 4;
+
+    @Value("${accounting.datagen.invoices:20000}")
+    private int invoices = 20_000;
+
+    @Value("${accounting.datagen.items-per-invoice:3}")
+    private int itemsPerInvoice = 3;
+
+    @Value("${accounting.datagen.bank-accounts:3}")
+    private int bankAccounts = 3;
+
+    @Value("${accounting.datagen.statements-per-bank-account:10000}")
+    private int statementsPerBankAccount = 10_000;
+
+    @Value("${accounting.datagen.batch-size:1000}")
+    private int batchSize = 1_000;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticDataGenerator.generate(new SyntheticDataSpecDTO(seed, startYear, fiscalYears, customers,
+                journalEntries, linesPerEntry, invoices, itemsPerInvoice, bankAccounts, statementsPerBankAccount,
+                batchSize));
+    }
+}
@@ -1,5 +1,6 @@
 package com.accounting.controller;
 
+import com.accounting.dto.AccountSummaryDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
 import com.accounting.service.AccountService;
@@ -28,6 +29,7 @@ public class AccountController {
     public ResponseEntity<List<Map<String, Object>>> listAccounts() {
         log.info("Fetching all active accounts with balances");
         List<Account> accounts = accountService.findAllActive();
+        Map<Long, BigDecimal> balances = accountService.getBalances(accounts);
         List<Map<String, Object>> result = accounts.stream().map(account -> {
             Map<String, Object> map = new HashMap<>();
             map.put("id", account.getId());
@@ -35,16 +37,16 @@ public class AccountController {
             map.put("name", account.getName());
             map.put("type", account.getAccountType());
             map.put("description", account.getDescription());
-            map.put("balance", accountService.getBalance(account.getId()));
+            map.put("balance", balances.get(account.getId()));
             return map;
         }).collect(Collectors.toList());
         return ResponseEntity.ok(result);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<Account>> listAllAccounts() {
+    public ResponseEntity<List<AccountSummaryDTO>> listAllAccounts() {
         log.info("Fetching all accounts (active and inactive)");
-        return ResponseEntity.ok(accountService.findAll());
+        return ResponseEntity.ok(accountService.findAllSummaries());
     }
 
     // For form data (types, currencies, parents), we can have a separate endpoint or fetch them individually
@@ -79,7 +81,7 @@ public class AccountController {
         log.debug("Fetching balance for account ID: {}", id);
         Account account = accountService.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Account not found: " + id));
-        BigDecimal balance = accountService.getBalance(id);
+        BigDecimal balance = accountService.getBalance(account);
         return ResponseEntity.ok(Map.of("account", account, "balance", balance));
     }
 
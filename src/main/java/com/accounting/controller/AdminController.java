@@ -0,0 +1,97 @@
+package com.accounting.controller;
+
+import com.accounting.dto.BalanceCacheStatsDTO;
+import com.accounting.dto.BalanceCacheVerificationDTO;
+import com.accounting.dto.BankBalanceVerificationDTO;
+import com.accounting.dto.CacheRegionStatsDTO;
+import com.accounting.dto.PeriodBalanceVerificationDTO;
+import com.accounting.service.BalanceCache;
+import com.accounting.service.BankReconciliationService;
+import com.accounting.service.OverdueInvoiceJob;
+import com.accounting.service.PeriodBalanceService;
+import com.accounting.service.ReferenceDataCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+
+    private final PeriodBalanceService periodBalanceService;
+    private final BalanceCache balanceCache;
+    private final OverdueInvoiceJob overdueInvoiceJob;
+    private final BankReconciliationService bankReconciliationService;
+    private final ReferenceDataCache referenceDataCache;
+
+    @PostMapping("/period-balances/rebuild")
+    public ResponseEntity<PeriodBalanceVerificationDTO> rebuildPeriodBalances() {
+        log.info("Request to rebuild account period balances");
+        return ResponseEntity.ok(periodBalanceService.rebuild());
+    }
+
+    @GetMapping("/period-balances/verify")
+    public ResponseEntity<PeriodBalanceVerificationDTO> verifyPeriodBalances() {
+        log.debug("Verifying account period balances against journal entry lines");
+        return ResponseEntity.ok(periodBalanceService.verify());
+    }
+
+    @GetMapping("/balance-cache")
+    public ResponseEntity<BalanceCacheStatsDTO> balanceCacheStats() {
+        return ResponseEntity.ok(balanceCache.getStats());
+    }
+
+    @GetMapping("/balance-cache/verify")
+    public ResponseEntity<BalanceCacheVerificationDTO> verifyBalanceCache() {
+        log.debug("Verifying balance cache against journal entry lines");
+        return ResponseEntity.ok(balanceCache.verify());
+    }
+
+    @PostMapping("/balance-cache/reload")
+    public ResponseEntity<BalanceCacheStatsDTO> reloadBalanceCache() {
+        log.info("Request to reload balance cache");
+        balanceCache.reload();
+        return ResponseEntity.ok(balanceCache.getStats());
+    }
+
+    @GetMapping("/reference-cache")
+    public ResponseEntity<List<CacheRegionStatsDTO>> referenceCacheStats() {
+        return ResponseEntity.ok(referenceDataCache.getStats());
+    }
+
+    @PostMapping("/reference-cache/evict")
+    public ResponseEntity<List<CacheRegionStatsDTO>> evictReferenceCache() {
+        log.info("Request to evict the reference data cache");
+        referenceDataCache.evictAll();
+        return ResponseEntity.ok(referenceDataCache.getStats());
+    }
+
+    @GetMapping("/bank-balances/verify")
+    public ResponseEntity<BankBalanceVerificationDTO> verifyBankBalances() {
+        log.debug("Verifying bank account balances against reconciled statements");
+        return ResponseEntity.ok(bankReconciliationService.verifyCurrentBalances(false));
+    }
+
+    @PostMapping("/bank-balances/rebuild")
+    public ResponseEntity<BankBalanceVerificationDTO> rebuildBankBalances() {
+        log.info("Request to rebuild bank account balances");
+        return ResponseEntity.ok(bankReconciliationService.verifyCurrentBalances(true));
+    }
+
+    @PostMapping("/invoices/overdue-sweep")
+    public ResponseEntity<Map<String, Object>> sweepOverdueInvoices() {
+        log.info("Request to run the overdue invoice sweep");
+        int updated = overdueInvoiceJob.runNow();
+        if (updated < 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", "Overdue invoice sweep is already running"));
+        }
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+}
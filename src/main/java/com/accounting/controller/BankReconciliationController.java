@@ -1,15 +1,28 @@
 package com.accounting.controller;
 
+import com.accounting.dto.AutoReconcileResultDTO;
+import com.accounting.dto.BankAccountSummaryDTO;
+import com.accounting.dto.ReconciliationBatchResultDTO;
+import com.accounting.dto.ReconciliationSummaryDTO;
+import com.accounting.dto.StatementMatchDTO;
+import com.accounting.dto.StatementImportResultDTO;
 import com.accounting.model.BankAccount;
 import com.accounting.model.BankStatement;
 import com.accounting.service.AccountService;
 import com.accounting.service.BankReconciliationService;
 import com.accounting.service.CurrencyService;
+import com.accounting.service.ReconciliationSummaryService;
+import com.accounting.service.StatementImportService;
+import com.accounting.service.statement.StatementFormat;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -22,11 +35,12 @@ public class BankReconciliationController {
     private final BankReconciliationService bankReconciliationService;
     private final AccountService accountService;
     private final CurrencyService currencyService;
+    private final StatementImportService statementImportService;
+    private final ReconciliationSummaryService reconciliationSummaryService;
 
     @GetMapping("/accounts")
-    public ResponseEntity<List<BankAccount>> listBankAccounts() {
-        List<BankAccount> accounts = bankReconciliationService.findAllBankAccounts();
-        return ResponseEntity.ok(accounts);
+    public ResponseEntity<List<BankAccountSummaryDTO>> listBankAccounts() {
+        return ResponseEntity.ok(bankReconciliationService.findBankAccountSummaries());
     }
 
     @GetMapping("/accounts/form-data")
@@ -54,6 +68,12 @@ public class BankReconciliationController {
         return ResponseEntity.ok(bankReconciliationService.findActiveBankAccounts());
     }
 
+    @GetMapping("/reconciliation/summary")
+    public ResponseEntity<List<ReconciliationSummaryDTO>> reconciliationSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        return ResponseEntity.ok(reconciliationSummaryService.getSummaries(asOfDate));
+    }
+
     @GetMapping("/reconciliation/{bankAccountId}")
     public ResponseEntity<Map<String, Object>> reconcile(@PathVariable Long bankAccountId,
                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -89,12 +109,27 @@ public class BankReconciliationController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/reconciliation/match-batch")
+    public ResponseEntity<ReconciliationBatchResultDTO> matchStatements(@RequestBody List<StatementMatchDTO> matches) {
+        return ResponseEntity.ok(bankReconciliationService.reconcileStatements(matches));
+    }
+
+    @PostMapping("/reconciliation/unmatch-batch")
+    public ResponseEntity<ReconciliationBatchResultDTO> unmatchStatements(@RequestBody List<Long> statementIds) {
+        return ResponseEntity.ok(bankReconciliationService.unreconcileStatements(statementIds));
+    }
+
     @PostMapping("/reconciliation/unmatch/{statementId}")
     public ResponseEntity<Void> unmatchStatement(@PathVariable Long statementId) {
         bankReconciliationService.unreconcileStatement(statementId);
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/reconciliation/auto/{bankAccountId}")
+    public ResponseEntity<AutoReconcileResultDTO> autoReconcile(@PathVariable Long bankAccountId) {
+        return ResponseEntity.ok(bankReconciliationService.autoReconcile(bankAccountId));
+    }
+
     @PostMapping("/statements/import/{bankAccountId}")
     public ResponseEntity<Void> importStatements(@PathVariable Long bankAccountId,
                                    @RequestBody BankStatement statement) {
@@ -106,4 +141,17 @@ public class BankReconciliationController {
 
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/statements/upload/{bankAccountId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementImportResultDTO> uploadStatementFile(@PathVariable Long bankAccountId,
+                                   @RequestParam("file") MultipartFile file,
+                                   @RequestParam(required = false) StatementFormat format,
+                                   @RequestParam(required = false) String dateFormat) throws IOException {
+        StatementFormat statementFormat = format != null ? format : StatementFormat.fromFilename(file.getOriginalFilename());
+        try (InputStream inputStream = file.getInputStream()) {
+            StatementImportResultDTO result = statementImportService.importFile(
+                    bankAccountId, statementFormat, inputStream, dateFormat);
+            return ResponseEntity.ok(result);
+        }
+    }
+}
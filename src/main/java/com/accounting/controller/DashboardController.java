@@ -1,7 +1,7 @@
 package com.accounting.controller;
 
 import com.accounting.dto.DashboardDTO;
-import com.accounting.service.ReportService;
+import com.accounting.service.DashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +11,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final ReportService reportService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
     @GetMapping({"/dashboard", "/api/dashboard"})
     public ResponseEntity<DashboardDTO> dashboard() {
-        DashboardDTO dashboard = reportService.generateDashboard();
+        DashboardDTO dashboard = dashboardSnapshotService.getSnapshot();
         return ResponseEntity.ok(dashboard);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.accounting.controller;
 
+import com.accounting.dto.InvoiceSummaryDTO;
 import com.accounting.model.Customer;
 import com.accounting.model.Invoice;
 import com.accounting.model.InvoiceItem;
@@ -26,14 +27,9 @@ public class InvoiceController {
     private final CurrencyService currencyService;
 
     @GetMapping
-    public ResponseEntity<List<Invoice>> listInvoices(@RequestParam(required = false) String status) {
-        List<Invoice> invoices;
-        if (status != null && !status.isEmpty()) {
-            invoices = invoiceService.findByStatus(InvoiceStatus.valueOf(status));
-        } else {
-            invoices = invoiceService.findAll();
-        }
-        return ResponseEntity.ok(invoices);
+    public ResponseEntity<List<InvoiceSummaryDTO>> listInvoices(@RequestParam(required = false) String status) {
+        InvoiceStatus filter = status != null && !status.isEmpty() ? InvoiceStatus.valueOf(status) : null;
+        return ResponseEntity.ok(invoiceService.findSummaries(filter));
     }
 
     @GetMapping("/form-data")
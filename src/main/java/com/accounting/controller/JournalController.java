@@ -1,6 +1,9 @@
 package com.accounting.controller;
 
 import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.JournalEntrySliceDTO;
+import com.accounting.dto.JournalEntrySummaryDTO;
+import com.accounting.dto.JournalImportResultDTO;
 import com.accounting.model.Account;
 import com.accounting.model.EntryStatus;
 import com.accounting.model.JournalEntry;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,13 +32,23 @@ public class JournalController {
     private final AccountService accountService;
 
     @GetMapping
-    public ResponseEntity<Page<JournalEntry>> listEntries(@RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<Page<JournalEntrySummaryDTO>> listEntries(@RequestParam(defaultValue = "0") int page,
                               @RequestParam(defaultValue = "20") int size) {
-        Page<JournalEntry> entries = journalService.findAll(
+        Page<JournalEntrySummaryDTO> entries = journalService.findSummaries(
                 PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "entryDate", "entryNumber")));
         return ResponseEntity.ok(entries);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<JournalEntrySliceDTO> listEntriesSlice(@RequestParam(required = false) String cursor,
+                              @RequestParam(defaultValue = "20") int size,
+                              @RequestParam(required = false) EntryStatus status,
+                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        JournalEntrySliceDTO slice = journalService.findSlice(status, startDate, endDate, cursor, size);
+        return ResponseEntity.ok(slice);
+    }
+
     @GetMapping("/form-data")
     public ResponseEntity<Map<String, Object>> getFormData() {
         return ResponseEntity.ok(Map.of(
@@ -55,6 +69,14 @@ public class JournalController {
         return ResponseEntity.ok(entry);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<JournalImportResultDTO> importEntries(@RequestBody List<JournalEntryDTO> dtos,
+                            @RequestParam(defaultValue = "false") boolean post,
+                            @AuthenticationPrincipal User user) {
+        JournalImportResultDTO result = journalService.importBatch(dtos, post, user);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<JournalEntryDTO> getEntry(@PathVariable Long id) {
         JournalEntry entry = journalService.findByIdWithLines(id)
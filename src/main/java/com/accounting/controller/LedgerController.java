@@ -1,14 +1,22 @@
 package com.accounting.controller;
 
 import com.accounting.dto.LedgerDTO;
+import com.accounting.dto.LedgerPageDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Account;
 import com.accounting.service.AccountService;
 import com.accounting.service.LedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -38,4 +46,54 @@ public class LedgerController {
         LedgerDTO ledger = ledgerService.generateLedger(accountId, startDate, endDate);
         return ResponseEntity.ok(ledger);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/page/{accountId}")
+    public ResponseEntity<LedgerPageDTO> viewLedgerPage(@PathVariable Long accountId,
+                             @RequestParam(required = false) String cursor,
+                             @RequestParam(defaultValue = "" + LedgerService.DEFAULT_PAGE_SIZE) int size,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (startDate == null) {
+            startDate = LocalDate.now().withDayOfYear(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+
+        LedgerPageDTO page = ledgerService.generateLedgerPage(accountId, startDate, endDate, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/export/{accountId}")
+    public ResponseEntity<StreamingResponseBody> exportLedger(@PathVariable Long accountId,
+                             @RequestParam(defaultValue = "csv") String format,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (startDate == null) {
+            startDate = LocalDate.now().withDayOfYear(1);
+        }
+        if (endDate == null) {
+            endDate = LocalDate.now();
+        }
+
+        LedgerService.ExportFormat exportFormat;
+        try {
+            exportFormat = LedgerService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new AccountingException("Unsupported export format: " + format);
+        }
+        Account account = accountService.findById(accountId)
+                .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
+
+        LocalDate from = startDate;
+        LocalDate to = endDate;
+        StreamingResponseBody body = outputStream ->
+                ledgerService.exportLedger(account, from, to, exportFormat, outputStream);
+
+        String filename = "ledger-" + account.getCode() + "-" + from + "-" + to + "." + format.toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.accounting.controller;
 
 import com.accounting.dto.UserRegistrationDto;
+import com.accounting.dto.UserSummaryDTO;
 import com.accounting.model.User;
 import com.accounting.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +20,8 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping
-    public ResponseEntity<List<User>> listUsers() {
-        return ResponseEntity.ok(userService.findAll());
+    public ResponseEntity<List<UserSummaryDTO>> listUsers() {
+        return ResponseEntity.ok(userService.findAllSummaries());
     }
 
     @GetMapping("/roles")
@@ -0,0 +1,23 @@
+package com.accounting.dto;
+
+import com.accounting.model.AccountType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Row of the chart of accounts, with the parent account code and currency code joined in.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryDTO {
+    private Long id;
+    private String code;
+    private String name;
+    private AccountType accountType;
+    private String description;
+    private Boolean isActive;
+    private String parentCode;
+    private String currencyCode;
+}
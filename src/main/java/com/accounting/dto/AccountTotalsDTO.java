@@ -0,0 +1,25 @@
+package com.accounting.dto;
+
+import com.accounting.model.AccountType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTotalsDTO {
+    private Long accountId;
+    private BigDecimal totalDebit = BigDecimal.ZERO;
+    private BigDecimal totalCredit = BigDecimal.ZERO;
+
+    public BigDecimal getBalance(AccountType accountType) {
+        if (accountType.isDebitNormal()) {
+            return totalDebit.subtract(totalCredit);
+        } else {
+            return totalCredit.subtract(totalDebit);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoReconcileResultDTO {
+    private Long bankAccountId;
+    private int statementsConsidered;
+    private int candidateLines;
+    private int matched;
+    private int unmatched;
+    private long elapsedMillis;
+    private List<MatchDTO> matches = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MatchDTO {
+        private Long statementId;
+        private Long journalLineId;
+        private long dayDifference;
+    }
+}
@@ -0,0 +1,22 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceCacheStatsDTO {
+    private int entries;
+    private long hits;
+    private long misses;
+    private LocalDateTime loadedAt;
+
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,36 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceCacheVerificationDTO {
+    private int accountsChecked;
+    private List<MismatchDTO> mismatches = new ArrayList<>();
+
+    public void addMismatch(MismatchDTO mismatch) {
+        mismatches.add(mismatch);
+    }
+
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MismatchDTO {
+        private Long accountId;
+        private BigDecimal cachedDebit;
+        private BigDecimal cachedCredit;
+        private BigDecimal actualDebit;
+        private BigDecimal actualCredit;
+    }
+}
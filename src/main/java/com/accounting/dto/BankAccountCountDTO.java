@@ -0,0 +1,13 @@
+package com.accounting.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankAccountCountDTO {
+    private Long bankAccountId;
+    private Long count;
+}
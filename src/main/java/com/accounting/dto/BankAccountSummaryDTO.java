@@ -0,0 +1,25 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of the bank account list, with the linked GL account code and currency code joined in.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankAccountSummaryDTO {
+    private Long id;
+    private String accountName;
+    private String bankName;
+    private String accountNumber;
+    private String currencyCode;
+    private Long glAccountId;
+    private String glAccountCode;
+    private BigDecimal currentBalance;
+    private Boolean isActive;
+}
@@ -0,0 +1,34 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankBalanceVerificationDTO {
+    private int accountsChecked;
+    private List<MismatchDTO> mismatches = new ArrayList<>();
+
+    public void addMismatch(MismatchDTO mismatch) {
+        mismatches.add(mismatch);
+    }
+
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MismatchDTO {
+        private Long bankAccountId;
+        private BigDecimal currentBalance;
+        private BigDecimal expectedBalance;
+    }
+}
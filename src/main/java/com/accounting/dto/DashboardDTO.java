@@ -5,6 +5,7 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,4 +26,6 @@ public class DashboardDTO {
     private Long overdueInvoices = 0L;
     private BigDecimal overdueAmount = BigDecimal.ZERO;
     private List<RecentTransactionDTO> recentTransactions = new ArrayList<>();
+    private LocalDateTime generatedAt;
+    private Long maxStalenessSeconds;
 }
\ No newline at end of file
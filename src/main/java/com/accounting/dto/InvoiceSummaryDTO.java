@@ -0,0 +1,26 @@
+package com.accounting.dto;
+
+import com.accounting.model.InvoiceStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Row of the invoice list, selected with the customer name in one query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceSummaryDTO {
+    private Long id;
+    private String invoiceNumber;
+    private LocalDate invoiceDate;
+    private LocalDate dueDate;
+    private Long customerId;
+    private String customerName;
+    private InvoiceStatus status;
+    private BigDecimal totalAmount;
+}
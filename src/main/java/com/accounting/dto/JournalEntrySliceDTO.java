@@ -0,0 +1,18 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalEntrySliceDTO {
+    private List<JournalEntrySummaryDTO> content = new ArrayList<>();
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
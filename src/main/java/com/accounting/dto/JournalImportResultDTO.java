@@ -0,0 +1,47 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalImportResultDTO {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<EntryResultDTO> results = new ArrayList<>();
+
+    public void addResult(EntryResultDTO result) {
+        results.add(result);
+        if (result.isSuccess()) {
+            succeeded++;
+        } else {
+            failed++;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EntryResultDTO {
+        private int index;
+        private String reference;
+        private Long entryId;
+        private String entryNumber;
+        private boolean success;
+        private String error;
+
+        public static EntryResultDTO success(int index, String reference, Long entryId, String entryNumber) {
+            return new EntryResultDTO(index, reference, entryId, entryNumber, true, null);
+        }
+
+        public static EntryResultDTO failure(int index, String reference, String error) {
+            return new EntryResultDTO(index, reference, null, null, false, error);
+        }
+    }
+}
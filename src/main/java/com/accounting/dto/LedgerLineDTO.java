@@ -0,0 +1,33 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+public class LedgerLineDTO {
+    private Long lineId;
+    private Long journalEntryId;
+    private LocalDate entryDate;
+    private String entryNumber;
+    private String description;
+    private String reference;
+    private BigDecimal debitAmount = BigDecimal.ZERO;
+    private BigDecimal creditAmount = BigDecimal.ZERO;
+    private BigDecimal runningBalance;
+
+    public LedgerLineDTO(Long lineId, Long journalEntryId, LocalDate entryDate, String entryNumber,
+                         String description, String reference, BigDecimal debitAmount, BigDecimal creditAmount) {
+        this.lineId = lineId;
+        this.journalEntryId = journalEntryId;
+        this.entryDate = entryDate;
+        this.entryNumber = entryNumber;
+        this.description = description;
+        this.reference = reference;
+        this.debitAmount = debitAmount != null ? debitAmount : BigDecimal.ZERO;
+        this.creditAmount = creditAmount != null ? creditAmount : BigDecimal.ZERO;
+    }
+}
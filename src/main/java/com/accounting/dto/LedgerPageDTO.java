@@ -0,0 +1,27 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerPageDTO {
+    private Long accountId;
+    private String accountCode;
+    private String accountName;
+    private String accountType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal openingBalance = BigDecimal.ZERO;
+    private BigDecimal closingBalance = BigDecimal.ZERO;
+    private List<LedgerLineDTO> entries = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasMore;
+}
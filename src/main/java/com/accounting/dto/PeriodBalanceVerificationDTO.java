@@ -0,0 +1,38 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodBalanceVerificationDTO {
+    private int periodsChecked;
+    private List<MismatchDTO> mismatches = new ArrayList<>();
+
+    public void addMismatch(MismatchDTO mismatch) {
+        mismatches.add(mismatch);
+    }
+
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MismatchDTO {
+        private Long accountId;
+        private LocalDate periodStart;
+        private BigDecimal expectedDebit;
+        private BigDecimal expectedCredit;
+        private BigDecimal rollupDebit;
+        private BigDecimal rollupCredit;
+    }
+}
@@ -0,0 +1,23 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodTotalsDTO {
+    private Long accountId;
+    private LocalDate periodStart;
+    private BigDecimal totalDebit = BigDecimal.ZERO;
+    private BigDecimal totalCredit = BigDecimal.ZERO;
+
+    public PeriodTotalsDTO(Long accountId, Integer year, Integer month,
+                           BigDecimal totalDebit, BigDecimal totalCredit) {
+        this(accountId, LocalDate.of(year, month, 1), totalDebit, totalCredit);
+    }
+}
@@ -0,0 +1,17 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationBatchResultDTO {
+    private int statementsUpdated;
+    private List<Long> bankAccountIds = new ArrayList<>();
+    private long elapsedMillis;
+}
@@ -0,0 +1,29 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One side of a reconciliation match: a bank statement line or a posted journal line on the linked GL account.
+ * The amount is signed from the bank's point of view, so money in is positive on both sides.
+ */
+@Data
+@NoArgsConstructor
+public class ReconciliationCandidateDTO {
+    private Long id;
+    private LocalDate date;
+    private BigDecimal amount = BigDecimal.ZERO;
+    private String reference;
+    private String description;
+
+    public ReconciliationCandidateDTO(Long id, LocalDate date, BigDecimal amount, String reference, String description) {
+        this.id = id;
+        this.date = date;
+        this.amount = amount != null ? amount : BigDecimal.ZERO;
+        this.reference = reference;
+        this.description = description;
+    }
+}
@@ -0,0 +1,22 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationSummaryDTO {
+    private Long bankAccountId;
+    private String accountName;
+    private String bankName;
+    private Long glAccountId;
+    private LocalDate asOfDate;
+    private BigDecimal reconciledBalance = BigDecimal.ZERO;
+    private BigDecimal glBalance;
+    private BigDecimal difference;
+}
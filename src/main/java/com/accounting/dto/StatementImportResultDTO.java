@@ -0,0 +1,39 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementImportResultDTO {
+    public static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private String format;
+    private long rowsRead;
+    private long imported;
+    private long duplicatesSkipped;
+    private long rejected;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RejectedRowDTO> rejectedRows = new ArrayList<>();
+
+    public void addRejection(long rowNumber, String reason) {
+        rejected++;
+        if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+            rejectedRows.add(new RejectedRowDTO(rowNumber, reason));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRowDTO {
+        private long rowNumber;
+        private String reason;
+    }
+}
@@ -0,0 +1,13 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementMatchDTO {
+    private Long statementId;
+    private Long journalLineId;
+}
@@ -0,0 +1,21 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyntheticDataResultDTO {
+    private int fiscalYears;
+    private int accountsCreated;
+    private long customers;
+    private long journalEntries;
+    private long journalLines;
+    private long invoices;
+    private long invoiceItems;
+    private long bankAccounts;
+    private long bankStatements;
+    private long elapsedMillis;
+}
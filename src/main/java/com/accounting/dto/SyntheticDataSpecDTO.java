@@ -0,0 +1,26 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Volumes for the synthetic data generator. The same seed and volumes produce the same rows.
+ * Journal lines = journalEntries x linesPerEntry, e.g. 2,500,000 x 4 for 10M lines.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyntheticDataSpecDTO {
+    private long seed = 42;
+    private int startYear = 2020;
+    private int fiscalYears = 5;
+    private int customers = 1_000;
+    private int journalEntries = 100_000;
+    private int linesPerEntry = 4;
+    private int invoices = 20_000;
+    private int itemsPerInvoice = 3;
+    private int bankAccounts = 3;
+    private int statementsPerBankAccount = 10_000;
+    private int batchSize = 1_000;
+}
@@ -0,0 +1,23 @@
+package com.accounting.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the user list. Never carries the password hash.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDTO {
+    private Long id;
+    private String username;
+    private String fullName;
+    private String email;
+    private String roleName;
+    private Boolean enabled;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,24 @@
+package com.accounting.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published when statement lines of one or more bank accounts are matched or unmatched, or an account's
+ * opening balance changes, so anything derived from the reconciled balance can be refreshed.
+ */
+@Getter
+public class BankReconciliationEvent {
+
+    private final Set<Long> bankAccountIds;
+
+    public BankReconciliationEvent(Collection<Long> bankAccountIds) {
+        this.bankAccountIds = Set.copyOf(bankAccountIds);
+    }
+
+    public static BankReconciliationEvent of(Long bankAccountId) {
+        return new BankReconciliationEvent(Set.of(bankAccountId));
+    }
+}
@@ -0,0 +1,77 @@
+package com.accounting.event;
+
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class LedgerPostingEvent {
+
+    private final Long journalEntryId;
+    private final boolean reversal;
+    private final List<LineAmount> lines;
+    private final int entryCount;
+
+    public LedgerPostingEvent(Long journalEntryId, boolean reversal, List<LineAmount> lines) {
+        this(journalEntryId, reversal, lines, 1);
+    }
+
+    public LedgerPostingEvent(Long journalEntryId, boolean reversal, List<LineAmount> lines, int entryCount) {
+        this.journalEntryId = journalEntryId;
+        this.reversal = reversal;
+        this.lines = lines;
+        this.entryCount = entryCount;
+    }
+
+    public static LedgerPostingEvent posted(JournalEntry entry) {
+        return new LedgerPostingEvent(entry.getId(), false, toLineAmounts(entry));
+    }
+
+    public static LedgerPostingEvent postedBatch(List<JournalEntry> entries) {
+        List<LineAmount> amounts = new ArrayList<>();
+        for (JournalEntry entry : entries) {
+            amounts.addAll(toLineAmounts(entry));
+        }
+        return new LedgerPostingEvent(null, false, amounts, entries.size());
+    }
+
+    public static LedgerPostingEvent voided(JournalEntry entry) {
+        return new LedgerPostingEvent(entry.getId(), true, toLineAmounts(entry));
+    }
+
+    public BigDecimal signedDebit(LineAmount line) {
+        return reversal ? line.getDebitAmount().negate() : line.getDebitAmount();
+    }
+
+    public BigDecimal signedCredit(LineAmount line) {
+        return reversal ? line.getCreditAmount().negate() : line.getCreditAmount();
+    }
+
+    private static List<LineAmount> toLineAmounts(JournalEntry entry) {
+        List<LineAmount> amounts = new ArrayList<>();
+        for (JournalEntryLine line : entry.getLines()) {
+            amounts.add(new LineAmount(
+                    line.getAccount().getId(),
+                    entry.getEntryDate(),
+                    line.getDebitAmount() != null ? line.getDebitAmount() : BigDecimal.ZERO,
+                    line.getCreditAmount() != null ? line.getCreditAmount() : BigDecimal.ZERO));
+        }
+        return amounts;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LineAmount {
+        private Long accountId;
+        private LocalDate entryDate;
+        private BigDecimal debitAmount;
+        private BigDecimal creditAmount;
+    }
+}
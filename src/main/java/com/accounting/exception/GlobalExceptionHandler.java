@@ -1,6 +1,7 @@
 package com.accounting.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -30,6 +31,23 @@ public class GlobalExceptionHandler {
         return "redirect:/dashboard";
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public Object handleOptimisticLockingFailure(OptimisticLockingFailureException ex,
+                                                 HttpServletRequest request,
+                                                 RedirectAttributes redirectAttributes) {
+        String message = "The record was changed by another user. Please reload and try again.";
+        if (isApiRequest(request)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Conflict", "message", message));
+        }
+        redirectAttributes.addFlashAttribute("errorMessage", message);
+
+        String referer = request.getHeader("Referer");
+        if (referer != null && !referer.isEmpty()) {
+            return "redirect:" + referer;
+        }
+        return "redirect:/dashboard";
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Object handleGenericException(Exception ex, Model model, HttpServletRequest request) {
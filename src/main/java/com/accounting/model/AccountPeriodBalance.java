@@ -0,0 +1,35 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "account_period_balances",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "period_start"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountPeriodBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "debit_total", precision = 19, scale = 2, nullable = false)
+    private BigDecimal debitTotal = BigDecimal.ZERO;
+
+    @Column(name = "credit_total", precision = 19, scale = 2, nullable = false)
+    private BigDecimal creditTotal = BigDecimal.ZERO;
+}
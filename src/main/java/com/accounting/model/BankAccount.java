@@ -43,4 +43,8 @@ public class BankAccount {
 
     @Column(name = "is_active")
     private Boolean isActive = true;
+
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class BankStatement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_statements_seq")
+    @SequenceGenerator(name = "bank_statements_seq", sequenceName = "bank_statements_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,28 @@
+package com.accounting.model;
+
+import java.util.List;
+
+/**
+ * Second-level cache regions of the reference entities and their lookup queries. Sizes and TTLs are set per
+ * region with {@code accounting.cache.regions.<region>.*}.
+ */
+public final class CacheRegions {
+
+    public static final String ACCOUNTS = "accounts";
+    public static final String CURRENCIES = "currencies";
+    public static final String ROLES = "roles";
+    public static final String FISCAL_YEARS = "fiscal-years";
+    public static final String CUSTOMERS = "customers";
+
+    /**
+     * Results of the cacheable lookups (findByCode, findAllActive, ...). Hibernate drops a result as soon as
+     * one of its tables is written through JPA.
+     */
+    public static final String REFERENCE_QUERIES = "reference-queries";
+
+    public static final List<String> ALL = List.of(ACCOUNTS, CURRENCIES, ROLES, FISCAL_YEARS, CUSTOMERS,
+            REFERENCE_QUERIES);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Entity
+@Table(name = "document_number_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentNumberCounter {
+
+    @Id
+    @Column(name = "prefix", length = 30)
+    private String prefix;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
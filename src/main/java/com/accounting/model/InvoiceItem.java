@@ -15,7 +15,8 @@ import java.math.BigDecimal;
 public class InvoiceItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invoice_items_seq")
+    @SequenceGenerator(name = "invoice_items_seq", sequenceName = "invoice_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,13 +14,28 @@ import java.util.List;
 
 @Entity
 @Table(name = "journal_entries")
+@NamedEntityGraph(name = JournalEntry.GRAPH_LIST, attributeNodes = @NamedAttributeNode("lines"))
+@NamedEntityGraph(name = JournalEntry.GRAPH_DETAIL,
+        attributeNodes = {@NamedAttributeNode(value = "lines", subgraph = "lines"), @NamedAttributeNode("createdBy")},
+        subgraphs = @NamedSubgraph(name = "lines", attributeNodes = @NamedAttributeNode("account")))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JournalEntry {
 
+    /**
+     * List views: entries with their lines for totals, without the lines' accounts.
+     */
+    public static final String GRAPH_LIST = "JournalEntry.list";
+
+    /**
+     * Detail view and posting: lines with their accounts, and the author.
+     */
+    public static final String GRAPH_DETAIL = "JournalEntry.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_entries_seq")
+    @SequenceGenerator(name = "journal_entries_seq", sequenceName = "journal_entries_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "entry_number", nullable = false, unique = true, length = 20)
@@ -49,6 +65,7 @@ public class JournalEntry {
     private LocalDateTime postedAt;
 
     @OneToMany(mappedBy = "journalEntry", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<JournalEntryLine> lines = new ArrayList<>();
 
     @PrePersist
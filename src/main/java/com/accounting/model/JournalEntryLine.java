@@ -9,20 +9,28 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "journal_entry_lines")
+@NamedEntityGraph(name = JournalEntryLine.GRAPH_LEDGER, attributeNodes = @NamedAttributeNode("journalEntry"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JournalEntryLine {
 
+    /**
+     * Ledger rows: the line with its entry's date, number and description. The account is the ledger's own.
+     */
+    public static final String GRAPH_LEDGER = "JournalEntryLine.ledger";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "journal_entry_lines_seq")
+    @SequenceGenerator(name = "journal_entry_lines_seq", sequenceName = "journal_entry_lines_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "journal_entry_id", nullable = false)
     private JournalEntry journalEntry;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Lazy; Account is batch-fetched, and the entity graphs on JournalEntry load it where a view needs it
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
@@ -0,0 +1,29 @@
+package com.accounting.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduled_job_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobLock {
+
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_by", length = 255)
+    private String lockedBy;
+}
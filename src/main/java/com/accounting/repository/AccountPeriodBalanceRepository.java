@@ -0,0 +1,53 @@
+package com.accounting.repository;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.PeriodTotalsDTO;
+import com.accounting.model.AccountPeriodBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountPeriodBalanceRepository extends JpaRepository<AccountPeriodBalance, Long>, PeriodBalanceUpsert {
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(b.account.id, " +
+           "COALESCE(SUM(b.debitTotal), 0), COALESCE(SUM(b.creditTotal), 0)) " +
+           "FROM AccountPeriodBalance b " +
+           "WHERE b.account.id = :accountId " +
+           "AND b.periodStart BETWEEN :fromPeriod AND :toPeriod " +
+           "GROUP BY b.account.id")
+    Optional<AccountTotalsDTO> sumByAccountIdBetweenPeriods(
+            @Param("accountId") Long accountId,
+            @Param("fromPeriod") LocalDate fromPeriod,
+            @Param("toPeriod") LocalDate toPeriod);
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(b.account.id, " +
+           "COALESCE(SUM(b.debitTotal), 0), COALESCE(SUM(b.creditTotal), 0)) " +
+           "FROM AccountPeriodBalance b " +
+           "WHERE b.periodStart <= :toPeriod " +
+           "GROUP BY b.account.id")
+    List<AccountTotalsDTO> sumByAccountUpToPeriod(@Param("toPeriod") LocalDate toPeriod);
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(b.account.id, " +
+           "COALESCE(SUM(b.debitTotal), 0), COALESCE(SUM(b.creditTotal), 0)) " +
+           "FROM AccountPeriodBalance b " +
+           "WHERE b.periodStart BETWEEN :fromPeriod AND :toPeriod " +
+           "GROUP BY b.account.id")
+    List<AccountTotalsDTO> sumByAccountBetweenPeriods(
+            @Param("fromPeriod") LocalDate fromPeriod,
+            @Param("toPeriod") LocalDate toPeriod);
+
+    @Query("SELECT new com.accounting.dto.PeriodTotalsDTO(b.account.id, b.periodStart, b.debitTotal, b.creditTotal) " +
+           "FROM AccountPeriodBalance b")
+    List<PeriodTotalsDTO> findAllPeriodTotals();
+
+    @Modifying
+    @Query("DELETE FROM AccountPeriodBalance b")
+    void deleteAllPeriods();
+}
@@ -1,26 +1,44 @@
 package com.accounting.repository;
 
+import com.accounting.dto.AccountSummaryDTO;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
+import com.accounting.model.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     Optional<Account> findByCode(String code);
     boolean existsByCode(String code);
 
     List<Account> findByAccountType(AccountType accountType);
     List<Account> findByAccountTypeIn(List<AccountType> accountTypes);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     @Query("SELECT a FROM Account a WHERE a.isActive = true ORDER BY a.code")
     List<Account> findAllActive();
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     @Query("SELECT a FROM Account a WHERE a.isActive = true AND a.accountType = :type ORDER BY a.code")
     List<Account> findActiveByType(@Param("type") AccountType type);
 
@@ -30,6 +48,16 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT a FROM Account a WHERE a.parent.id = :parentId ORDER BY a.code")
     List<Account> findByParentId(@Param("parentId") Long parentId);
 
+    // Not cacheable: used to re-check accounts that may come from the second-level cache
+    @Query("SELECT a.code FROM Account a WHERE a.id IN :ids AND a.isActive = false ORDER BY a.code")
+    List<String> findInactiveCodes(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT DISTINCT a.accountType FROM Account a WHERE a.isActive = true ORDER BY a.accountType")
     List<AccountType> findDistinctAccountTypes();
+
+    @Query("SELECT new com.accounting.dto.AccountSummaryDTO(a.id, a.code, a.name, a.accountType, a.description, " +
+           "a.isActive, p.code, cur.code) " +
+           "FROM Account a LEFT JOIN a.parent p LEFT JOIN a.currency cur " +
+           "ORDER BY a.code")
+    List<AccountSummaryDTO> findAllSummaries();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.accounting.repository;
 
+import com.accounting.dto.BankAccountSummaryDTO;
 import com.accounting.model.BankAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +18,10 @@ public interface BankAccountRepository extends JpaRepository<BankAccount, Long>
     List<BankAccount> findAllActive();
 
     List<BankAccount> findByGlAccountId(Long glAccountId);
+
+    @Query("SELECT new com.accounting.dto.BankAccountSummaryDTO(ba.id, ba.accountName, ba.bankName, ba.accountNumber, " +
+           "cur.code, gl.id, gl.code, ba.currentBalance, ba.isActive) " +
+           "FROM BankAccount ba LEFT JOIN ba.currency cur LEFT JOIN ba.glAccount gl " +
+           "ORDER BY ba.accountName")
+    List<BankAccountSummaryDTO> findAllSummaries();
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.accounting.repository;
+
+import com.accounting.dto.AutoReconcileResultDTO;
+import com.accounting.dto.StatementMatchDTO;
+import com.accounting.model.BankAccount;
+import com.accounting.model.BankStatement;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch access for statement imports and reconciliation. Imported rows are persisted with sequence ids so
+ * Hibernate sends them as JDBC batches, then flushed and cleared per chunk; bulk updates go through JDBC.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BankStatementBatchRepository {
+
+    private static final String SELECT_KEYS =
+            "SELECT transaction_date, reference, debit_amount, credit_amount, description FROM bank_statements " +
+            "WHERE bank_account_id = ? AND transaction_date BETWEEN ? AND ?";
+
+    private static final String MARK_RECONCILED =
+            "UPDATE bank_statements SET is_reconciled = ?, matched_journal_line_id = ? WHERE id = ? AND is_reconciled = ?";
+
+    private static final String SET_MATCH =
+            "UPDATE bank_statements SET is_reconciled = ?, matched_journal_line_id = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void insertAll(Long bankAccountId, List<BankStatement> statements) {
+        BankAccount bankAccount = entityManager.getReference(BankAccount.class, bankAccountId);
+        for (BankStatement statement : statements) {
+            statement.setBankAccount(bankAccount);
+            entityManager.persist(statement);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Marks the matched statements as reconciled in one batch. Statements reconciled by someone else in the
+     * meantime are left untouched.
+     *
+     * @return the matches that were applied
+     */
+    public List<AutoReconcileResultDTO.MatchDTO> markReconciled(List<AutoReconcileResultDTO.MatchDTO> matches) {
+        int[][] counts = jdbcTemplate.batchUpdate(MARK_RECONCILED, matches, matches.size(), (ps, match) -> {
+            ps.setBoolean(1, true);
+            ps.setLong(2, match.getJournalLineId());
+            ps.setLong(3, match.getStatementId());
+            ps.setBoolean(4, false);
+        });
+        List<AutoReconcileResultDTO.MatchDTO> applied = new ArrayList<>(matches.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    applied.add(matches.get(index));
+                }
+                index++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Writes already validated matches, one batch statement per chunk.
+     */
+    public void setMatches(List<StatementMatchDTO> matches, int batchSize) {
+        jdbcTemplate.batchUpdate(SET_MATCH, matches, batchSize, (ps, match) -> {
+            ps.setBoolean(1, true);
+            ps.setLong(2, match.getJournalLineId());
+            ps.setLong(3, match.getStatementId());
+        });
+    }
+
+    public void clearMatches(List<Long> statementIds, int batchSize) {
+        jdbcTemplate.batchUpdate(SET_MATCH, statementIds, batchSize, (ps, statementId) -> {
+            ps.setBoolean(1, false);
+            ps.setNull(2, Types.BIGINT);
+            ps.setLong(3, statementId);
+        });
+    }
+
+    /**
+     * Returns how many statements are stored for the account in the date range, per duplicate-detection key.
+     */
+    public Map<String, Integer> countKeys(Long bankAccountId, LocalDate fromDate, LocalDate toDate) {
+        Map<String, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(SELECT_KEYS, (RowCallbackHandler) rs -> counts.merge(key(rs), 1, Integer::sum),
+                bankAccountId, Date.valueOf(fromDate), Date.valueOf(toDate));
+        return counts;
+    }
+
+    public static String key(LocalDate transactionDate, String reference, BigDecimal debit, BigDecimal credit,
+                             String description) {
+        return transactionDate + "|" + normalize(debit) + "|" + normalize(credit) + "|"
+                + (reference != null ? "R:" + reference : "D:" + (description != null ? description : ""));
+    }
+
+    private static String key(ResultSet rs) throws SQLException {
+        Date transactionDate = rs.getDate("transaction_date");
+        return key(transactionDate != null ? transactionDate.toLocalDate() : null, rs.getString("reference"),
+                rs.getBigDecimal("debit_amount"), rs.getBigDecimal("credit_amount"), rs.getString("description"));
+    }
+
+    private static String normalize(BigDecimal amount) {
+        return amount != null ? amount.stripTrailingZeros().toPlainString() : "0";
+    }
+}
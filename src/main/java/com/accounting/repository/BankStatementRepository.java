@@ -1,5 +1,8 @@
 package com.accounting.repository;
 
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.BankAccountCountDTO;
+import com.accounting.dto.ReconciliationCandidateDTO;
 import com.accounting.model.BankStatement;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,6 +23,15 @@ public interface BankStatementRepository extends JpaRepository<BankStatement, Lo
            "AND bs.isReconciled = false ORDER BY bs.transactionDate")
     List<BankStatement> findUnreconciledByBankAccountId(@Param("bankAccountId") Long bankAccountId);
 
+    // Lines without a transaction date cannot be matched by date; they are left for manual reconciliation
+    @Query("SELECT new com.accounting.dto.ReconciliationCandidateDTO(bs.id, bs.transactionDate, " +
+           "COALESCE(bs.creditAmount, 0) - COALESCE(bs.debitAmount, 0), bs.reference, bs.description) " +
+           "FROM BankStatement bs " +
+           "WHERE bs.bankAccount.id = :bankAccountId AND bs.isReconciled = false " +
+           "AND bs.transactionDate IS NOT NULL " +
+           "ORDER BY bs.transactionDate, bs.id")
+    List<ReconciliationCandidateDTO> findUnreconciledCandidates(@Param("bankAccountId") Long bankAccountId);
+
     @Query("SELECT bs FROM BankStatement bs WHERE bs.bankAccount.id = :bankAccountId " +
            "AND bs.statementDate BETWEEN :startDate AND :endDate ORDER BY bs.transactionDate")
     List<BankStatement> findByBankAccountIdAndDateRange(
@@ -26,11 +39,34 @@ public interface BankStatementRepository extends JpaRepository<BankStatement, Lo
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT COALESCE(SUM(bs.creditAmount) - SUM(bs.debitAmount), 0) FROM BankStatement bs " +
+    @Query("SELECT COALESCE(SUM(bs.creditAmount), 0) - COALESCE(SUM(bs.debitAmount), 0) FROM BankStatement bs " +
            "WHERE bs.bankAccount.id = :bankAccountId AND bs.isReconciled = true")
     BigDecimal getReconciledBalance(@Param("bankAccountId") Long bankAccountId);
 
+    @Query("SELECT bs FROM BankStatement bs WHERE bs.matchedJournalLine.id IN :journalLineIds")
+    List<BankStatement> findByMatchedJournalLineIds(@Param("journalLineIds") Collection<Long> journalLineIds);
+
+    /**
+     * Reconciled statement totals per bank account (the accountId of each row is the bank account id),
+     * optionally limited to statements dated on or before the given date.
+     */
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(bs.bankAccount.id, " +
+           "COALESCE(SUM(bs.debitAmount), 0), COALESCE(SUM(bs.creditAmount), 0)) " +
+           "FROM BankStatement bs " +
+           "WHERE bs.bankAccount.id IN :bankAccountIds AND bs.isReconciled = true " +
+           "AND (:asOfDate IS NULL OR bs.statementDate <= :asOfDate) " +
+           "GROUP BY bs.bankAccount.id")
+    List<AccountTotalsDTO> sumReconciledByBankAccountIds(
+            @Param("bankAccountIds") Collection<Long> bankAccountIds,
+            @Param("asOfDate") LocalDate asOfDate);
+
     @Query("SELECT COUNT(bs) FROM BankStatement bs WHERE bs.bankAccount.id = :bankAccountId " +
            "AND bs.isReconciled = false")
     Long countUnreconciled(@Param("bankAccountId") Long bankAccountId);
+
+    @Query("SELECT new com.accounting.dto.BankAccountCountDTO(bs.bankAccount.id, COUNT(bs)) FROM BankStatement bs " +
+           "WHERE bs.bankAccount.id IN :bankAccountIds AND bs.isReconciled = false " +
+           "GROUP BY bs.bankAccount.id")
+    List<BankAccountCountDTO> countUnreconciledByBankAccountIds(
+            @Param("bankAccountIds") Collection<Long> bankAccountIds);
 }
\ No newline at end of file
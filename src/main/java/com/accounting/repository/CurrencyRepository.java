@@ -1,17 +1,31 @@
 package com.accounting.repository;
 
+import com.accounting.model.CacheRegions;
 import com.accounting.model.Currency;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 @Repository
 public interface CurrencyRepository extends JpaRepository<Currency, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     Optional<Currency> findByCode(String code);
     boolean existsByCode(String code);
 
     @Query("SELECT c FROM Currency c WHERE c.isBase = true")
     Optional<Currency> findBaseCurrency();
+
+    // Not cacheable: conversions read the current rate rather than the one in the second-level cache
+    @Query("SELECT c.exchangeRate FROM Currency c WHERE c.id = :id")
+    Optional<BigDecimal> findExchangeRateById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.accounting.repository;
+
+import com.accounting.model.DocumentNumberCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DocumentNumberCounterRepository extends JpaRepository<DocumentNumberCounter, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM DocumentNumberCounter c WHERE c.prefix = :prefix")
+    Optional<DocumentNumberCounter> findByPrefixForUpdate(@Param("prefix") String prefix);
+
+    @Modifying
+    @Query(value = "INSERT INTO document_number_counters (prefix, next_value) VALUES (:prefix, :nextValue)",
+           nativeQuery = true)
+    int insertCounter(@Param("prefix") String prefix, @Param("nextValue") long nextValue);
+}
@@ -1,10 +1,12 @@
 package com.accounting.repository;
 
+import com.accounting.dto.InvoiceSummaryDTO;
 import com.accounting.model.Invoice;
 import com.accounting.model.InvoiceStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,15 +28,37 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     @Query("SELECT i FROM Invoice i WHERE i.status = 'SENT' AND i.dueDate < :today")
     List<Invoice> findOverdueInvoices(@Param("today") LocalDate today);
 
+    @Query("SELECT COUNT(i) FROM Invoice i WHERE i.status = 'SENT' AND i.dueDate < :today")
+    Long countOverdueInvoices(@Param("today") LocalDate today);
+
+    @Modifying
+    @Query("UPDATE Invoice i SET i.status = com.accounting.model.InvoiceStatus.OVERDUE " +
+           "WHERE i.status = com.accounting.model.InvoiceStatus.SENT AND i.dueDate < :today")
+    int markOverdueInvoices(@Param("today") LocalDate today);
+
     @Query("SELECT i FROM Invoice i WHERE i.invoiceDate BETWEEN :startDate AND :endDate")
     List<Invoice> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     @Query("SELECT COALESCE(SUM(i.totalAmount), 0) FROM Invoice i WHERE i.status = :status")
     BigDecimal sumTotalByStatus(@Param("status") InvoiceStatus status);
 
-    @Query("SELECT MAX(CAST(SUBSTRING(i.invoiceNumber, 5) AS int)) FROM Invoice i WHERE i.invoiceNumber LIKE :prefix%")
+    @Query("SELECT MAX(CAST(SUBSTRING(i.invoiceNumber, LENGTH(:prefix) + 2) AS int)) FROM Invoice i " +
+           "WHERE i.invoiceNumber LIKE CONCAT(:prefix, '-%')")
     Integer findMaxInvoiceNumberByPrefix(@Param("prefix") String prefix);
 
+    @Query("SELECT new com.accounting.dto.InvoiceSummaryDTO(i.id, i.invoiceNumber, i.invoiceDate, i.dueDate, " +
+           "c.id, c.name, i.status, i.totalAmount) " +
+           "FROM Invoice i JOIN i.customer c " +
+           "ORDER BY i.invoiceDate DESC, i.invoiceNumber DESC")
+    List<InvoiceSummaryDTO> findAllSummaries();
+
+    @Query("SELECT new com.accounting.dto.InvoiceSummaryDTO(i.id, i.invoiceNumber, i.invoiceDate, i.dueDate, " +
+           "c.id, c.name, i.status, i.totalAmount) " +
+           "FROM Invoice i JOIN i.customer c " +
+           "WHERE i.status = :status " +
+           "ORDER BY i.invoiceDate DESC, i.invoiceNumber DESC")
+    List<InvoiceSummaryDTO> findSummariesByStatus(@Param("status") InvoiceStatus status);
+
     @Query("SELECT i FROM Invoice i LEFT JOIN FETCH i.items WHERE i.id = :id")
     Optional<Invoice> findByIdWithItems(@Param("id") Long id);
 }
\ No newline at end of file
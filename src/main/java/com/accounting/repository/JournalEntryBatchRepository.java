@@ -0,0 +1,28 @@
+package com.accounting.repository;
+
+import com.accounting.model.JournalEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Persists journal entries for bulk imports. Entry and line ids come from pooled sequences, so Hibernate
+ * groups the inserts into JDBC batches (hibernate.jdbc.batch_size) instead of one round trip per row.
+ * The persistence context is flushed and cleared per call to keep memory flat across chunks.
+ */
+@Repository
+public class JournalEntryBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void insertAll(List<JournalEntry> entries) {
+        for (JournalEntry entry : entries) {
+            entityManager.persist(entry);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
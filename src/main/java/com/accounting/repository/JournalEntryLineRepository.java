@@ -1,18 +1,31 @@
 package com.accounting.repository;
 
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.LedgerLineDTO;
+import com.accounting.dto.PeriodTotalsDTO;
+import com.accounting.dto.ReconciliationCandidateDTO;
 import com.accounting.model.JournalEntryLine;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLine, Long> {
 
+    @EntityGraph(JournalEntryLine.GRAPH_LEDGER)
     @Query("SELECT jl FROM JournalEntryLine jl " +
            "JOIN jl.journalEntry je " +
            "WHERE jl.account.id = :accountId " +
@@ -20,6 +33,7 @@ public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLi
            "ORDER BY je.entryDate, je.entryNumber")
     List<JournalEntryLine> findByAccountIdAndPosted(@Param("accountId") Long accountId);
 
+    @EntityGraph(JournalEntryLine.GRAPH_LEDGER)
     @Query("SELECT jl FROM JournalEntryLine jl " +
            "JOIN jl.journalEntry je " +
            "WHERE jl.account.id = :accountId " +
@@ -31,6 +45,69 @@ public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLi
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.accounting.dto.LedgerLineDTO(jl.id, je.id, je.entryDate, je.entryNumber, " +
+           "COALESCE(jl.description, je.description), je.reference, jl.debitAmount, jl.creditAmount) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE jl.account.id = :accountId " +
+           "AND je.status = 'POSTED' " +
+           "AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY je.entryDate, je.entryNumber, jl.id")
+    Stream<LedgerLineDTO> streamByAccountIdAndPostedBetweenDates(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.accounting.dto.LedgerLineDTO(jl.id, je.id, je.entryDate, je.entryNumber, " +
+           "COALESCE(jl.description, je.description), je.reference, jl.debitAmount, jl.creditAmount) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE jl.account.id = :accountId " +
+           "AND je.status = 'POSTED' " +
+           "AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY je.entryDate, je.entryNumber, jl.id")
+    List<LedgerLineDTO> findLedgerPage(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    @Query("SELECT new com.accounting.dto.LedgerLineDTO(jl.id, je.id, je.entryDate, je.entryNumber, " +
+           "COALESCE(jl.description, je.description), je.reference, jl.debitAmount, jl.creditAmount) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE jl.account.id = :accountId " +
+           "AND je.status = 'POSTED' " +
+           "AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "AND (je.entryDate > :afterDate " +
+           "OR (je.entryDate = :afterDate AND je.entryNumber > :afterNumber) " +
+           "OR (je.entryDate = :afterDate AND je.entryNumber = :afterNumber AND jl.id > :afterLineId)) " +
+           "ORDER BY je.entryDate, je.entryNumber, jl.id")
+    List<LedgerLineDTO> findLedgerPageAfter(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterNumber") String afterNumber,
+            @Param("afterLineId") Long afterLineId,
+            Pageable pageable);
+
+    @Query("SELECT new com.accounting.dto.ReconciliationCandidateDTO(jl.id, je.entryDate, " +
+           "COALESCE(jl.debitAmount, 0) - COALESCE(jl.creditAmount, 0), je.reference, " +
+           "COALESCE(jl.description, je.description)) " +
+           "FROM JournalEntryLine jl JOIN jl.journalEntry je " +
+           "WHERE jl.account.id = :accountId AND je.status = 'POSTED' " +
+           "AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "AND NOT EXISTS (SELECT 1 FROM BankStatement bs WHERE bs.matchedJournalLine = jl)")
+    List<ReconciliationCandidateDTO> findUnmatchedReconciliationCandidates(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     @Query("SELECT COALESCE(SUM(jl.debitAmount), 0) FROM JournalEntryLine jl " +
            "JOIN jl.journalEntry je " +
            "WHERE jl.account.id = :accountId AND je.status = 'POSTED'")
@@ -74,4 +151,53 @@ public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLi
     BigDecimal sumCreditByAccountIdBeforeDate(
             @Param("accountId") Long accountId,
             @Param("date") LocalDate date);
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(jl.account.id, " +
+           "COALESCE(SUM(jl.debitAmount), 0), COALESCE(SUM(jl.creditAmount), 0)) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE je.status = 'POSTED' " +
+           "GROUP BY jl.account.id")
+    List<AccountTotalsDTO> sumByAccount();
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(jl.account.id, " +
+           "COALESCE(SUM(jl.debitAmount), 0), COALESCE(SUM(jl.creditAmount), 0)) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE je.status = 'POSTED' AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY jl.account.id")
+    List<AccountTotalsDTO> sumByAccountBetweenDates(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(jl.account.id, " +
+           "COALESCE(SUM(jl.debitAmount), 0), COALESCE(SUM(jl.creditAmount), 0)) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE jl.account.id = :accountId AND je.status = 'POSTED' " +
+           "AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY jl.account.id")
+    Optional<AccountTotalsDTO> sumByAccountIdBetweenDates(
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.accounting.dto.AccountTotalsDTO(jl.account.id, " +
+           "COALESCE(SUM(jl.debitAmount), 0), COALESCE(SUM(jl.creditAmount), 0)) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE jl.account.id IN :accountIds AND je.status = 'POSTED' " +
+           "AND (:asOfDate IS NULL OR je.entryDate <= :asOfDate) " +
+           "GROUP BY jl.account.id")
+    List<AccountTotalsDTO> sumByAccountIdsAsOf(
+            @Param("accountIds") Collection<Long> accountIds,
+            @Param("asOfDate") LocalDate asOfDate);
+
+    @Query("SELECT new com.accounting.dto.PeriodTotalsDTO(jl.account.id, " +
+           "YEAR(je.entryDate), MONTH(je.entryDate), SUM(jl.debitAmount), SUM(jl.creditAmount)) " +
+           "FROM JournalEntryLine jl " +
+           "JOIN jl.journalEntry je " +
+           "WHERE je.status = 'POSTED' " +
+           "GROUP BY jl.account.id, YEAR(je.entryDate), MONTH(je.entryDate)")
+    List<PeriodTotalsDTO> sumByAccountAndMonth();
 }
\ No newline at end of file
@@ -1,15 +1,22 @@
 package com.accounting.repository;
 
+import com.accounting.dto.JournalEntrySummaryDTO;
 import com.accounting.model.EntryStatus;
 import com.accounting.model.JournalEntry;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,18 +31,139 @@ public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long
 
     Page<JournalEntry> findByStatus(EntryStatus status, Pageable pageable);
 
+    @Query(value = "SELECT new com.accounting.dto.JournalEntrySummaryDTO(j.id, j.entryNumber, j.entryDate, " +
+           "j.description, j.reference, j.status, " +
+           "(SELECT COALESCE(SUM(l.debitAmount), 0) FROM JournalEntryLine l WHERE l.journalEntry = j)) " +
+           "FROM JournalEntry j",
+           countQuery = "SELECT COUNT(j) FROM JournalEntry j")
+    Page<JournalEntrySummaryDTO> findSummaryPage(Pageable pageable);
+
+    // Summary slices come in pairs with and without a status filter instead of one ":status IS NULL OR ..."
+    // query, so each can seek ix_journal_entries_status_date or ix_journal_entries_date respectively.
+    // Both date bounds are required; callers pass the widest range when the user gave none.
+    @Query("SELECT new com.accounting.dto.JournalEntrySummaryDTO(j.id, j.entryNumber, j.entryDate, j.description, " +
+           "j.reference, j.status, " +
+           "(SELECT COALESCE(SUM(l.debitAmount), 0) FROM JournalEntryLine l WHERE l.journalEntry = j)) " +
+           "FROM JournalEntry j " +
+           "WHERE j.entryDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY j.entryDate DESC, j.entryNumber DESC, j.id DESC")
+    Slice<JournalEntrySummaryDTO> findSummarySlice(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    @Query("SELECT new com.accounting.dto.JournalEntrySummaryDTO(j.id, j.entryNumber, j.entryDate, j.description, " +
+           "j.reference, j.status, " +
+           "(SELECT COALESCE(SUM(l.debitAmount), 0) FROM JournalEntryLine l WHERE l.journalEntry = j)) " +
+           "FROM JournalEntry j " +
+           "WHERE j.status = :status AND j.entryDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY j.entryDate DESC, j.entryNumber DESC, j.id DESC")
+    Slice<JournalEntrySummaryDTO> findSummarySliceByStatus(
+            @Param("status") EntryStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            Pageable pageable);
+
+    @Query("SELECT new com.accounting.dto.JournalEntrySummaryDTO(j.id, j.entryNumber, j.entryDate, j.description, " +
+           "j.reference, j.status, " +
+           "(SELECT COALESCE(SUM(l.debitAmount), 0) FROM JournalEntryLine l WHERE l.journalEntry = j)) " +
+           "FROM JournalEntry j " +
+           "WHERE j.entryDate BETWEEN :startDate AND :endDate " +
+           "AND (j.entryDate < :beforeDate " +
+           "OR (j.entryDate = :beforeDate AND j.entryNumber < :beforeNumber) " +
+           "OR (j.entryDate = :beforeDate AND j.entryNumber = :beforeNumber AND j.id < :beforeId)) " +
+           "ORDER BY j.entryDate DESC, j.entryNumber DESC, j.id DESC")
+    Slice<JournalEntrySummaryDTO> findSummarySliceBefore(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("beforeDate") LocalDate beforeDate,
+            @Param("beforeNumber") String beforeNumber,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
+    @Query("SELECT new com.accounting.dto.JournalEntrySummaryDTO(j.id, j.entryNumber, j.entryDate, j.description, " +
+           "j.reference, j.status, " +
+           "(SELECT COALESCE(SUM(l.debitAmount), 0) FROM JournalEntryLine l WHERE l.journalEntry = j)) " +
+           "FROM JournalEntry j " +
+           "WHERE j.status = :status AND j.entryDate BETWEEN :startDate AND :endDate " +
+           "AND (j.entryDate < :beforeDate " +
+           "OR (j.entryDate = :beforeDate AND j.entryNumber < :beforeNumber) " +
+           "OR (j.entryDate = :beforeDate AND j.entryNumber = :beforeNumber AND j.id < :beforeId)) " +
+           "ORDER BY j.entryDate DESC, j.entryNumber DESC, j.id DESC")
+    Slice<JournalEntrySummaryDTO> findSummarySliceByStatusBefore(
+            @Param("status") EntryStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("beforeDate") LocalDate beforeDate,
+            @Param("beforeNumber") String beforeNumber,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
+
     @Query("SELECT j FROM JournalEntry j WHERE j.status = 'POSTED' ORDER BY j.entryDate DESC, j.entryNumber DESC")
     List<JournalEntry> findAllPosted();
 
     @Query("SELECT j FROM JournalEntry j WHERE j.status = 'POSTED' AND j.entryDate BETWEEN :startDate AND :endDate ORDER BY j.entryDate, j.entryNumber")
     List<JournalEntry> findPostedEntriesBetweenDates(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT MAX(CAST(SUBSTRING(j.entryNumber, 4) AS int)) FROM JournalEntry j WHERE j.entryNumber LIKE :prefix%")
+    @Query("SELECT MAX(CAST(SUBSTRING(j.entryNumber, LENGTH(:prefix) + 2) AS int)) FROM JournalEntry j " +
+           "WHERE j.entryNumber LIKE CONCAT(:prefix, '-%')")
     Integer findMaxEntryNumberByPrefix(@Param("prefix") String prefix);
 
-    @Query("SELECT j FROM JournalEntry j LEFT JOIN FETCH j.lines WHERE j.id = :id")
+    @EntityGraph(JournalEntry.GRAPH_DETAIL)
+    @Query("SELECT j FROM JournalEntry j WHERE j.id = :id")
     Optional<JournalEntry> findByIdWithLines(@Param("id") Long id);
 
+    // Split by status filter like the summary slices, so the filtered one can seek ix_journal_entries_status_date
+    @Query("SELECT j.id FROM JournalEntry j")
+    Slice<Long> findIdSlice(Pageable pageable);
+
+    @Query("SELECT j.id FROM JournalEntry j WHERE j.status = :status")
+    Slice<Long> findIdSliceByStatus(@Param("status") EntryStatus status, Pageable pageable);
+
+    @Query(value = "SELECT j.id FROM JournalEntry j",
+           countQuery = "SELECT COUNT(j) FROM JournalEntry j")
+    Page<Long> findIdPage(Pageable pageable);
+
+    @EntityGraph(JournalEntry.GRAPH_LIST)
+    @Query("SELECT j FROM JournalEntry j WHERE j.id IN :ids")
+    List<JournalEntry> findWithLinesByIdIn(@Param("ids") Collection<Long> ids, Sort sort);
+
+    @EntityGraph(JournalEntry.GRAPH_DETAIL)
+    @Query("SELECT j FROM JournalEntry j WHERE j.id IN :ids")
+    List<JournalEntry> findWithLinesAndAccountsByIdIn(@Param("ids") Collection<Long> ids, Sort sort);
+
+    /**
+     * A slice of entries with their lines in two queries: one for the page of ids, one fetching those entries
+     * and their lines. Fetch-joining the lines in the paged query itself would make Hibernate page in memory.
+     */
+    default Slice<JournalEntry> findSliceWithLines(EntryStatus status, Pageable pageable) {
+        Slice<Long> ids = status != null ? findIdSliceByStatus(status, pageable) : findIdSlice(pageable);
+        List<JournalEntry> entries = ids.isEmpty() ? List.of()
+                : findWithLinesByIdIn(ids.getContent(), pageable.getSort());
+        return new SliceImpl<>(entries, pageable, ids.hasNext());
+    }
+
+    /**
+     * Like {@link #findSliceWithLines} with the lines' accounts fetched as well, still in two queries.
+     */
+    default Slice<JournalEntry> findSliceWithLinesAndAccounts(EntryStatus status, Pageable pageable) {
+        Slice<Long> ids = status != null ? findIdSliceByStatus(status, pageable) : findIdSlice(pageable);
+        List<JournalEntry> entries = ids.isEmpty() ? List.of()
+                : findWithLinesAndAccountsByIdIn(ids.getContent(), pageable.getSort());
+        return new SliceImpl<>(entries, pageable, ids.hasNext());
+    }
+
+    /**
+     * A page of entries with their lines: the same two queries as {@link #findSliceWithLines}, plus the count
+     * when the page is full.
+     */
+    default Page<JournalEntry> findPageWithLines(Pageable pageable) {
+        Page<Long> ids = findIdPage(pageable);
+        List<JournalEntry> entries = ids.isEmpty() ? List.of()
+                : findWithLinesByIdIn(ids.getContent(), pageable.getSort());
+        return new PageImpl<>(entries, pageable, ids.getTotalElements());
+    }
+
     @Query("SELECT COUNT(j) FROM JournalEntry j WHERE j.status = :status")
     Long countByStatus(@Param("status") EntryStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.accounting.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface PeriodBalanceUpsert {
+
+    /**
+     * Adds the amounts to the account's rollup for the period, creating the row if it does not exist yet.
+     */
+    void addToPeriod(Long accountId, LocalDate periodStart, BigDecimal debit, BigDecimal credit);
+}
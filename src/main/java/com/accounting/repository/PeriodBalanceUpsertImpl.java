@@ -0,0 +1,54 @@
+package com.accounting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * One upsert statement in the posting transaction. An UPDATE followed by an INSERT in a separate transaction
+ * deadlocks on MySQL: the zero-row UPDATE leaves a gap lock on the unique key that the nested INSERT then waits
+ * on until innodb_lock_wait_timeout. H2's MERGE ... KEY would overwrite the totals, so H2 gets the standard
+ * MERGE ... USING form instead.
+ */
+@RequiredArgsConstructor
+public class PeriodBalanceUpsertImpl implements PeriodBalanceUpsert {
+
+    private static final String UPSERT_MYSQL =
+            "INSERT INTO account_period_balances (account_id, period_start, debit_total, credit_total) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE debit_total = debit_total + VALUES(debit_total), " +
+            "credit_total = credit_total + VALUES(credit_total)";
+
+    private static final String UPSERT_H2 =
+            "MERGE INTO account_period_balances b " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS DECIMAL(19,2)), CAST(? AS DECIMAL(19,2)))) " +
+            "AS v (account_id, period_start, debit_total, credit_total) " +
+            "ON b.account_id = v.account_id AND b.period_start = v.period_start " +
+            "WHEN MATCHED THEN UPDATE SET debit_total = b.debit_total + v.debit_total, " +
+            "credit_total = b.credit_total + v.credit_total " +
+            "WHEN NOT MATCHED THEN INSERT (account_id, period_start, debit_total, credit_total) " +
+            "VALUES (v.account_id, v.period_start, v.debit_total, v.credit_total)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsert;
+
+    @Override
+    public void addToPeriod(Long accountId, LocalDate periodStart, BigDecimal debit, BigDecimal credit) {
+        jdbcTemplate.update(upsert(), accountId, Date.valueOf(periodStart), debit, credit);
+    }
+
+    private String upsert() {
+        if (upsert == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            upsert = product != null && product.toLowerCase(Locale.ROOT).contains("mysql") ? UPSERT_MYSQL : UPSERT_H2;
+        }
+        return upsert;
+    }
+}
@@ -1,13 +1,21 @@
 package com.accounting.repository;
 
+import com.accounting.model.CacheRegions;
 import com.accounting.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     Optional<Role> findByName(String name);
     boolean existsByName(String name);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.accounting.repository;
+
+import com.accounting.model.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy);
+
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND l.lockedBy = :lockedBy")
+    int release(@Param("name") String name,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy);
+
+    @Modifying
+    @Query(value = "INSERT INTO scheduled_job_locks (name, locked_until, locked_at, locked_by) " +
+                   "VALUES (:name, :lockedUntil, :now, :lockedBy)", nativeQuery = true)
+    int insertLock(@Param("name") String name,
+                   @Param("now") LocalDateTime now,
+                   @Param("lockedUntil") LocalDateTime lockedUntil,
+                   @Param("lockedBy") String lockedBy);
+}
@@ -1,5 +1,6 @@
 package com.accounting.repository;
 
+import com.accounting.dto.UserSummaryDTO;
 import com.accounting.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,4 +21,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u JOIN u.role r WHERE r.name = :roleName")
     List<User> findByRoleName(String roleName);
+
+    @Query("SELECT new com.accounting.dto.UserSummaryDTO(u.id, u.username, u.fullName, u.email, r.name, " +
+           "u.enabled, u.createdAt) " +
+           "FROM User u LEFT JOIN u.role r " +
+           "ORDER BY u.username")
+    List<UserSummaryDTO> findAllSummaries();
 }
\ No newline at end of file
@@ -1,30 +1,43 @@
 package com.accounting.service;
 
+import com.accounting.dto.AccountSummaryDTO;
+import com.accounting.dto.AccountTotalsDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.JournalEntryLineRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 public class AccountService {
 
     private final AccountRepository accountRepository;
     private final JournalEntryLineRepository journalEntryLineRepository;
+    private final PeriodBalanceService periodBalanceService;
+    private final BalanceCache balanceCache;
 
     public List<Account> findAll() {
         return accountRepository.findAll();
     }
 
+    public List<AccountSummaryDTO> findAllSummaries() {
+        return accountRepository.findAllSummaries();
+    }
+
     public List<Account> findAllActive() {
         return accountRepository.findAllActive();
     }
@@ -67,7 +80,11 @@ public class AccountService {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new AccountingException("Account not found: " + id));
 
-        BigDecimal balance = getBalance(id);
+        // read from the journal lines directly: a cached balance may miss postings from other nodes
+        AccountTotalsDTO totals = new AccountTotalsDTO(id,
+                journalEntryLineRepository.sumDebitByAccountId(id),
+                journalEntryLineRepository.sumCreditByAccountId(id));
+        BigDecimal balance = totals.getBalance(account.getAccountType());
         if (balance.compareTo(BigDecimal.ZERO) != 0) {
             throw new AccountingException("Cannot deactivate account with non-zero balance");
         }
@@ -86,50 +103,43 @@ public class AccountService {
     }
 
     public BigDecimal getBalance(Long accountId) {
-        BigDecimal totalDebit = journalEntryLineRepository.sumDebitByAccountId(accountId);
-        BigDecimal totalCredit = journalEntryLineRepository.sumCreditByAccountId(accountId);
-
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
 
-        if (account.isDebitNormal()) {
-            return totalDebit.subtract(totalCredit);
-        } else {
-            return totalCredit.subtract(totalDebit);
+        return getBalance(account);
+    }
+
+    public BigDecimal getBalance(Account account) {
+        return balanceCache.getTotals(account.getId()).getBalance(account.getAccountType());
+    }
+
+    /**
+     * Balances of several accounts by account id, loading uncached totals with a single query.
+     */
+    public Map<Long, BigDecimal> getBalances(List<Account> accounts) {
+        Map<Long, AccountTotalsDTO> totals = balanceCache.getTotals(
+                accounts.stream().map(Account::getId).collect(Collectors.toList()));
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (Account account : accounts) {
+            balances.put(account.getId(), totals.get(account.getId()).getBalance(account.getAccountType()));
         }
+        return balances;
     }
 
     public BigDecimal getBalanceAsOfDate(Long accountId, LocalDate asOfDate) {
-        LocalDate startOfTime = LocalDate.of(1900, 1, 1);
-        BigDecimal totalDebit = journalEntryLineRepository.sumDebitByAccountIdBetweenDates(
-                accountId, startOfTime, asOfDate);
-        BigDecimal totalCredit = journalEntryLineRepository.sumCreditByAccountIdBetweenDates(
-                accountId, startOfTime, asOfDate);
-
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
 
-        if (account.isDebitNormal()) {
-            return totalDebit.subtract(totalCredit);
-        } else {
-            return totalCredit.subtract(totalDebit);
-        }
+        AccountTotalsDTO totals = periodBalanceService.getTotalsAsOfDate(accountId, asOfDate);
+        return totals.getBalance(account.getAccountType());
     }
 
     public BigDecimal getBalanceBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
-        BigDecimal totalDebit = journalEntryLineRepository.sumDebitByAccountIdBetweenDates(
-                accountId, startDate, endDate);
-        BigDecimal totalCredit = journalEntryLineRepository.sumCreditByAccountIdBetweenDates(
-                accountId, startDate, endDate);
-
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
 
-        if (account.isDebitNormal()) {
-            return totalDebit.subtract(totalCredit);
-        } else {
-            return totalCredit.subtract(totalDebit);
-        }
+        AccountTotalsDTO totals = periodBalanceService.getTotalsBetweenDates(accountId, startDate, endDate);
+        return totals.getBalance(account.getAccountType());
     }
 
     @Transactional
@@ -0,0 +1,93 @@
+package com.accounting.service;
+
+import com.accounting.dto.BankAccountCountDTO;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.model.BankAccount;
+import com.accounting.model.EntryStatus;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Business metrics next to the service timers: counters for posted and voided journal entries, and gauges
+ * for the DRAFT backlog and unreconciled statements per bank account. The gauges are refreshed on a schedule
+ * rather than queried on every scrape, so scrapes never touch the database.
+ */
+@Component
+public class AccountingMetrics {
+
+    private final JournalEntryRepository journalEntryRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final BankStatementRepository bankStatementRepository;
+
+    private final Counter postedEntries;
+    private final Counter voidedEntries;
+    private final AtomicLong draftEntries = new AtomicLong();
+    private final MultiGauge unreconciledStatements;
+
+    public AccountingMetrics(MeterRegistry meterRegistry, JournalEntryRepository journalEntryRepository,
+                             BankAccountRepository bankAccountRepository,
+                             BankStatementRepository bankStatementRepository) {
+        this.journalEntryRepository = journalEntryRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankStatementRepository = bankStatementRepository;
+
+        postedEntries = Counter.builder("accounting.journal.entries")
+                .description("Journal entries posted or voided")
+                .tag("event", "posted")
+                .register(meterRegistry);
+        voidedEntries = Counter.builder("accounting.journal.entries")
+                .description("Journal entries posted or voided")
+                .tag("event", "voided")
+                .register(meterRegistry);
+        Gauge.builder("accounting.journal.entries.draft", draftEntries, AtomicLong::get)
+                .description("Journal entries waiting to be posted")
+                .register(meterRegistry);
+        unreconciledStatements = MultiGauge.builder("accounting.bank.statements.unreconciled")
+                .description("Unreconciled statement lines per active bank account")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerPosting(LedgerPostingEvent event) {
+        (event.isReversal() ? voidedEntries : postedEntries).increment(event.getEntryCount());
+    }
+
+    @Scheduled(fixedDelayString = "${accounting.metrics.gauge-refresh-interval:PT30S}")
+    public void refreshGauges() {
+        draftEntries.set(journalEntryRepository.countByStatus(EntryStatus.DRAFT));
+
+        List<Long> bankAccountIds = bankAccountRepository.findAllActive().stream()
+                .map(BankAccount::getId)
+                .collect(Collectors.toList());
+        Map<Long, Long> unreconciled = new HashMap<>();
+        if (!bankAccountIds.isEmpty()) {
+            for (BankAccountCountDTO count : bankStatementRepository.countUnreconciledByBankAccountIds(bankAccountIds)) {
+                unreconciled.put(count.getBankAccountId(), count.getCount());
+            }
+        }
+
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        for (Long bankAccountId : bankAccountIds) {
+            rows.add(MultiGauge.Row.of(Tags.of("bank.account", String.valueOf(bankAccountId)),
+                    unreconciled.getOrDefault(bankAccountId, 0L)));
+        }
+        // overwrite drops rows of bank accounts that were deactivated since the last refresh
+        unreconciledStatements.register(rows, true);
+    }
+}
@@ -0,0 +1,46 @@
+package com.accounting.service;
+
+import com.accounting.exception.AccountingException;
+import com.accounting.model.BankAccount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutoReconciliationJob {
+
+    static final String LOCK_NAME = "bank-auto-reconciliation";
+
+    private final BankReconciliationService bankReconciliationService;
+    private final JobLockService jobLockService;
+
+    @Scheduled(cron = "${accounting.bank.auto-match.cron:-}")
+    public void run() {
+        jobLockService.runExclusively(LOCK_NAME, Duration.ofHours(1), Duration.ofMinutes(1), this::reconcileAll);
+    }
+
+    /**
+     * Auto-reconciles each active bank account linked to a GL account in its own transaction, so one failing
+     * account does not undo the matches made for the others.
+     */
+    public void reconcileAll() {
+        for (BankAccount bankAccount : bankReconciliationService.findActiveBankAccounts()) {
+            if (bankAccount.getGlAccount() == null) {
+                continue;
+            }
+            try {
+                bankReconciliationService.autoReconcile(bankAccount.getId());
+            } catch (AccountingException e) {
+                log.warn("Auto-reconciliation skipped bank account {}: {}", bankAccount.getId(), e.getMessage());
+            } catch (RuntimeException e) {
+                // e.g. an optimistic lock conflict with a concurrent match; the next run picks the account up again
+                log.error("Auto-reconciliation failed for bank account {}", bankAccount.getId(), e);
+            }
+        }
+    }
+}
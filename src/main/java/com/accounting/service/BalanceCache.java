@@ -0,0 +1,263 @@
+package com.accounting.service;
+
+import com.accounting.config.PrimaryReads;
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.BalanceCacheStatsDTO;
+import com.accounting.dto.BalanceCacheVerificationDTO;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.repository.JournalEntryLineRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * All-time debit/credit totals per account, loaded at startup and kept current by adding each committed
+ * posting to the cached totals, so reads never touch the database. A load only caches what it read if no
+ * posting was committing while it was reading, so a commit is never both read and added. Postings on other
+ * nodes are not seen at all; entries expire after {@code accounting.balance-cache.ttl} as a safety net.
+ */
+@Component
+@Slf4j
+public class BalanceCache {
+
+    private final JournalEntryLineRepository journalEntryLineRepository;
+    private final PrimaryReads primaryReads;
+    private final boolean verifyReads;
+    private final long ttlNanos;
+
+    private final Map<Long, CachedTotals> totalsByAccount = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong postingsInFlight = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile LocalDateTime loadedAt;
+
+    public BalanceCache(JournalEntryLineRepository journalEntryLineRepository, PrimaryReads primaryReads,
+                        @Value("${accounting.balance-cache.verify-reads:false}") boolean verifyReads,
+                        @Value("${accounting.balance-cache.ttl:PT15M}") Duration ttl) {
+        this.journalEntryLineRepository = journalEntryLineRepository;
+        this.primaryReads = primaryReads;
+        this.verifyReads = verifyReads;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public AccountTotalsDTO getTotals(Long accountId) {
+        AccountTotalsDTO cached = cachedTotals(accountId);
+        if (cached != null) {
+            hits.incrementAndGet();
+            if (verifyReads) {
+                verifyAccount(accountId, cached);
+            }
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        long startGeneration = generation.get();
+        AccountTotalsDTO totals = loadTotals(accountId);
+        cacheIfCurrent(accountId, totals, startGeneration);
+        return totals;
+    }
+
+    /**
+     * Totals of several accounts at once. Accounts not cached yet are loaded with one grouped query instead
+     * of two per account.
+     */
+    public Map<Long, AccountTotalsDTO> getTotals(Collection<Long> accountIds) {
+        Map<Long, AccountTotalsDTO> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            AccountTotalsDTO cached = cachedTotals(accountId);
+            if (cached != null) {
+                if (verifyReads) {
+                    verifyAccount(accountId, cached);
+                }
+                result.put(accountId, cached);
+            } else {
+                missing.add(accountId);
+            }
+        }
+        hits.addAndGet(result.size());
+
+        if (!missing.isEmpty()) {
+            misses.addAndGet(missing.size());
+            long startGeneration = generation.get();
+            Map<Long, AccountTotalsDTO> loaded = primaryReads.call(
+                            () -> journalEntryLineRepository.sumByAccountIdsAsOf(missing, null))
+                    .stream()
+                    .collect(Collectors.toMap(AccountTotalsDTO::getAccountId, Function.identity()));
+            for (Long accountId : missing) {
+                AccountTotalsDTO totals = loaded.getOrDefault(accountId,
+                        new AccountTotalsDTO(accountId, BigDecimal.ZERO, BigDecimal.ZERO));
+                cacheIfCurrent(accountId, totals, startGeneration);
+                result.put(accountId, totals);
+            }
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        long startGeneration = generation.get();
+        Map<Long, AccountTotalsDTO> totals = loadAllTotals();
+        totalsByAccount.clear();
+        // a posting committed while the snapshot was read: skip the rest and let those accounts load lazily
+        totals.forEach((accountId, accountTotals) -> cacheIfCurrent(accountId, accountTotals, startGeneration));
+        loadedAt = LocalDateTime.now();
+        log.info("Balance cache loaded with {} of {} accounts", totalsByAccount.size(), totals.size());
+    }
+
+    /**
+     * Runs just before the posting commits: from here until the transaction completes, loads may or may not
+     * see the posting, so none of them is cached. The delta is added once the commit has succeeded.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLedgerPosting(LedgerPostingEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event);
+            return;
+        }
+        postingsInFlight.incrementAndGet();
+        generation.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event);
+                    }
+                } finally {
+                    generation.incrementAndGet();
+                    postingsInFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    public void evict(Long accountId) {
+        generation.incrementAndGet();
+        totalsByAccount.remove(accountId);
+    }
+
+    public BalanceCacheVerificationDTO verify() {
+        Map<Long, AccountTotalsDTO> actual = loadAllTotals();
+        Set<Long> accountIds = new HashSet<>(totalsByAccount.keySet());
+        accountIds.addAll(actual.keySet());
+
+        BalanceCacheVerificationDTO verification = new BalanceCacheVerificationDTO();
+        verification.setAccountsChecked(accountIds.size());
+        for (Long accountId : accountIds) {
+            AccountTotalsDTO cached = cachedTotals(accountId);
+            if (cached == null) {
+                continue;
+            }
+            AccountTotalsDTO expected = actual.getOrDefault(accountId,
+                    new AccountTotalsDTO(accountId, BigDecimal.ZERO, BigDecimal.ZERO));
+            if (!sameTotals(cached, expected)) {
+                verification.addMismatch(new BalanceCacheVerificationDTO.MismatchDTO(accountId,
+                        cached.getTotalDebit(), cached.getTotalCredit(),
+                        expected.getTotalDebit(), expected.getTotalCredit()));
+            }
+        }
+
+        if (!verification.isConsistent()) {
+            log.warn("Balance cache differs from journal lines for {} accounts", verification.getMismatches().size());
+        }
+        return verification;
+    }
+
+    public BalanceCacheStatsDTO getStats() {
+        return new BalanceCacheStatsDTO(totalsByAccount.size(), hits.get(), misses.get(), loadedAt);
+    }
+
+    private AccountTotalsDTO cachedTotals(Long accountId) {
+        CachedTotals cached = totalsByAccount.get(accountId);
+        if (cached == null) {
+            return null;
+        }
+        if (System.nanoTime() - cached.loadedAtNanos() >= ttlNanos) {
+            totalsByAccount.remove(accountId, cached);
+            return null;
+        }
+        return cached.totals();
+    }
+
+    /**
+     * Adds a committed posting to the accounts already cached. Accounts that are not cached load the
+     * posting with their totals later.
+     */
+    private void apply(LedgerPostingEvent event) {
+        generation.incrementAndGet();
+        for (LedgerPostingEvent.LineAmount line : event.getLines()) {
+            BigDecimal debit = event.signedDebit(line);
+            BigDecimal credit = event.signedCredit(line);
+            totalsByAccount.computeIfPresent(line.getAccountId(), (accountId, cached) -> new CachedTotals(
+                    new AccountTotalsDTO(accountId,
+                            cached.totals().getTotalDebit().add(debit),
+                            cached.totals().getTotalCredit().add(credit)),
+                    cached.loadedAtNanos()));
+        }
+    }
+
+    /**
+     * Caches totals read since {@code startGeneration} unless a posting or eviction happened in between or
+     * a posting is still committing. The check runs inside {@code compute}, so a posting or eviction racing
+     * with it either sees the new entry and updates or removes it, or has already bumped the generation
+     * and the entry is not stored.
+     */
+    private void cacheIfCurrent(Long accountId, AccountTotalsDTO totals, long startGeneration) {
+        totalsByAccount.compute(accountId, (id, current) ->
+                generation.get() == startGeneration && postingsInFlight.get() == 0
+                        ? new CachedTotals(totals, System.nanoTime())
+                        : current);
+    }
+
+    private AccountTotalsDTO loadTotals(Long accountId) {
+        return primaryReads.call(() -> new AccountTotalsDTO(accountId,
+                journalEntryLineRepository.sumDebitByAccountId(accountId),
+                journalEntryLineRepository.sumCreditByAccountId(accountId)));
+    }
+
+    private Map<Long, AccountTotalsDTO> loadAllTotals() {
+        List<AccountTotalsDTO> totals = primaryReads.call(journalEntryLineRepository::sumByAccount);
+        return totals.stream()
+                .collect(Collectors.toMap(AccountTotalsDTO::getAccountId, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    private void verifyAccount(Long accountId, AccountTotalsDTO cached) {
+        AccountTotalsDTO actual = loadTotals(accountId);
+        if (!sameTotals(cached, actual)) {
+            log.warn("Balance cache mismatch for account {}: cached {}/{}, journal lines {}/{}", accountId,
+                    cached.getTotalDebit(), cached.getTotalCredit(),
+                    actual.getTotalDebit(), actual.getTotalCredit());
+        }
+    }
+
+    private static boolean sameTotals(AccountTotalsDTO left, AccountTotalsDTO right) {
+        return left.getTotalDebit().compareTo(right.getTotalDebit()) == 0
+                && left.getTotalCredit().compareTo(right.getTotalCredit()) == 0;
+    }
+
+    private record CachedTotals(AccountTotalsDTO totals, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.accounting.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Periodically checks the incrementally maintained bank account balances against a full SUM of
+ * reconciled statements. Mismatches are logged; fixing them is left to the admin endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class BankBalanceDriftCheckJob {
+
+    static final String LOCK_NAME = "bank-balance-drift-check";
+
+    private final BankReconciliationService bankReconciliationService;
+    private final JobLockService jobLockService;
+
+    @Scheduled(cron = "${accounting.bank.balance-drift-check.cron:0 30 2 * * *}")
+    public void run() {
+        jobLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(30), Duration.ofMinutes(1),
+                () -> bankReconciliationService.verifyCurrentBalances(false));
+    }
+}
@@ -1,28 +1,71 @@
 package com.accounting.service;
 
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.AutoReconcileResultDTO;
+import com.accounting.dto.BankAccountSummaryDTO;
+import com.accounting.dto.BankBalanceVerificationDTO;
+import com.accounting.dto.ReconciliationBatchResultDTO;
+import com.accounting.dto.ReconciliationCandidateDTO;
+import com.accounting.dto.ReconciliationSummaryDTO;
+import com.accounting.dto.StatementMatchDTO;
+import com.accounting.event.BankReconciliationEvent;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.BankAccount;
 import com.accounting.model.BankStatement;
 import com.accounting.model.JournalEntryLine;
 import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementBatchRepository;
 import com.accounting.repository.BankStatementRepository;
 import com.accounting.repository.JournalEntryLineRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
+@Slf4j
 public class BankReconciliationService {
 
     private final BankAccountRepository bankAccountRepository;
     private final BankStatementRepository bankStatementRepository;
     private final JournalEntryLineRepository journalEntryLineRepository;
+    private final BankStatementBatchRepository bankStatementBatchRepository;
+    private final ReconciliationSummaryService reconciliationSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    static final int MAX_BATCH_ITEMS = 10_000;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    @Value("${accounting.bank.auto-match.date-window-days:7}")
+    private int autoMatchDateWindowDays = 7;
+
+    @Value("${accounting.bank.reconcile.batch-size:500}")
+    private int reconcileBatchSize = 500;
+
+    public List<BankAccountSummaryDTO> findBankAccountSummaries() {
+        return bankAccountRepository.findAllSummaries();
+    }
 
     public List<BankAccount> findAllBankAccounts() {
         return bankAccountRepository.findAll();
@@ -38,7 +81,31 @@ public class BankReconciliationService {
 
     @Transactional
     public BankAccount saveBankAccount(BankAccount bankAccount) {
-        return bankAccountRepository.save(bankAccount);
+        BankAccount saved;
+        if (bankAccount.getId() == null) {
+            bankAccount.setVersion(null);
+            bankAccount.setCurrentBalance(valueOrZero(bankAccount.getOpeningBalance()));
+            saved = bankAccountRepository.save(bankAccount);
+        } else {
+            saved = bankAccountRepository.findById(bankAccount.getId())
+                    .orElseThrow(() -> new AccountingException("Bank account not found: " + bankAccount.getId()));
+            if (bankAccount.getVersion() != null && !bankAccount.getVersion().equals(saved.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(BankAccount.class, bankAccount.getId());
+            }
+            // currentBalance is maintained by reconciliation, so only an opening balance change moves it here
+            BigDecimal openingBalance = valueOrZero(bankAccount.getOpeningBalance());
+            adjustCurrentBalance(saved, openingBalance.subtract(valueOrZero(saved.getOpeningBalance())));
+            saved.setAccountName(bankAccount.getAccountName());
+            saved.setBankName(bankAccount.getBankName());
+            saved.setAccountNumber(bankAccount.getAccountNumber());
+            saved.setCurrency(bankAccount.getCurrency());
+            saved.setGlAccount(bankAccount.getGlAccount());
+            saved.setOpeningBalance(openingBalance);
+            saved.setIsActive(bankAccount.getIsActive());
+            saved = bankAccountRepository.save(saved);
+        }
+        eventPublisher.publishEvent(BankReconciliationEvent.of(saved.getId()));
+        return saved;
     }
 
     public List<BankStatement> findStatementsByBankAccount(Long bankAccountId) {
@@ -80,11 +147,15 @@ public class BankReconciliationService {
             throw new AccountingException("Statement amount does not match journal entry amount");
         }
 
+        boolean wasReconciled = Boolean.TRUE.equals(statement.getIsReconciled());
         statement.setIsReconciled(true);
         statement.setMatchedJournalLine(journalLine);
         bankStatementRepository.save(statement);
 
-        updateBankAccountBalance(statement.getBankAccount());
+        if (!wasReconciled) {
+            adjustCurrentBalance(statement.getBankAccount(), statementAmount);
+        }
+        eventPublisher.publishEvent(BankReconciliationEvent.of(statement.getBankAccount().getId()));
     }
 
     @Transactional
@@ -92,46 +163,275 @@ public class BankReconciliationService {
         BankStatement statement = bankStatementRepository.findById(statementId)
                 .orElseThrow(() -> new AccountingException("Bank statement not found: " + statementId));
 
+        boolean wasReconciled = Boolean.TRUE.equals(statement.getIsReconciled());
         statement.setIsReconciled(false);
         statement.setMatchedJournalLine(null);
         bankStatementRepository.save(statement);
 
-        updateBankAccountBalance(statement.getBankAccount());
+        if (wasReconciled) {
+            adjustCurrentBalance(statement.getBankAccount(), statement.getNetAmount().negate());
+        }
+        eventPublisher.publishEvent(BankReconciliationEvent.of(statement.getBankAccount().getId()));
     }
 
-    private void updateBankAccountBalance(BankAccount bankAccount) {
-        BigDecimal reconciledBalance = bankStatementRepository.getReconciledBalance(bankAccount.getId());
-        bankAccount.setCurrentBalance(bankAccount.getOpeningBalance().add(reconciledBalance));
-        bankAccountRepository.save(bankAccount);
+    /**
+     * Matches many statement/journal line pairs in one transaction. Statements and lines are loaded with
+     * one IN query each and validated in memory; if any pair is invalid nothing is written. Valid pairs are
+     * stored with JDBC batch updates and each affected bank account balance is adjusted once.
+     */
+    @Transactional
+    public ReconciliationBatchResultDTO reconcileStatements(List<StatementMatchDTO> matches) {
+        long started = System.nanoTime();
+        requireBatchSize(matches == null ? 0 : matches.size());
+
+        List<String> errors = new ArrayList<>();
+        Set<Long> statementIds = new HashSet<>();
+        Set<Long> journalLineIds = new HashSet<>();
+        for (StatementMatchDTO match : matches) {
+            if (match.getStatementId() == null || match.getJournalLineId() == null) {
+                errors.add("Statement and journal line ids are required");
+                continue;
+            }
+            if (!statementIds.add(match.getStatementId())) {
+                errors.add("Statement " + match.getStatementId() + " is listed more than once");
+            }
+            if (!journalLineIds.add(match.getJournalLineId())) {
+                errors.add("Journal entry line " + match.getJournalLineId() + " is listed more than once");
+            }
+        }
+
+        Map<Long, BankStatement> statements = bankStatementRepository.findAllById(statementIds).stream()
+                .collect(Collectors.toMap(BankStatement::getId, Function.identity()));
+        Map<Long, JournalEntryLine> journalLines = journalEntryLineRepository.findAllById(journalLineIds).stream()
+                .collect(Collectors.toMap(JournalEntryLine::getId, Function.identity()));
+        Map<Long, Long> matchedElsewhere = new HashMap<>();
+        for (BankStatement matched : bankStatementRepository.findByMatchedJournalLineIds(journalLineIds)) {
+            if (!statementIds.contains(matched.getId())) {
+                matchedElsewhere.put(matched.getMatchedJournalLine().getId(), matched.getId());
+            }
+        }
+
+        Map<Long, BigDecimal> balanceDeltas = new LinkedHashMap<>();
+        for (StatementMatchDTO match : matches) {
+            BankStatement statement = statements.get(match.getStatementId());
+            JournalEntryLine journalLine = journalLines.get(match.getJournalLineId());
+            if (match.getStatementId() == null || match.getJournalLineId() == null) {
+                continue;
+            }
+            if (statement == null) {
+                errors.add("Bank statement not found: " + match.getStatementId());
+                continue;
+            }
+            if (journalLine == null) {
+                errors.add("Journal entry line not found: " + match.getJournalLineId());
+                continue;
+            }
+            if (matchedElsewhere.containsKey(journalLine.getId())) {
+                errors.add("Journal entry line " + journalLine.getId() + " is already matched to statement "
+                        + matchedElsewhere.get(journalLine.getId()));
+                continue;
+            }
+            BigDecimal journalAmount = journalLine.isDebit()
+                    ? journalLine.getDebitAmount()
+                    : journalLine.getCreditAmount().negate();
+            if (statement.getNetAmount().compareTo(journalAmount) != 0) {
+                errors.add("Statement " + statement.getId() + " amount does not match journal entry line "
+                        + journalLine.getId());
+                continue;
+            }
+            BigDecimal delta = Boolean.TRUE.equals(statement.getIsReconciled()) ? BigDecimal.ZERO : statement.getNetAmount();
+            balanceDeltas.merge(statement.getBankAccount().getId(), delta, BigDecimal::add);
+        }
+        rejectIfErrors(errors, matches.size());
+
+        bankStatementBatchRepository.setMatches(matches, reconcileBatchSize);
+        return applyBalanceDeltas(balanceDeltas, matches.size(), started);
     }
 
-    public BigDecimal getReconciledBalance(Long bankAccountId) {
-        BankAccount bankAccount = bankAccountRepository.findById(bankAccountId)
-                .orElseThrow(() -> new AccountingException("Bank account not found: " + bankAccountId));
+    /**
+     * Unmatches many statements in one transaction, adjusting each affected bank account balance once.
+     */
+    @Transactional
+    public ReconciliationBatchResultDTO unreconcileStatements(List<Long> statementIds) {
+        long started = System.nanoTime();
+        requireBatchSize(statementIds == null ? 0 : statementIds.size());
+
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(statementIds));
+        Map<Long, BankStatement> statements = bankStatementRepository.findAllById(uniqueIds).stream()
+                .collect(Collectors.toMap(BankStatement::getId, Function.identity()));
+
+        List<String> errors = new ArrayList<>();
+        Map<Long, BigDecimal> balanceDeltas = new LinkedHashMap<>();
+        for (Long statementId : uniqueIds) {
+            BankStatement statement = statementId != null ? statements.get(statementId) : null;
+            if (statement == null) {
+                errors.add("Bank statement not found: " + statementId);
+                continue;
+            }
+            BigDecimal delta = Boolean.TRUE.equals(statement.getIsReconciled())
+                    ? statement.getNetAmount().negate() : BigDecimal.ZERO;
+            balanceDeltas.merge(statement.getBankAccount().getId(), delta, BigDecimal::add);
+        }
+        rejectIfErrors(errors, uniqueIds.size());
 
-        BigDecimal reconciledBalance = bankStatementRepository.getReconciledBalance(bankAccountId);
-        return bankAccount.getOpeningBalance().add(reconciledBalance);
+        bankStatementBatchRepository.clearMatches(uniqueIds, reconcileBatchSize);
+        return applyBalanceDeltas(balanceDeltas, uniqueIds.size(), started);
     }
 
-    public BigDecimal getUnreconciledDifference(Long bankAccountId) {
+    private void requireBatchSize(int size) {
+        if (size == 0) {
+            throw new AccountingException("No statements given");
+        }
+        if (size > MAX_BATCH_ITEMS) {
+            throw new AccountingException("At most " + MAX_BATCH_ITEMS + " statements can be processed per request");
+        }
+    }
+
+    private static void rejectIfErrors(List<String> errors, int total) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        String details = String.join("; ", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+        throw new AccountingException(errors.size() + " of " + total + " items rejected, nothing was changed: "
+                + details + (errors.size() > MAX_REPORTED_ERRORS ? "; ..." : ""));
+    }
+
+    private ReconciliationBatchResultDTO applyBalanceDeltas(Map<Long, BigDecimal> balanceDeltas, int statementsUpdated,
+                                                            long started) {
+        for (BankAccount bankAccount : bankAccountRepository.findAllById(balanceDeltas.keySet())) {
+            BigDecimal delta = balanceDeltas.get(bankAccount.getId());
+            if (delta.signum() != 0) {
+                adjustCurrentBalance(bankAccount, delta);
+            }
+        }
+        eventPublisher.publishEvent(new BankReconciliationEvent(balanceDeltas.keySet()));
+
+        ReconciliationBatchResultDTO result = new ReconciliationBatchResultDTO(statementsUpdated,
+                new ArrayList<>(balanceDeltas.keySet()), Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("Batch updated {} statements across {} bank accounts in {} ms", result.getStatementsUpdated(),
+                result.getBankAccountIds().size(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Matches every unreconciled statement line of the bank account against unmatched posted lines on its GL
+     * account, using {@link ReconciliationMatcher}, and stores all accepted matches in one batch.
+     */
+    @Transactional
+    public AutoReconcileResultDTO autoReconcile(Long bankAccountId) {
+        long started = System.nanoTime();
         BankAccount bankAccount = bankAccountRepository.findById(bankAccountId)
                 .orElseThrow(() -> new AccountingException("Bank account not found: " + bankAccountId));
-
         if (bankAccount.getGlAccount() == null) {
             throw new AccountingException("Bank account is not linked to a GL account");
         }
 
-        BigDecimal glBalance = BigDecimal.ZERO;
-        List<JournalEntryLine> lines = journalEntryLineRepository
-                .findByAccountIdAndPosted(bankAccount.getGlAccount().getId());
+        AutoReconcileResultDTO result = new AutoReconcileResultDTO();
+        result.setBankAccountId(bankAccountId);
+
+        List<ReconciliationCandidateDTO> statements = bankStatementRepository.findUnreconciledCandidates(bankAccountId);
+        result.setStatementsConsidered(statements.size());
+        if (!statements.isEmpty()) {
+            LocalDate startDate = statements.get(0).getDate().minusDays(autoMatchDateWindowDays);
+            LocalDate endDate = statements.get(statements.size() - 1).getDate().plusDays(autoMatchDateWindowDays);
+            List<ReconciliationCandidateDTO> journalLines = journalEntryLineRepository
+                    .findUnmatchedReconciliationCandidates(bankAccount.getGlAccount().getId(), startDate, endDate);
+            result.setCandidateLines(journalLines.size());
+
+            List<AutoReconcileResultDTO.MatchDTO> matches =
+                    new ReconciliationMatcher(autoMatchDateWindowDays).match(statements, journalLines);
+            if (!matches.isEmpty()) {
+                List<AutoReconcileResultDTO.MatchDTO> applied = bankStatementBatchRepository.markReconciled(matches);
+                Map<Long, BigDecimal> amounts = new HashMap<>();
+                statements.forEach(statement -> amounts.put(statement.getId(), statement.getAmount()));
+                BigDecimal delta = BigDecimal.ZERO;
+                for (AutoReconcileResultDTO.MatchDTO match : applied) {
+                    delta = delta.add(amounts.get(match.getStatementId()));
+                }
+                adjustCurrentBalance(bankAccount, delta);
+                eventPublisher.publishEvent(BankReconciliationEvent.of(bankAccountId));
+                result.setMatched(applied.size());
+                result.setMatches(applied);
+            }
+        }
+
+        result.setUnmatched(result.getStatementsConsidered() - result.getMatched());
+        result.setElapsedMillis(Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("Auto-reconciled {} of {} statement lines for bank account {} in {} ms", result.getMatched(),
+                result.getStatementsConsidered(), bankAccountId, result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Moves the cached current balance by the net amount of statements just (un)reconciled. The version
+     * check on flush rejects concurrent adjustments instead of losing one of them.
+     */
+    private void adjustCurrentBalance(BankAccount bankAccount, BigDecimal delta) {
+        bankAccount.setCurrentBalance(valueOrZero(bankAccount.getCurrentBalance()).add(delta));
+        bankAccountRepository.save(bankAccount);
+    }
+
+    /**
+     * Compares each bank account's current balance with its opening balance plus a full SUM of its
+     * reconciled statements, and optionally resets the ones that drifted.
+     */
+    @Transactional
+    public BankBalanceVerificationDTO verifyCurrentBalances(boolean repair) {
+        List<BankAccount> bankAccounts = bankAccountRepository.findAll();
+        BankBalanceVerificationDTO verification = new BankBalanceVerificationDTO();
+        verification.setAccountsChecked(bankAccounts.size());
+        if (bankAccounts.isEmpty()) {
+            return verification;
+        }
+
+        Map<Long, AccountTotalsDTO> reconciled = new HashMap<>();
+        List<Long> bankAccountIds = bankAccounts.stream().map(BankAccount::getId).toList();
+        for (AccountTotalsDTO totals : bankStatementRepository.sumReconciledByBankAccountIds(bankAccountIds, null)) {
+            reconciled.put(totals.getAccountId(), totals);
+        }
+
+        for (BankAccount bankAccount : bankAccounts) {
+            AccountTotalsDTO totals = reconciled.get(bankAccount.getId());
+            BigDecimal expected = valueOrZero(bankAccount.getOpeningBalance());
+            if (totals != null) {
+                expected = expected.add(totals.getTotalCredit()).subtract(totals.getTotalDebit());
+            }
+            BigDecimal current = valueOrZero(bankAccount.getCurrentBalance());
+            if (current.compareTo(expected) != 0) {
+                verification.addMismatch(new BankBalanceVerificationDTO.MismatchDTO(
+                        bankAccount.getId(), current, expected));
+                if (repair) {
+                    bankAccount.setCurrentBalance(expected);
+                    bankAccountRepository.save(bankAccount);
+                }
+            }
+        }
 
-        for (JournalEntryLine line : lines) {
-            glBalance = glBalance.add(line.getDebitAmount()).subtract(line.getCreditAmount());
+        if (!verification.isConsistent()) {
+            log.warn("Current balance differs from reconciled statements for {} bank accounts{}",
+                    verification.getMismatches().size(), repair ? " (repaired)" : "");
         }
+        return verification;
+    }
 
-        BigDecimal reconciledBalance = getReconciledBalance(bankAccountId);
+    private static BigDecimal valueOrZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
 
-        return glBalance.subtract(reconciledBalance);
+    public BigDecimal getReconciledBalance(Long bankAccountId) {
+        BankAccount bankAccount = bankAccountRepository.findById(bankAccountId)
+                .orElseThrow(() -> new AccountingException("Bank account not found: " + bankAccountId));
+
+        BigDecimal reconciledBalance = bankStatementRepository.getReconciledBalance(bankAccountId);
+        return valueOrZero(bankAccount.getOpeningBalance()).add(valueOrZero(reconciledBalance));
+    }
+
+    public BigDecimal getUnreconciledDifference(Long bankAccountId) {
+        ReconciliationSummaryDTO summary = reconciliationSummaryService.getSummary(bankAccountId, null);
+        if (summary.getGlAccountId() == null) {
+            throw new AccountingException("Bank account is not linked to a GL account");
+        }
+        return summary.getDifference();
     }
 
     public Long countUnreconciled(Long bankAccountId) {
@@ -3,6 +3,7 @@ package com.accounting.service;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Currency;
 import com.accounting.repository.CurrencyRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 public class CurrencyService {
 
@@ -71,15 +73,21 @@ public class CurrencyService {
             return amount;
         }
 
-        BigDecimal amountInBase = amount.divide(from.getExchangeRate(), 6, RoundingMode.HALF_UP);
-        return amountInBase.multiply(to.getExchangeRate()).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal amountInBase = amount.divide(currentRate(from), 6, RoundingMode.HALF_UP);
+        return amountInBase.multiply(currentRate(to)).setScale(2, RoundingMode.HALF_UP);
     }
 
     public BigDecimal convertToBase(BigDecimal amount, Currency currency) {
         if (Boolean.TRUE.equals(currency.getIsBase())) {
             return amount;
         }
-        return amount.divide(currency.getExchangeRate(), 2, RoundingMode.HALF_UP);
+        return amount.divide(currentRate(currency), 2, RoundingMode.HALF_UP);
+    }
+
+    // The currency may come from the second-level cache and miss a rate change made on another node
+    private BigDecimal currentRate(Currency currency) {
+        return currencyRepository.findExchangeRateById(currency.getId())
+                .orElseThrow(() -> new AccountingException("Currency not found: " + currency.getId()));
     }
 
     @Transactional
@@ -0,0 +1,93 @@
+package com.accounting.service;
+
+import com.accounting.config.PrimaryReads;
+import com.accounting.dto.DashboardDTO;
+import com.accounting.event.LedgerPostingEvent;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@Timed(value = "accounting.service", histogram = true)
+@Slf4j
+public class DashboardSnapshotService {
+
+    private final ReportService reportService;
+    private final PrimaryReads primaryReads;
+    private final Duration minRefreshInterval;
+    private final Duration maxAge;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile DashboardDTO snapshot;
+    private volatile Instant lastRefresh = Instant.EPOCH;
+
+    public DashboardSnapshotService(ReportService reportService, PrimaryReads primaryReads,
+                                    @Value("${accounting.dashboard.min-refresh-interval:PT30S}") Duration minRefreshInterval,
+                                    @Value("${accounting.dashboard.max-age:PT5M}") Duration maxAge) {
+        this.reportService = reportService;
+        this.primaryReads = primaryReads;
+        this.minRefreshInterval = minRefreshInterval;
+        this.maxAge = maxAge;
+    }
+
+    public DashboardDTO getSnapshot() {
+        DashboardDTO current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return firstSnapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerPosting(LedgerPostingEvent event) {
+        markDirty();
+    }
+
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${accounting.dashboard.check-interval:PT5S}")
+    public void refreshIfDue() {
+        Duration sinceLastRefresh = Duration.between(lastRefresh, Instant.now());
+        boolean changed = dirty.get() && sinceLastRefresh.compareTo(minRefreshInterval) >= 0;
+        boolean expired = sinceLastRefresh.compareTo(maxAge) >= 0;
+        if (snapshot == null || changed || expired) {
+            refresh();
+        }
+    }
+
+    // Requests that arrive before the first snapshot wait for one build instead of each rebuilding it
+    private synchronized DashboardDTO firstSnapshot() {
+        DashboardDTO current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        return refresh();
+    }
+
+    public synchronized DashboardDTO refresh() {
+        dirty.set(false);
+        long started = System.nanoTime();
+        try {
+            DashboardDTO dashboard = primaryReads.call(reportService::generateDashboard);
+            dashboard.setGeneratedAt(LocalDateTime.now());
+            dashboard.setMaxStalenessSeconds(maxAge.getSeconds());
+            snapshot = dashboard;
+            lastRefresh = Instant.now();
+            log.debug("Dashboard snapshot rebuilt in {} ms", Duration.ofNanos(System.nanoTime() - started).toMillis());
+            return dashboard;
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.accounting.service;
+
+import com.accounting.model.DocumentNumberCounter;
+import com.accounting.repository.DocumentNumberCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Hands out document numbers such as {@code JE-202403-0042} from a per-prefix counter row. Each node reserves
+ * a block of numbers under a row lock in its own short transaction and then serves them from memory, so
+ * instances never hand out the same number. Numbers left in a block when a node stops are skipped.
+ */
+@Component
+@Slf4j
+public class DocumentNumberAllocator {
+
+    private final DocumentNumberCounterRepository counterRepository;
+    private final TransactionTemplate newTransaction;
+    private final int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public DocumentNumberAllocator(DocumentNumberCounterRepository counterRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${accounting.document-numbers.block-size:20}") int blockSize) {
+        this.counterRepository = counterRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Returns the next number for the prefix. The seed supplies the highest number already used for the
+     * prefix and is only called the first time a counter row is created for it.
+     */
+    public String next(String prefix, Supplier<Integer> seed) {
+        return next(prefix, 1, seed).get(0);
+    }
+
+    public List<String> next(String prefix, int count, Supplier<Integer> seed) {
+        Block block = blocks.computeIfAbsent(prefix, p -> new Block());
+        List<String> numbers = new ArrayList<>(count);
+        synchronized (block) {
+            while (numbers.size() < count) {
+                if (block.next >= block.limit) {
+                    int size = Math.max(blockSize, count - numbers.size());
+                    block.next = reserve(prefix, size, seed);
+                    block.limit = block.next + size;
+                }
+                numbers.add(format(prefix, block.next++));
+            }
+        }
+        return numbers;
+    }
+
+    private long reserve(String prefix, int size, Supplier<Integer> seed) {
+        Long start = null;
+        for (int attempt = 0; start == null && attempt < 3; attempt++) {
+            try {
+                start = newTransaction.execute(status -> {
+                    DocumentNumberCounter counter = counterRepository.findByPrefixForUpdate(prefix)
+                            .orElseGet(() -> {
+                                Integer maxUsed = seed.get();
+                                counterRepository.insertCounter(prefix, (maxUsed != null ? maxUsed : 0) + 1L);
+                                return counterRepository.findByPrefixForUpdate(prefix).orElseThrow();
+                            });
+                    long first = counter.getNextValue();
+                    counter.setNextValue(first + size);
+                    return first;
+                });
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                log.debug("Counter row for {} was created concurrently, retrying reservation", prefix);
+            }
+        }
+        if (start == null) {
+            throw new IllegalStateException("Could not reserve document numbers for prefix " + prefix);
+        }
+        return start;
+    }
+
+    private static String format(String prefix, long number) {
+        return prefix + "-" + String.format("%04d", number);
+    }
+
+    private static class Block {
+        private long next;
+        private long limit;
+    }
+}
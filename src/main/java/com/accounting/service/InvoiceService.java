@@ -1,12 +1,16 @@
 package com.accounting.service;
 
+import com.accounting.dto.InvoiceSummaryDTO;
+import com.accounting.event.LedgerPostingEvent;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.*;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.CustomerRepository;
 import com.accounting.repository.InvoiceRepository;
 import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 public class InvoiceService {
 
@@ -25,6 +30,8 @@ public class InvoiceService {
     private final CustomerRepository customerRepository;
     private final AccountRepository accountRepository;
     private final JournalEntryRepository journalEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DocumentNumberAllocator documentNumberAllocator;
 
     public List<Invoice> findAll() {
         return invoiceRepository.findAll();
@@ -42,6 +49,13 @@ public class InvoiceService {
         return invoiceRepository.findByStatus(status);
     }
 
+    /**
+     * Invoice list rows with customer names, optionally filtered by status.
+     */
+    public List<InvoiceSummaryDTO> findSummaries(InvoiceStatus status) {
+        return status != null ? invoiceRepository.findSummariesByStatus(status) : invoiceRepository.findAllSummaries();
+    }
+
     public List<Invoice> findByCustomerId(Long customerId) {
         return invoiceRepository.findByCustomerId(customerId);
     }
@@ -122,8 +136,10 @@ public class InvoiceService {
             throw new AccountingException("Paid invoices cannot be cancelled");
         }
 
-        if (invoice.getJournalEntry() != null) {
-            invoice.getJournalEntry().setStatus(EntryStatus.VOID);
+        JournalEntry journalEntry = invoice.getJournalEntry();
+        if (journalEntry != null && journalEntry.isPosted()) {
+            journalEntry.setStatus(EntryStatus.VOID);
+            eventPublisher.publishEvent(LedgerPostingEvent.voided(journalEntry));
         }
 
         invoice.setStatus(InvoiceStatus.CANCELLED);
@@ -131,14 +147,8 @@ public class InvoiceService {
     }
 
     @Transactional
-    public void updateOverdueInvoices() {
-        List<Invoice> overdueInvoices = invoiceRepository.findOverdueInvoices(LocalDate.now());
-        for (Invoice invoice : overdueInvoices) {
-            if (invoice.getStatus() == InvoiceStatus.SENT) {
-                invoice.setStatus(InvoiceStatus.OVERDUE);
-                invoiceRepository.save(invoice);
-            }
-        }
+    public int updateOverdueInvoices() {
+        return invoiceRepository.markOverdueInvoices(LocalDate.now());
     }
 
     private JournalEntry createInvoiceJournalEntry(Invoice invoice) {
@@ -170,7 +180,9 @@ public class InvoiceService {
         creditLine.setDescription("Sales revenue");
         entry.addLine(creditLine);
 
-        return journalEntryRepository.save(entry);
+        JournalEntry posted = journalEntryRepository.save(entry);
+        eventPublisher.publishEvent(LedgerPostingEvent.posted(posted));
+        return posted;
     }
 
     private void createPaymentJournalEntry(Invoice invoice, LocalDate paymentDate) {
@@ -202,21 +214,18 @@ public class InvoiceService {
         creditLine.setDescription("Clear AR for Invoice " + invoice.getInvoiceNumber());
         entry.addLine(creditLine);
 
-        journalEntryRepository.save(entry);
+        JournalEntry posted = journalEntryRepository.save(entry);
+        eventPublisher.publishEvent(LedgerPostingEvent.posted(posted));
     }
 
     private String generateInvoiceNumber() {
         String prefix = "INV-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        Integer maxNumber = invoiceRepository.findMaxInvoiceNumberByPrefix(prefix);
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return prefix + "-" + String.format("%04d", nextNumber);
+        return documentNumberAllocator.next(prefix, () -> invoiceRepository.findMaxInvoiceNumberByPrefix(prefix));
     }
 
     private String generateJournalEntryNumber() {
         String prefix = "JE-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        Integer maxNumber = journalEntryRepository.findMaxEntryNumberByPrefix(prefix);
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return prefix + "-" + String.format("%04d", nextNumber);
+        return documentNumberAllocator.next(prefix, () -> journalEntryRepository.findMaxEntryNumberByPrefix(prefix));
     }
 
     public List<Customer> findAllCustomers() {
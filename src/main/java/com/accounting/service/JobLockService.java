@@ -0,0 +1,75 @@
+package com.accounting.service;
+
+import com.accounting.repository.ScheduledJobLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Database-backed guard so a scheduled job runs on only one node at a time. A node takes the lock with a
+ * conditional update on the job's row; the lock expires on its own if the node dies while holding it.
+ */
+@Service
+@Slf4j
+public class JobLockService {
+
+    private final ScheduledJobLockRepository lockRepository;
+    private final TransactionTemplate newTransaction;
+    private final String nodeName = ManagementFactory.getRuntimeMXBean().getName();
+
+    public JobLockService(ScheduledJobLockRepository lockRepository, PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Runs the task if no other node holds the lock. The lock is held for at most {@code lockAtMostFor} and,
+     * once the task finishes, for at least {@code lockAtLeastFor} after it started so that nodes with slightly
+     * different clocks do not run the same scheduled slot twice.
+     *
+     * @return true if the task ran on this node
+     */
+    public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!tryLock(name, startedAt, startedAt.plus(lockAtMostFor))) {
+            log.debug("Skipping job {}: lock is held by another node", name);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            LocalDateTime until = startedAt.plus(lockAtLeastFor);
+            LocalDateTime now = LocalDateTime.now();
+            newTransaction.executeWithoutResult(status ->
+                    lockRepository.release(name, until.isAfter(now) ? until : now, nodeName));
+        }
+    }
+
+    private boolean tryLock(String name, LocalDateTime now, LocalDateTime lockedUntil) {
+        Integer updated = newTransaction.execute(status -> lockRepository.acquire(name, now, lockedUntil, nodeName));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        if (lockRepository.existsById(name)) {
+            return false;
+        }
+
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    lockRepository.insertLock(name, now, lockedUntil, nodeName));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
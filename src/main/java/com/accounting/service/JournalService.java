@@ -1,36 +1,108 @@
 package com.accounting.service;
 
 import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.JournalImportResultDTO;
+import com.accounting.dto.JournalEntrySliceDTO;
+import com.accounting.dto.JournalEntrySummaryDTO;
+import com.accounting.event.LedgerPostingEvent;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.*;
 import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryBatchRepository;
 import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 public class JournalService {
 
+    public static final int MAX_SLICE_SIZE = 200;
+
+    // Open date filters become the full DATE range so the slice queries always seek on entry_date
+    private static final LocalDate EARLIEST_ENTRY_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate LATEST_ENTRY_DATE = LocalDate.of(9999, 12, 31);
+
     private final JournalEntryRepository journalEntryRepository;
     private final AccountRepository accountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JournalEntryBatchRepository journalEntryBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentNumberAllocator documentNumberAllocator;
+
+    @Value("${accounting.journal.bulk.chunk-size:500}")
+    private int bulkChunkSize = 500;
 
     public List<JournalEntry> findAll() {
         return journalEntryRepository.findAll();
     }
 
+    public Page<JournalEntrySummaryDTO> findSummaries(Pageable pageable) {
+        return journalEntryRepository.findSummaryPage(pageable);
+    }
+
     public Page<JournalEntry> findAll(Pageable pageable) {
-        return journalEntryRepository.findAll(pageable);
+        return journalEntryRepository.findPageWithLines(pageable);
+    }
+
+    /**
+     * Lists entries newest first using a keyset cursor on (entryDate, entryNumber, id). Each call is a single
+     * limited query; no count query is issued, so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public JournalEntrySliceDTO findSlice(EntryStatus status, LocalDate startDate, LocalDate endDate,
+                                          String cursor, int size) {
+        PageRequest limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_SLICE_SIZE)));
+        LocalDate from = startDate != null ? startDate : EARLIEST_ENTRY_DATE;
+        LocalDate to = endDate != null ? endDate : LATEST_ENTRY_DATE;
+        Slice<JournalEntrySummaryDTO> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = status != null
+                    ? journalEntryRepository.findSummarySliceByStatus(status, from, to, limit)
+                    : journalEntryRepository.findSummarySlice(from, to, limit);
+        } else {
+            JournalCursor before = JournalCursor.decode(cursor);
+            slice = status != null
+                    ? journalEntryRepository.findSummarySliceByStatusBefore(status, from, to,
+                            before.entryDate(), before.entryNumber(), before.id(), limit)
+                    : journalEntryRepository.findSummarySliceBefore(from, to,
+                            before.entryDate(), before.entryNumber(), before.id(), limit);
+        }
+
+        JournalEntrySliceDTO result = new JournalEntrySliceDTO();
+        result.setContent(slice.getContent());
+        result.setSize(slice.getSize());
+        result.setHasNext(slice.hasNext());
+        if (slice.hasNext()) {
+            JournalEntrySummaryDTO last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            result.setNextCursor(new JournalCursor(last.getEntryDate(), last.getEntryNumber(), last.getId()).encode());
+        }
+        return result;
     }
 
     public Optional<JournalEntry> findById(Long id) {
@@ -76,9 +148,79 @@ public class JournalService {
         }
 
         validateEntry(entry);
+        checkAccountsActive(entry);
         return journalEntryRepository.save(entry);
     }
 
+    /**
+     * Imports many entries at once. Accounts for the whole batch are resolved with one query, each entry is
+     * checked with {@link #validateEntry}, and valid entries are inserted with JDBC batches, one transaction
+     * per chunk. Before each chunk is written its accounts are checked against the database, as in
+     * {@link #checkAccountsActive}. Invalid entries and entries in a chunk that fails to write are reported
+     * individually.
+     */
+    public JournalImportResultDTO importBatch(List<JournalEntryDTO> dtos, boolean post, User createdBy) {
+        Map<Long, Account> accounts = loadAccounts(dtos);
+        JournalImportResultDTO.EntryResultDTO[] results = new JournalImportResultDTO.EntryResultDTO[dtos.size()];
+        List<PendingEntry> pending = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            JournalEntryDTO dto = dtos.get(i);
+            try {
+                JournalEntry entry = buildEntry(dto, accounts);
+                validateEntry(entry);
+                entry.setCreatedBy(createdBy);
+                entry.setCreatedAt(now);
+                if (post) {
+                    entry.setStatus(EntryStatus.POSTED);
+                    entry.setPostedAt(now);
+                }
+                pending.add(new PendingEntry(i, entry));
+            } catch (AccountingException e) {
+                results[i] = JournalImportResultDTO.EntryResultDTO.failure(i, dto.getReference(), e.getMessage());
+            }
+        }
+
+        int chunkSize = Math.max(1, bulkChunkSize);
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<PendingEntry> chunk = rejectInactiveAccounts(
+                    pending.subList(from, Math.min(from + chunkSize, pending.size())), results);
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            List<JournalEntry> entries = chunk.stream().map(PendingEntry::entry).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<String> numbers = generateEntryNumbers(entries.size());
+                    for (int i = 0; i < entries.size(); i++) {
+                        entries.get(i).setEntryNumber(numbers.get(i));
+                    }
+                    journalEntryBatchRepository.insertAll(entries);
+                    if (post) {
+                        eventPublisher.publishEvent(LedgerPostingEvent.postedBatch(entries));
+                    }
+                });
+                for (PendingEntry p : chunk) {
+                    results[p.index()] = JournalImportResultDTO.EntryResultDTO.success(p.index(),
+                            p.entry().getReference(), p.entry().getId(), p.entry().getEntryNumber());
+                }
+            } catch (RuntimeException e) {
+                for (PendingEntry p : chunk) {
+                    results[p.index()] = JournalImportResultDTO.EntryResultDTO.failure(p.index(),
+                            p.entry().getReference(), "Chunk rolled back: " + e.getMessage());
+                }
+            }
+        }
+
+        JournalImportResultDTO result = new JournalImportResultDTO();
+        result.setTotal(dtos.size());
+        for (JournalImportResultDTO.EntryResultDTO entryResult : results) {
+            result.addResult(entryResult);
+        }
+        return result;
+    }
+
     @Transactional
     public JournalEntry updateEntry(Long id, JournalEntryDTO dto) {
         JournalEntry entry = journalEntryRepository.findById(id)
@@ -107,6 +249,7 @@ public class JournalService {
         }
 
         validateEntry(entry);
+        checkAccountsActive(entry);
         return journalEntryRepository.save(entry);
     }
 
@@ -120,11 +263,14 @@ public class JournalService {
         }
 
         validateEntry(entry);
+        checkAccountsActive(entry);
 
         entry.setStatus(EntryStatus.POSTED);
         entry.setPostedAt(LocalDateTime.now());
 
-        return journalEntryRepository.save(entry);
+        JournalEntry posted = journalEntryRepository.save(entry);
+        eventPublisher.publishEvent(LedgerPostingEvent.posted(posted));
+        return posted;
     }
 
     @Transactional
@@ -141,7 +287,9 @@ public class JournalService {
         }
 
         entry.setStatus(EntryStatus.VOID);
-        return journalEntryRepository.save(entry);
+        JournalEntry voided = journalEntryRepository.save(entry);
+        eventPublisher.publishEvent(LedgerPostingEvent.voided(voided));
+        return voided;
     }
 
     @Transactional
@@ -195,10 +343,124 @@ public class JournalService {
         }
     }
 
+    /**
+     * Checks the accounts of the entry against the database. Accounts loaded by id may come from the
+     * second-level cache, which does not see a deactivation made on another node until the entry expires.
+     */
+    private void checkAccountsActive(JournalEntry entry) {
+        Set<Long> accountIds = entry.getLines().stream()
+                .map(line -> line.getAccount().getId())
+                .collect(Collectors.toSet());
+        List<String> inactive = accountRepository.findInactiveCodes(accountIds);
+        if (!inactive.isEmpty()) {
+            throw new AccountingException("Cannot use inactive account: " + String.join(", ", inactive));
+        }
+    }
+
+    /**
+     * Import counterpart of {@link #checkAccountsActive}: one query for the accounts of a whole chunk.
+     * Entries using an inactive account are reported as failed; the rest of the chunk is returned.
+     */
+    private List<PendingEntry> rejectInactiveAccounts(List<PendingEntry> chunk,
+                                                      JournalImportResultDTO.EntryResultDTO[] results) {
+        Set<Long> accountIds = chunk.stream()
+                .flatMap(p -> p.entry().getLines().stream())
+                .map(line -> line.getAccount().getId())
+                .collect(Collectors.toSet());
+        Set<String> inactive = new HashSet<>(accountRepository.findInactiveCodes(accountIds));
+        if (inactive.isEmpty()) {
+            return chunk;
+        }
+
+        List<PendingEntry> active = new ArrayList<>();
+        for (PendingEntry p : chunk) {
+            List<String> codes = p.entry().getLines().stream()
+                    .map(line -> line.getAccount().getCode())
+                    .filter(inactive::contains)
+                    .distinct()
+                    .toList();
+            if (codes.isEmpty()) {
+                active.add(p);
+            } else {
+                results[p.index()] = JournalImportResultDTO.EntryResultDTO.failure(p.index(),
+                        p.entry().getReference(), "Cannot use inactive account: " + String.join(", ", codes));
+            }
+        }
+        return active;
+    }
+
     private String generateEntryNumber() {
+        return generateEntryNumbers(1).get(0);
+    }
+
+    private List<String> generateEntryNumbers(int count) {
         String prefix = "JE-" + LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-        Integer maxNumber = journalEntryRepository.findMaxEntryNumberByPrefix(prefix);
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return prefix + "-" + String.format("%04d", nextNumber);
+        return documentNumberAllocator.next(prefix, count,
+                () -> journalEntryRepository.findMaxEntryNumberByPrefix(prefix));
+    }
+
+    private Map<Long, Account> loadAccounts(List<JournalEntryDTO> dtos) {
+        Set<Long> accountIds = new HashSet<>();
+        for (JournalEntryDTO dto : dtos) {
+            if (dto.getLines() != null) {
+                for (JournalEntryDTO.JournalEntryLineDTO line : dto.getLines()) {
+                    if (line.getAccountId() != null) {
+                        accountIds.add(line.getAccountId());
+                    }
+                }
+            }
+        }
+        return accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+    }
+
+    private JournalEntry buildEntry(JournalEntryDTO dto, Map<Long, Account> accounts) {
+        if (dto.getEntryDate() == null) {
+            throw new AccountingException("Entry date is required");
+        }
+
+        JournalEntry entry = new JournalEntry();
+        entry.setEntryDate(dto.getEntryDate());
+        entry.setDescription(dto.getDescription());
+        entry.setReference(dto.getReference());
+        entry.setStatus(EntryStatus.DRAFT);
+
+        if (dto.getLines() != null) {
+            for (JournalEntryDTO.JournalEntryLineDTO lineDto : dto.getLines()) {
+                Account account = accounts.get(lineDto.getAccountId());
+                if (account == null) {
+                    throw new AccountingException("Account not found: " + lineDto.getAccountId());
+                }
+
+                JournalEntryLine line = new JournalEntryLine();
+                line.setAccount(account);
+                line.setDebitAmount(lineDto.getDebitAmount() != null ? lineDto.getDebitAmount() : BigDecimal.ZERO);
+                line.setCreditAmount(lineDto.getCreditAmount() != null ? lineDto.getCreditAmount() : BigDecimal.ZERO);
+                line.setDescription(lineDto.getDescription());
+                entry.addLine(line);
+            }
+        }
+        return entry;
+    }
+
+    private record PendingEntry(int index, JournalEntry entry) {
+    }
+
+    private record JournalCursor(LocalDate entryDate, String entryNumber, Long id) {
+
+        String encode() {
+            String raw = entryDate + "|" + id + "|" + entryNumber;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static JournalCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                return new JournalCursor(LocalDate.parse(parts[0]), parts[2], Long.valueOf(parts[1]));
+            } catch (RuntimeException e) {
+                throw new AccountingException("Invalid journal cursor");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,77 @@
 package com.accounting.service;
 
 import com.accounting.dto.LedgerDTO;
+import com.accounting.dto.LedgerLineDTO;
+import com.accounting.dto.LedgerPageDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Account;
 import com.accounting.model.JournalEntryLine;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.JournalEntryLineRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
+@Timed(value = "accounting.service", histogram = true)
+@Slf4j
 public class LedgerService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final AccountRepository accountRepository;
     private final JournalEntryLineRepository journalEntryLineRepository;
+    private final PeriodBalanceService periodBalanceService;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec cursorKey;
+
+    public LedgerService(AccountRepository accountRepository, JournalEntryLineRepository journalEntryLineRepository,
+                         PeriodBalanceService periodBalanceService, ObjectMapper objectMapper,
+                         @Value("${accounting.ledger.cursor-secret:}") String cursorSecret) {
+        this.accountRepository = accountRepository;
+        this.journalEntryLineRepository = journalEntryLineRepository;
+        this.periodBalanceService = periodBalanceService;
+        this.objectMapper = objectMapper;
+        this.cursorKey = new SecretKeySpec(cursorSecretBytes(cursorSecret), LedgerCursor.MAC_ALGORITHM);
+    }
+
+    public enum ExportFormat {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        ExportFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
 
     public LedgerDTO generateLedger(Long accountId, LocalDate startDate, LocalDate endDate) {
         Account account = accountRepository.findById(accountId)
@@ -32,15 +85,7 @@ public class LedgerService {
         ledger.setStartDate(startDate);
         ledger.setEndDate(endDate);
 
-        BigDecimal openingDebit = journalEntryLineRepository.sumDebitByAccountIdBeforeDate(accountId, startDate);
-        BigDecimal openingCredit = journalEntryLineRepository.sumCreditByAccountIdBeforeDate(accountId, startDate);
-
-        BigDecimal openingBalance;
-        if (account.isDebitNormal()) {
-            openingBalance = openingDebit.subtract(openingCredit);
-        } else {
-            openingBalance = openingCredit.subtract(openingDebit);
-        }
+        BigDecimal openingBalance = getOpeningBalance(account, startDate);
         ledger.setOpeningBalance(openingBalance);
 
         List<JournalEntryLine> lines = journalEntryLineRepository
@@ -61,11 +106,7 @@ public class LedgerService {
             entry.setDebitAmount(line.getDebitAmount());
             entry.setCreditAmount(line.getCreditAmount());
 
-            if (account.isDebitNormal()) {
-                runningBalance = runningBalance.add(line.getDebitAmount()).subtract(line.getCreditAmount());
-            } else {
-                runningBalance = runningBalance.add(line.getCreditAmount()).subtract(line.getDebitAmount());
-            }
+            runningBalance = applyLine(account, runningBalance, line.getDebitAmount(), line.getCreditAmount());
             entry.setRunningBalance(runningBalance);
 
             ledger.addEntry(entry);
@@ -81,4 +122,188 @@ public class LedgerService {
         LocalDate today = LocalDate.now();
         return generateLedger(accountId, startOfYear, today);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns one page of the ledger in (entryDate, entryNumber, lineId) order. The cursor identifies the last
+     * row of the previous page and carries the running balance after it, so any page costs one bounded query.
+     * The cursor is signed and bound to the account and start date it was issued for, since the running
+     * balance it carries is only valid for those.
+     */
+    @Transactional(readOnly = true)
+    public LedgerPageDTO generateLedgerPage(Long accountId, LocalDate startDate, LocalDate endDate,
+                                            String cursor, int size) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountingException("Account not found: " + accountId));
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        BigDecimal openingBalance;
+        List<LedgerLineDTO> lines;
+        if (cursor == null || cursor.isBlank()) {
+            openingBalance = getOpeningBalance(account, startDate);
+            lines = journalEntryLineRepository.findLedgerPage(accountId, startDate, endDate, limit);
+        } else {
+            LedgerCursor after = LedgerCursor.decode(cursor, cursorKey);
+            if (!after.accountId().equals(accountId) || !after.startDate().equals(startDate)) {
+                throw new AccountingException("Ledger cursor was issued for a different account or start date");
+            }
+            openingBalance = after.runningBalance();
+            lines = journalEntryLineRepository.findLedgerPageAfter(accountId, startDate, endDate,
+                    after.entryDate(), after.entryNumber(), after.lineId(), limit);
+        }
+
+        boolean hasMore = lines.size() > pageSize;
+        if (hasMore) {
+            lines = lines.subList(0, pageSize);
+        }
+
+        BigDecimal runningBalance = openingBalance;
+        for (LedgerLineDTO line : lines) {
+            runningBalance = applyLine(account, runningBalance, line.getDebitAmount(), line.getCreditAmount());
+            line.setRunningBalance(runningBalance);
+        }
+
+        LedgerPageDTO page = new LedgerPageDTO();
+        page.setAccountId(account.getId());
+        page.setAccountCode(account.getCode());
+        page.setAccountName(account.getName());
+        page.setAccountType(account.getAccountType().getDisplayName());
+        page.setStartDate(startDate);
+        page.setEndDate(endDate);
+        page.setOpeningBalance(openingBalance);
+        page.setClosingBalance(runningBalance);
+        page.setEntries(lines);
+        page.setHasMore(hasMore);
+        if (hasMore) {
+            LedgerLineDTO last = lines.get(lines.size() - 1);
+            page.setNextCursor(new LedgerCursor(accountId, startDate, last.getEntryDate(), last.getEntryNumber(),
+                    last.getLineId(), runningBalance).encode(cursorKey));
+        }
+        return page;
+    }
+
+    /**
+     * Writes every posted line of the account in the range to the output stream, one row at a time.
+     * Rows are read through a forward-only cursor, so memory use does not depend on the number of lines.
+     */
+    @Transactional(readOnly = true)
+    public void exportLedger(Account account, LocalDate startDate, LocalDate endDate,
+                             ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write("entryDate,entryNumber,reference,description,debitAmount,creditAmount,runningBalance\n");
+        }
+
+        BigDecimal runningBalance = getOpeningBalance(account, startDate);
+        try (Stream<LedgerLineDTO> lines = journalEntryLineRepository
+                .streamByAccountIdAndPostedBetweenDates(account.getId(), startDate, endDate)) {
+            Iterator<LedgerLineDTO> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                LedgerLineDTO line = iterator.next();
+                runningBalance = applyLine(account, runningBalance, line.getDebitAmount(), line.getCreditAmount());
+                line.setRunningBalance(runningBalance);
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, line);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(line));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private BigDecimal getOpeningBalance(Account account, LocalDate startDate) {
+        return periodBalanceService.getTotalsAsOfDate(account.getId(), startDate.minusDays(1))
+                .getBalance(account.getAccountType());
+    }
+
+    /**
+     * Moves a running balance by one line in the account's normal direction.
+     */
+    public static BigDecimal applyLine(Account account, BigDecimal balance, BigDecimal debit, BigDecimal credit) {
+        if (account.isDebitNormal()) {
+            return balance.add(debit).subtract(credit);
+        }
+        return balance.add(credit).subtract(debit);
+    }
+
+    private void writeCsvRow(Writer writer, LedgerLineDTO line) throws IOException {
+        writer.write(String.valueOf(line.getEntryDate()));
+        writer.write(',');
+        writer.write(csv(line.getEntryNumber()));
+        writer.write(',');
+        writer.write(csv(line.getReference()));
+        writer.write(',');
+        writer.write(csv(line.getDescription()));
+        writer.write(',');
+        writer.write(line.getDebitAmount().toPlainString());
+        writer.write(',');
+        writer.write(line.getCreditAmount().toPlainString());
+        writer.write(',');
+        writer.write(line.getRunningBalance().toPlainString());
+        writer.write('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    // Without a configured secret each node signs with its own random key, so cursors only work on the node
+    // that issued them and until it restarts
+    private static byte[] cursorSecretBytes(String cursorSecret) {
+        if (cursorSecret != null && !cursorSecret.isBlank()) {
+            return cursorSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("accounting.ledger.cursor-secret is not set; ledger cursors are only valid on this node until restart");
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    private record LedgerCursor(Long accountId, LocalDate startDate, LocalDate entryDate, String entryNumber,
+                                Long lineId, BigDecimal runningBalance) {
+
+        static final String MAC_ALGORITHM = "HmacSHA256";
+
+        String encode(SecretKeySpec key) {
+            String raw = accountId + "|" + startDate + "|" + entryDate + "|" + lineId + "|"
+                    + runningBalance.toPlainString() + "|" + entryNumber;
+            byte[] payload = raw.getBytes(StandardCharsets.UTF_8);
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload, key));
+        }
+
+        static LedgerCursor decode(String cursor, SecretKeySpec key) {
+            try {
+                int dot = cursor.lastIndexOf('.');
+                byte[] payload = Base64.getUrlDecoder().decode(cursor.substring(0, dot));
+                byte[] signature = Base64.getUrlDecoder().decode(cursor.substring(dot + 1));
+                if (!MessageDigest.isEqual(signature, sign(payload, key))) {
+                    throw new AccountingException("Invalid ledger cursor");
+                }
+                String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|", 6);
+                return new LedgerCursor(Long.valueOf(parts[0]), LocalDate.parse(parts[1]), LocalDate.parse(parts[2]),
+                        parts[5], Long.valueOf(parts[3]), new BigDecimal(parts[4]));
+            } catch (RuntimeException e) {
+                throw new AccountingException("Invalid ledger cursor");
+            }
+        }
+
+        private static byte[] sign(byte[] payload, SecretKeySpec key) {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(key);
+                return mac.doFinal(payload);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+            }
+        }
+    }
+}
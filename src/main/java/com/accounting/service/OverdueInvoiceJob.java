@@ -0,0 +1,54 @@
+package com.accounting.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OverdueInvoiceJob {
+
+    static final String LOCK_NAME = "overdue-invoice-sweep";
+
+    private final InvoiceService invoiceService;
+    private final JobLockService jobLockService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+
+    @Scheduled(cron = "${accounting.invoices.overdue-sweep.cron:0 5 0 * * *}")
+    public void sweep() {
+        jobLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(30), Duration.ofMinutes(1), this::markOverdue);
+    }
+
+    /**
+     * Marks sent invoices past their due date as overdue in a single statement.
+     *
+     * @return the number of invoices updated
+     */
+    public int markOverdue() {
+        long started = System.nanoTime();
+        int updated = invoiceService.updateOverdueInvoices();
+        log.info("Overdue invoice sweep marked {} invoices as OVERDUE in {} ms", updated,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        if (updated > 0) {
+            dashboardSnapshotService.markDirty();
+        }
+        return updated;
+    }
+
+    /**
+     * Runs the sweep now under the same cross-node lock as the schedule.
+     *
+     * @return the number of invoices updated, or -1 if another node is already running the sweep
+     */
+    public int runNow() {
+        AtomicInteger updated = new AtomicInteger(-1);
+        jobLockService.runExclusively(LOCK_NAME, Duration.ofMinutes(30), Duration.ZERO,
+                () -> updated.set(markOverdue()));
+        return updated.get();
+    }
+}
@@ -0,0 +1,247 @@
+package com.accounting.service;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.PeriodBalanceVerificationDTO;
+import com.accounting.dto.PeriodTotalsDTO;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.model.AccountPeriodBalance;
+import com.accounting.repository.AccountPeriodBalanceRepository;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "accounting.service", histogram = true)
+@Slf4j
+public class PeriodBalanceService {
+
+    private static final LocalDate START_OF_TIME = LocalDate.of(1900, 1, 1);
+
+    private final AccountPeriodBalanceRepository periodBalanceRepository;
+    private final AccountRepository accountRepository;
+    private final JournalEntryLineRepository journalEntryLineRepository;
+
+    public PeriodBalanceService(AccountPeriodBalanceRepository periodBalanceRepository,
+                                AccountRepository accountRepository,
+                                JournalEntryLineRepository journalEntryLineRepository) {
+        this.periodBalanceRepository = periodBalanceRepository;
+        this.accountRepository = accountRepository;
+        this.journalEntryLineRepository = journalEntryLineRepository;
+    }
+
+    @EventListener
+    @Transactional
+    public void onLedgerPosting(LedgerPostingEvent event) {
+        Map<PeriodKey, BigDecimal[]> deltas = new HashMap<>();
+        for (LedgerPostingEvent.LineAmount line : event.getLines()) {
+            PeriodKey key = new PeriodKey(line.getAccountId(), line.getEntryDate().withDayOfMonth(1));
+            BigDecimal[] totals = deltas.computeIfAbsent(key, k -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            totals[0] = totals[0].add(event.signedDebit(line));
+            totals[1] = totals[1].add(event.signedCredit(line));
+        }
+
+        deltas.forEach((key, totals) ->
+                periodBalanceRepository.addToPeriod(key.accountId(), key.periodStart(), totals[0], totals[1]));
+    }
+
+    public AccountTotalsDTO getTotalsAsOfDate(Long accountId, LocalDate asOfDate) {
+        LocalDate periodStart = asOfDate.withDayOfMonth(1);
+        if (isLastDayOfMonth(asOfDate)) {
+            return sumPeriods(accountId, START_OF_TIME, periodStart);
+        }
+
+        AccountTotalsDTO totals = sumPeriods(accountId, START_OF_TIME, periodStart.minusMonths(1));
+        return add(totals, sumLines(accountId, periodStart, asOfDate));
+    }
+
+    public AccountTotalsDTO getTotalsBetweenDates(Long accountId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return new AccountTotalsDTO(accountId, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
+
+        LocalDate firstFullPeriod = startDate.getDayOfMonth() == 1
+                ? startDate
+                : startDate.withDayOfMonth(1).plusMonths(1);
+        LocalDate lastFullPeriod = isLastDayOfMonth(endDate)
+                ? endDate.withDayOfMonth(1)
+                : endDate.withDayOfMonth(1).minusMonths(1);
+
+        if (firstFullPeriod.isAfter(lastFullPeriod)) {
+            return sumLines(accountId, startDate, endDate);
+        }
+
+        AccountTotalsDTO totals = sumPeriods(accountId, firstFullPeriod, lastFullPeriod);
+        if (startDate.isBefore(firstFullPeriod)) {
+            totals = add(totals, sumLines(accountId, startDate, firstFullPeriod.minusDays(1)));
+        }
+        LocalDate afterLastFullPeriod = lastFullPeriod.plusMonths(1);
+        if (!endDate.isBefore(afterLastFullPeriod)) {
+            totals = add(totals, sumLines(accountId, afterLastFullPeriod, endDate));
+        }
+        return totals;
+    }
+
+    public Map<Long, AccountTotalsDTO> getTotalsByAccountAsOfDate(LocalDate asOfDate) {
+        LocalDate periodStart = asOfDate.withDayOfMonth(1);
+        if (isLastDayOfMonth(asOfDate)) {
+            return toMap(periodBalanceRepository.sumByAccountUpToPeriod(periodStart));
+        }
+
+        Map<Long, AccountTotalsDTO> totals = toMap(periodBalanceRepository.sumByAccountUpToPeriod(periodStart.minusMonths(1)));
+        for (AccountTotalsDTO partial : journalEntryLineRepository.sumByAccountBetweenDates(periodStart, asOfDate)) {
+            totals.merge(partial.getAccountId(), partial, this::add);
+        }
+        return totals;
+    }
+
+    /**
+     * Totals of every account between two dates, split like {@link #getTotalsBetweenDates}: one grouped
+     * query over the rollups of the full months and one over the lines of each partial boundary month.
+     */
+    public Map<Long, AccountTotalsDTO> getTotalsByAccountBetweenDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return new HashMap<>();
+        }
+
+        LocalDate firstFullPeriod = startDate.getDayOfMonth() == 1
+                ? startDate
+                : startDate.withDayOfMonth(1).plusMonths(1);
+        LocalDate lastFullPeriod = isLastDayOfMonth(endDate)
+                ? endDate.withDayOfMonth(1)
+                : endDate.withDayOfMonth(1).minusMonths(1);
+
+        if (firstFullPeriod.isAfter(lastFullPeriod)) {
+            return toMap(journalEntryLineRepository.sumByAccountBetweenDates(startDate, endDate));
+        }
+
+        Map<Long, AccountTotalsDTO> totals = toMap(
+                periodBalanceRepository.sumByAccountBetweenPeriods(firstFullPeriod, lastFullPeriod));
+        if (startDate.isBefore(firstFullPeriod)) {
+            for (AccountTotalsDTO partial : journalEntryLineRepository.sumByAccountBetweenDates(
+                    startDate, firstFullPeriod.minusDays(1))) {
+                totals.merge(partial.getAccountId(), partial, this::add);
+            }
+        }
+        LocalDate afterLastFullPeriod = lastFullPeriod.plusMonths(1);
+        if (!endDate.isBefore(afterLastFullPeriod)) {
+            for (AccountTotalsDTO partial : journalEntryLineRepository.sumByAccountBetweenDates(
+                    afterLastFullPeriod, endDate)) {
+                totals.merge(partial.getAccountId(), partial, this::add);
+            }
+        }
+        return totals;
+    }
+
+    @Transactional
+    public PeriodBalanceVerificationDTO rebuild() {
+        log.info("Rebuilding account period balances from journal entry lines");
+        periodBalanceRepository.deleteAllPeriods();
+
+        List<PeriodTotalsDTO> periods = journalEntryLineRepository.sumByAccountAndMonth();
+        List<AccountPeriodBalance> rollups = periods.stream().map(period -> {
+            AccountPeriodBalance rollup = newPeriod(period.getAccountId(), period.getPeriodStart());
+            rollup.setDebitTotal(period.getTotalDebit());
+            rollup.setCreditTotal(period.getTotalCredit());
+            return rollup;
+        }).collect(Collectors.toList());
+        periodBalanceRepository.saveAll(rollups);
+        periodBalanceRepository.flush();
+
+        PeriodBalanceVerificationDTO verification = verify();
+        log.info("Rebuilt {} account period balances, {} mismatches",
+                rollups.size(), verification.getMismatches().size());
+        return verification;
+    }
+
+    @Transactional(readOnly = true)
+    public PeriodBalanceVerificationDTO verify() {
+        Map<PeriodKey, PeriodTotalsDTO> expected = new HashMap<>();
+        for (PeriodTotalsDTO period : journalEntryLineRepository.sumByAccountAndMonth()) {
+            expected.put(new PeriodKey(period.getAccountId(), period.getPeriodStart()), period);
+        }
+        Map<PeriodKey, PeriodTotalsDTO> actual = new HashMap<>();
+        for (PeriodTotalsDTO period : periodBalanceRepository.findAllPeriodTotals()) {
+            actual.put(new PeriodKey(period.getAccountId(), period.getPeriodStart()), period);
+        }
+
+        Set<PeriodKey> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        PeriodBalanceVerificationDTO verification = new PeriodBalanceVerificationDTO();
+        verification.setPeriodsChecked(keys.size());
+
+        for (PeriodKey key : keys) {
+            PeriodTotalsDTO raw = expected.get(key);
+            PeriodTotalsDTO rollup = actual.get(key);
+            BigDecimal expectedDebit = raw != null ? raw.getTotalDebit() : BigDecimal.ZERO;
+            BigDecimal expectedCredit = raw != null ? raw.getTotalCredit() : BigDecimal.ZERO;
+            BigDecimal rollupDebit = rollup != null ? rollup.getTotalDebit() : BigDecimal.ZERO;
+            BigDecimal rollupCredit = rollup != null ? rollup.getTotalCredit() : BigDecimal.ZERO;
+
+            if (expectedDebit.compareTo(rollupDebit) != 0 || expectedCredit.compareTo(rollupCredit) != 0) {
+                verification.addMismatch(new PeriodBalanceVerificationDTO.MismatchDTO(
+                        key.accountId(), key.periodStart(),
+                        expectedDebit, expectedCredit, rollupDebit, rollupCredit));
+            }
+        }
+        return verification;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfMissing() {
+        if (periodBalanceRepository.count() == 0 && journalEntryLineRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    private AccountPeriodBalance newPeriod(Long accountId, LocalDate periodStart) {
+        AccountPeriodBalance rollup = new AccountPeriodBalance();
+        rollup.setAccount(accountRepository.getReferenceById(accountId));
+        rollup.setPeriodStart(periodStart);
+        return rollup;
+    }
+
+    private AccountTotalsDTO sumPeriods(Long accountId, LocalDate fromPeriod, LocalDate toPeriod) {
+        return periodBalanceRepository.sumByAccountIdBetweenPeriods(accountId, fromPeriod, toPeriod)
+                .orElseGet(() -> new AccountTotalsDTO(accountId, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+
+    private AccountTotalsDTO sumLines(Long accountId, LocalDate startDate, LocalDate endDate) {
+        return journalEntryLineRepository.sumByAccountIdBetweenDates(accountId, startDate, endDate)
+                .orElseGet(() -> new AccountTotalsDTO(accountId, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+
+    private AccountTotalsDTO add(AccountTotalsDTO left, AccountTotalsDTO right) {
+        return new AccountTotalsDTO(left.getAccountId(),
+                left.getTotalDebit().add(right.getTotalDebit()),
+                left.getTotalCredit().add(right.getTotalCredit()));
+    }
+
+    private Map<Long, AccountTotalsDTO> toMap(List<AccountTotalsDTO> totals) {
+        return totals.stream()
+                .collect(Collectors.toMap(AccountTotalsDTO::getAccountId, Function.identity(), this::add, HashMap::new));
+    }
+
+    private static boolean isLastDayOfMonth(LocalDate date) {
+        return date.getDayOfMonth() == date.lengthOfMonth();
+    }
+
+    private record PeriodKey(Long accountId, LocalDate periodStart) {
+    }
+}
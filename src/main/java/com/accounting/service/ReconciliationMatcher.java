@@ -0,0 +1,188 @@
+package com.accounting.service;
+
+import com.accounting.dto.AutoReconcileResultDTO;
+import com.accounting.dto.ReconciliationCandidateDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Greedy in-memory matcher for auto-reconciliation. Journal lines are indexed by exact amount, with each
+ * bucket kept sorted by date, so each statement line only looks at same-amount lines inside the date window.
+ * Among those the nearest date wins, then the most similar reference/description, then the lowest line id.
+ */
+public class ReconciliationMatcher {
+
+    private final int dateWindowDays;
+
+    public ReconciliationMatcher(int dateWindowDays) {
+        if (dateWindowDays < 0) {
+            throw new IllegalArgumentException("Date window must not be negative");
+        }
+        this.dateWindowDays = dateWindowDays;
+    }
+
+    public List<AutoReconcileResultDTO.MatchDTO> match(List<ReconciliationCandidateDTO> statements,
+                                                       List<ReconciliationCandidateDTO> journalLines) {
+        Map<BigDecimal, TreeMap<LocalDate, List<Candidate>>> index = buildIndex(journalLines);
+        List<AutoReconcileResultDTO.MatchDTO> matches = new ArrayList<>();
+        if (index.isEmpty()) {
+            return matches;
+        }
+
+        List<ReconciliationCandidateDTO> ordered = new ArrayList<>(statements);
+        ordered.sort(Comparator.comparing(ReconciliationCandidateDTO::getDate)
+                .thenComparing(ReconciliationCandidateDTO::getId));
+
+        for (ReconciliationCandidateDTO statement : ordered) {
+            TreeMap<LocalDate, List<Candidate>> bucket = index.get(amountKey(statement.getAmount()));
+            if (bucket == null) {
+                continue;
+            }
+            Candidate statementSide = new Candidate(statement);
+            Candidate best = null;
+            long bestDistance = Long.MAX_VALUE;
+            double bestSimilarity = -1;
+
+            NavigableMap<LocalDate, List<Candidate>> window = bucket.subMap(
+                    statement.getDate().minusDays(dateWindowDays), true,
+                    statement.getDate().plusDays(dateWindowDays), true);
+            for (Map.Entry<LocalDate, List<Candidate>> entry : window.entrySet()) {
+                long distance = Math.abs(ChronoUnit.DAYS.between(statement.getDate(), entry.getKey()));
+                if (distance > bestDistance) {
+                    continue;
+                }
+                for (Candidate line : entry.getValue()) {
+                    double similarity = similarity(statementSide, line);
+                    if (distance < bestDistance || similarity > bestSimilarity
+                            || (similarity == bestSimilarity && line.item.getId() < best.item.getId())) {
+                        best = line;
+                        bestDistance = distance;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+
+            if (best != null) {
+                remove(index, best);
+                matches.add(new AutoReconcileResultDTO.MatchDTO(statement.getId(), best.item.getId(),
+                        ChronoUnit.DAYS.between(statement.getDate(), best.item.getDate())));
+            }
+        }
+        return matches;
+    }
+
+    private Map<BigDecimal, TreeMap<LocalDate, List<Candidate>>> buildIndex(List<ReconciliationCandidateDTO> journalLines) {
+        Map<BigDecimal, TreeMap<LocalDate, List<Candidate>>> index = new HashMap<>();
+        for (ReconciliationCandidateDTO line : journalLines) {
+            if (line.getAmount().signum() == 0) {
+                continue;
+            }
+            index.computeIfAbsent(amountKey(line.getAmount()), key -> new TreeMap<>())
+                    .computeIfAbsent(line.getDate(), date -> new ArrayList<>())
+                    .add(new Candidate(line));
+        }
+        return index;
+    }
+
+    private static void remove(Map<BigDecimal, TreeMap<LocalDate, List<Candidate>>> index, Candidate matched) {
+        BigDecimal key = amountKey(matched.item.getAmount());
+        TreeMap<LocalDate, List<Candidate>> bucket = index.get(key);
+        List<Candidate> sameDay = bucket.get(matched.item.getDate());
+        sameDay.remove(matched);
+        if (sameDay.isEmpty()) {
+            bucket.remove(matched.item.getDate());
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Normalises the scale so 10.5 and 10.50 land in the same bucket.
+     */
+    static BigDecimal amountKey(BigDecimal amount) {
+        return amount.stripTrailingZeros();
+    }
+
+    /**
+     * Scores how alike the two sides' texts are: 1 for equal references, 0.9 when one reference appears in
+     * the other side's text, otherwise the Jaccard overlap of their word tokens.
+     */
+    static double similarity(Candidate statement, Candidate line) {
+        String statementReference = normalize(statement.item.getReference());
+        String lineReference = normalize(line.item.getReference());
+        if (!statementReference.isEmpty() && statementReference.equals(lineReference)) {
+            return 1.0;
+        }
+        if ((!lineReference.isEmpty() && statement.text().contains(lineReference))
+                || (!statementReference.isEmpty() && line.text().contains(statementReference))) {
+            return 0.9;
+        }
+
+        Set<String> statementTokens = statement.tokens();
+        Set<String> lineTokens = line.tokens();
+        if (statementTokens.isEmpty() || lineTokens.isEmpty()) {
+            return 0;
+        }
+        int common = 0;
+        for (String token : statementTokens) {
+            if (lineTokens.contains(token)) {
+                common++;
+            }
+        }
+        return (double) common / (statementTokens.size() + lineTokens.size() - common);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+
+    static final class Candidate {
+        private final ReconciliationCandidateDTO item;
+        private String text;
+        private Set<String> tokens;
+
+        Candidate(ReconciliationCandidateDTO item) {
+            this.item = item;
+        }
+
+        String text() {
+            if (text == null) {
+                text = normalize(item.getReference()) + " " + normalize(item.getDescription());
+            }
+            return text;
+        }
+
+        Set<String> tokens() {
+            if (tokens == null) {
+                tokens = new HashSet<>();
+                addTokens(item.getReference());
+                addTokens(item.getDescription());
+            }
+            return tokens;
+        }
+
+        private void addTokens(String value) {
+            if (value == null) {
+                return;
+            }
+            for (String token : value.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")) {
+                if (token.length() > 1) {
+                    tokens.add(token);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.accounting.service;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.ReconciliationSummaryDTO;
+import com.accounting.event.BankReconciliationEvent;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.BankAccount;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reconciled balance vs GL balance per bank account. Both sides are computed with grouped SUM queries for
+ * all requested accounts at once, and results are cached until a posting touches the linked GL account or
+ * statements of the bank account are matched or unmatched. Those events are only seen on this node, so
+ * summaries also expire after {@code accounting.reconciliation.summary-cache.ttl}, like the balance cache.
+ * At most {@link #MAX_CACHED_SUMMARIES} are kept; the least recently read one is dropped first.
+ */
+@Service
+@Timed(value = "accounting.service", histogram = true)
+public class ReconciliationSummaryService {
+
+    static final int MAX_CACHED_SUMMARIES = 2048;
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankStatementRepository bankStatementRepository;
+    private final JournalEntryLineRepository journalEntryLineRepository;
+    private final long ttlNanos;
+
+    // Access-ordered; every read and write holds the map's lock, including the generation check on store
+    private final Map<SummaryKey, CachedSummary> summaries = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SummaryKey, CachedSummary> eldest) {
+                    return size() > MAX_CACHED_SUMMARIES;
+                }
+            });
+    private final AtomicLong generation = new AtomicLong();
+
+    public ReconciliationSummaryService(BankAccountRepository bankAccountRepository,
+                                        BankStatementRepository bankStatementRepository,
+                                        JournalEntryLineRepository journalEntryLineRepository,
+                                        @Value("${accounting.reconciliation.summary-cache.ttl:PT15M}") Duration ttl) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankStatementRepository = bankStatementRepository;
+        this.journalEntryLineRepository = journalEntryLineRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    // Not read-only: cache misses are filled from these reads, so they must not be served by a lagging replica
+    @Transactional
+    public List<ReconciliationSummaryDTO> getSummaries(LocalDate asOfDate) {
+        return summarize(bankAccountRepository.findAllActive(), asOfDate);
+    }
+
+    @Transactional
+    public ReconciliationSummaryDTO getSummary(Long bankAccountId, LocalDate asOfDate) {
+        BankAccount bankAccount = bankAccountRepository.findById(bankAccountId)
+                .orElseThrow(() -> new AccountingException("Bank account not found: " + bankAccountId));
+        return summarize(List.of(bankAccount), asOfDate).get(0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerPosting(LedgerPostingEvent event) {
+        Set<Long> accountIds = new HashSet<>();
+        for (LedgerPostingEvent.LineAmount line : event.getLines()) {
+            accountIds.add(line.getAccountId());
+        }
+        synchronized (summaries) {
+            generation.incrementAndGet();
+            summaries.values().removeIf(cached -> accountIds.contains(cached.summary().getGlAccountId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBankReconciliation(BankReconciliationEvent event) {
+        synchronized (summaries) {
+            generation.incrementAndGet();
+            summaries.keySet().removeIf(key -> event.getBankAccountIds().contains(key.bankAccountId()));
+        }
+    }
+
+    private List<ReconciliationSummaryDTO> summarize(List<BankAccount> bankAccounts, LocalDate asOfDate) {
+        Map<Long, ReconciliationSummaryDTO> found = new HashMap<>();
+        List<BankAccount> missing = new ArrayList<>();
+        for (BankAccount bankAccount : bankAccounts) {
+            ReconciliationSummaryDTO summary = cachedSummary(new SummaryKey(bankAccount.getId(), asOfDate));
+            if (summary != null) {
+                found.put(bankAccount.getId(), summary);
+            } else {
+                missing.add(bankAccount);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(load(missing, asOfDate));
+        }
+
+        List<ReconciliationSummaryDTO> result = new ArrayList<>(bankAccounts.size());
+        for (BankAccount bankAccount : bankAccounts) {
+            result.add(found.get(bankAccount.getId()));
+        }
+        return result;
+    }
+
+    private ReconciliationSummaryDTO cachedSummary(SummaryKey key) {
+        synchronized (summaries) {
+            CachedSummary cached = summaries.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.loadedAtNanos() >= ttlNanos) {
+                summaries.remove(key);
+                return null;
+            }
+            return cached.summary();
+        }
+    }
+
+    private Map<Long, ReconciliationSummaryDTO> load(List<BankAccount> bankAccounts, LocalDate asOfDate) {
+        long startGeneration = generation.get();
+
+        Set<Long> bankAccountIds = new HashSet<>();
+        Set<Long> glAccountIds = new HashSet<>();
+        for (BankAccount bankAccount : bankAccounts) {
+            bankAccountIds.add(bankAccount.getId());
+            if (bankAccount.getGlAccount() != null) {
+                glAccountIds.add(bankAccount.getGlAccount().getId());
+            }
+        }
+
+        Map<Long, AccountTotalsDTO> statementTotals = byAccountId(
+                bankStatementRepository.sumReconciledByBankAccountIds(bankAccountIds, asOfDate));
+        Map<Long, AccountTotalsDTO> glTotals = glAccountIds.isEmpty() ? Map.of()
+                : byAccountId(journalEntryLineRepository.sumByAccountIdsAsOf(glAccountIds, asOfDate));
+
+        Map<Long, ReconciliationSummaryDTO> loaded = bankAccounts.stream().collect(Collectors.toMap(
+                BankAccount::getId, bankAccount -> toSummary(bankAccount, asOfDate, statementTotals, glTotals)));
+
+        synchronized (summaries) {
+            if (generation.get() == startGeneration) {
+                long loadedAtNanos = System.nanoTime();
+                loaded.values().forEach(summary -> summaries.put(
+                        new SummaryKey(summary.getBankAccountId(), asOfDate), new CachedSummary(summary, loadedAtNanos)));
+            }
+        }
+        return loaded;
+    }
+
+    private static ReconciliationSummaryDTO toSummary(BankAccount bankAccount, LocalDate asOfDate,
+                                                      Map<Long, AccountTotalsDTO> statementTotals,
+                                                      Map<Long, AccountTotalsDTO> glTotals) {
+        ReconciliationSummaryDTO summary = new ReconciliationSummaryDTO();
+        summary.setBankAccountId(bankAccount.getId());
+        summary.setAccountName(bankAccount.getAccountName());
+        summary.setBankName(bankAccount.getBankName());
+        summary.setAsOfDate(asOfDate);
+
+        AccountTotalsDTO reconciled = statementTotals.get(bankAccount.getId());
+        BigDecimal reconciledBalance = bankAccount.getOpeningBalance() != null
+                ? bankAccount.getOpeningBalance() : BigDecimal.ZERO;
+        if (reconciled != null) {
+            reconciledBalance = reconciledBalance.add(reconciled.getTotalCredit()).subtract(reconciled.getTotalDebit());
+        }
+        summary.setReconciledBalance(reconciledBalance);
+
+        if (bankAccount.getGlAccount() != null) {
+            Long glAccountId = bankAccount.getGlAccount().getId();
+            AccountTotalsDTO gl = glTotals.get(glAccountId);
+            BigDecimal glBalance = gl != null ? gl.getTotalDebit().subtract(gl.getTotalCredit()) : BigDecimal.ZERO;
+            summary.setGlAccountId(glAccountId);
+            summary.setGlBalance(glBalance);
+            summary.setDifference(glBalance.subtract(reconciledBalance));
+        }
+        return summary;
+    }
+
+    private static Map<Long, AccountTotalsDTO> byAccountId(List<AccountTotalsDTO> totals) {
+        return totals.stream().collect(Collectors.toMap(AccountTotalsDTO::getAccountId, Function.identity()));
+    }
+
+    private record SummaryKey(Long bankAccountId, LocalDate asOfDate) {
+    }
+
+    private record CachedSummary(ReconciliationSummaryDTO summary, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.accounting.service;
+
+import com.accounting.dto.CacheRegionStatsDTO;
+import com.accounting.model.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statistics, metrics and eviction for the second-level cache of the reference entities. Edits made through
+ * JPA update the cache themselves; rows written with plain SQL (bulk loads, manual fixes) need
+ * {@link #evictAll()}, which is also exposed to admins.
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+    private final SessionFactory sessionFactory;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        Statistics statistics = sessionFactory.getStatistics();
+        for (String region : CacheRegions.ALL) {
+            FunctionCounter.builder("accounting.cache.gets", statistics, s -> getStats(s, region).getHits())
+                    .description("Second-level cache lookups")
+                    .tag("region", region)
+                    .tag("result", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder("accounting.cache.gets", statistics, s -> getStats(s, region).getMisses())
+                    .description("Second-level cache lookups")
+                    .tag("region", region)
+                    .tag("result", "miss")
+                    .register(meterRegistry);
+            Gauge.builder("accounting.cache.hit.ratio", statistics, s -> getStats(s, region).getHitRatio())
+                    .description("Share of second-level cache lookups answered from the cache")
+                    .tag("region", region)
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<CacheRegionStatsDTO> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsDTO> stats = new ArrayList<>();
+        for (String region : CacheRegions.ALL) {
+            stats.add(getStats(statistics, region));
+        }
+        return stats;
+    }
+
+    public void evictAll() {
+        sessionFactory.getCache().evictAllRegions();
+        log.info("Evicted the second-level cache");
+    }
+
+    // Counts stay at zero while hibernate.generate_statistics is off, and query regions only exist once used
+    private static CacheRegionStatsDTO getStats(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.isStatisticsEnabled()
+                ? statistics.getCacheRegionStatistics(region) : null;
+        if (regionStatistics == null) {
+            return new CacheRegionStatsDTO(region, 0, 0, 0);
+        }
+        return new CacheRegionStatsDTO(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                regionStatistics.getPutCount());
+    }
+}
@@ -1,5 +1,6 @@
 package com.accounting.service;
 
+import com.accounting.dto.AccountTotalsDTO;
 import com.accounting.dto.BalanceSheetDTO;
 import com.accounting.dto.DashboardDTO;
 import com.accounting.dto.ProfitLossDTO;
@@ -14,6 +15,7 @@ import com.accounting.model.JournalEntryLine;
 import com.accounting.repository.AccountRepository;
 import com.accounting.repository.InvoiceRepository;
 import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -23,9 +25,11 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReportService {
@@ -33,6 +37,7 @@ public class ReportService {
     private final AccountRepository accountRepository;
     private final AccountService accountService;
     private final JournalEntryRepository journalEntryRepository;
+    private final PeriodBalanceService periodBalanceService;
     private final InvoiceRepository invoiceRepository;
 
     public TrialBalanceDTO generateTrialBalance(LocalDate asOfDate) {
@@ -40,10 +45,15 @@ public class ReportService {
         trialBalance.setAsOfDate(asOfDate);
 
         List<Account> accounts = accountRepository.findAllActive();
+        Map<Long, AccountTotalsDTO> totalsByAccount = periodBalanceService.getTotalsByAccountAsOfDate(asOfDate);
 
         for (Account account : accounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+            AccountTotalsDTO totals = totalsByAccount.get(account.getId());
+            if (totals == null) {
+                continue;
+            }
 
+            BigDecimal balance = totals.getBalance(account.getAccountType());
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 TrialBalanceDTO.TrialBalanceLineDTO line = new TrialBalanceDTO.TrialBalanceLineDTO(
                         account.getId(),
@@ -64,9 +74,11 @@ public class ReportService {
         profitLoss.setStartDate(startDate);
         profitLoss.setEndDate(endDate);
 
+        Map<Long, AccountTotalsDTO> totalsByAccount = periodBalanceService.getTotalsByAccountBetweenDates(startDate, endDate);
+
         List<Account> revenueAccounts = accountRepository.findActiveByType(AccountType.REVENUE);
         for (Account account : revenueAccounts) {
-            BigDecimal balance = accountService.getBalanceBetweenDates(account.getId(), startDate, endDate);
+            BigDecimal balance = balanceOf(account, totalsByAccount);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 profitLoss.addRevenueAccount(new ProfitLossDTO.AccountBalanceDTO(
                         account.getId(),
@@ -79,7 +91,7 @@ public class ReportService {
 
         List<Account> expenseAccounts = accountRepository.findActiveByType(AccountType.EXPENSE);
         for (Account account : expenseAccounts) {
-            BigDecimal balance = accountService.getBalanceBetweenDates(account.getId(), startDate, endDate);
+            BigDecimal balance = balanceOf(account, totalsByAccount);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 profitLoss.addExpenseAccount(new ProfitLossDTO.AccountBalanceDTO(
                         account.getId(),
@@ -98,9 +110,11 @@ public class ReportService {
         BalanceSheetDTO balanceSheet = new BalanceSheetDTO();
         balanceSheet.setAsOfDate(asOfDate);
 
+        Map<Long, AccountTotalsDTO> totalsByAccount = periodBalanceService.getTotalsByAccountAsOfDate(asOfDate);
+
         List<Account> assetAccounts = accountRepository.findActiveByType(AccountType.ASSET);
         for (Account account : assetAccounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+            BigDecimal balance = balanceOf(account, totalsByAccount);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 balanceSheet.addAssetAccount(new BalanceSheetDTO.AccountBalanceDTO(
                         account.getId(),
@@ -113,7 +127,7 @@ public class ReportService {
 
         List<Account> liabilityAccounts = accountRepository.findActiveByType(AccountType.LIABILITY);
         for (Account account : liabilityAccounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+            BigDecimal balance = balanceOf(account, totalsByAccount);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 balanceSheet.addLiabilityAccount(new BalanceSheetDTO.AccountBalanceDTO(
                         account.getId(),
@@ -126,7 +140,7 @@ public class ReportService {
 
         List<Account> equityAccounts = accountRepository.findActiveByType(AccountType.EQUITY);
         for (Account account : equityAccounts) {
-            BigDecimal balance = accountService.getBalanceAsOfDate(account.getId(), asOfDate);
+            BigDecimal balance = balanceOf(account, totalsByAccount);
             if (balance.compareTo(BigDecimal.ZERO) != 0) {
                 balanceSheet.addEquityAccount(new BalanceSheetDTO.AccountBalanceDTO(
                         account.getId(),
@@ -149,26 +163,9 @@ public class ReportService {
         LocalDate today = LocalDate.now();
         LocalDate startOfYear = today.withDayOfYear(1);
 
-        List<Account> assetAccounts = accountRepository.findActiveByType(AccountType.ASSET);
-        BigDecimal totalAssets = BigDecimal.ZERO;
-        for (Account account : assetAccounts) {
-            totalAssets = totalAssets.add(accountService.getBalance(account.getId()));
-        }
-        dashboard.setTotalAssets(totalAssets);
-
-        List<Account> liabilityAccounts = accountRepository.findActiveByType(AccountType.LIABILITY);
-        BigDecimal totalLiabilities = BigDecimal.ZERO;
-        for (Account account : liabilityAccounts) {
-            totalLiabilities = totalLiabilities.add(accountService.getBalance(account.getId()));
-        }
-        dashboard.setTotalLiabilities(totalLiabilities);
-
-        List<Account> equityAccounts = accountRepository.findActiveByType(AccountType.EQUITY);
-        BigDecimal totalEquity = BigDecimal.ZERO;
-        for (Account account : equityAccounts) {
-            totalEquity = totalEquity.add(accountService.getBalance(account.getId()));
-        }
-        dashboard.setTotalEquity(totalEquity);
+        dashboard.setTotalAssets(totalBalance(accountRepository.findActiveByType(AccountType.ASSET)));
+        dashboard.setTotalLiabilities(totalBalance(accountRepository.findActiveByType(AccountType.LIABILITY)));
+        dashboard.setTotalEquity(totalBalance(accountRepository.findActiveByType(AccountType.EQUITY)));
 
         ProfitLossDTO profitLoss = generateProfitLoss(startOfYear, today);
         dashboard.setTotalRevenue(profitLoss.getTotalRevenue());
@@ -176,25 +173,26 @@ public class ReportService {
         dashboard.setNetIncome(profitLoss.getNetIncome());
 
         accountRepository.findByCode("1000").ifPresent(cashAccount -> {
-            dashboard.setCashBalance(accountService.getBalance(cashAccount.getId()));
+            dashboard.setCashBalance(accountService.getBalance(cashAccount));
         });
 
         accountRepository.findByCode("1200").ifPresent(arAccount -> {
-            dashboard.setAccountsReceivable(accountService.getBalance(arAccount.getId()));
+            dashboard.setAccountsReceivable(accountService.getBalance(arAccount));
         });
 
         accountRepository.findByCode("2000").ifPresent(apAccount -> {
-            dashboard.setAccountsPayable(accountService.getBalance(apAccount.getId()));
+            dashboard.setAccountsPayable(accountService.getBalance(apAccount));
         });
 
         dashboard.setPendingJournalEntries(journalEntryRepository.countByStatus(EntryStatus.DRAFT));
 
-        dashboard.setOverdueInvoices((long) invoiceRepository.findOverdueInvoices(today).size());
+        dashboard.setOverdueInvoices(invoiceRepository.countOverdueInvoices(today));
         dashboard.setOverdueAmount(invoiceRepository.sumTotalByStatus(InvoiceStatus.OVERDUE));
 
         // Recent Transactions
         PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "entryDate"));
-        List<JournalEntry> recentEntries = journalEntryRepository.findByStatus(EntryStatus.POSTED, pageRequest).getContent();
+        List<JournalEntry> recentEntries = journalEntryRepository
+                .findSliceWithLinesAndAccounts(EntryStatus.POSTED, pageRequest).getContent();
 
         List<RecentTransactionDTO> transactions = recentEntries.stream().map(entry -> {
             BigDecimal amount = BigDecimal.ZERO;
@@ -218,4 +216,14 @@ public class ReportService {
 
         return dashboard;
     }
-}
\ No newline at end of file
+
+    private static BigDecimal balanceOf(Account account, Map<Long, AccountTotalsDTO> totalsByAccount) {
+        AccountTotalsDTO totals = totalsByAccount.get(account.getId());
+        return totals != null ? totals.getBalance(account.getAccountType()) : BigDecimal.ZERO;
+    }
+
+    private BigDecimal totalBalance(List<Account> accounts) {
+        return accountService.getBalances(accounts).values().stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,170 @@
+package com.accounting.service;
+
+import com.accounting.dto.StatementImportResultDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.BankStatement;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementBatchRepository;
+import com.accounting.service.statement.Camt053StatementParser;
+import com.accounting.service.statement.CsvStatementParser;
+import com.accounting.service.statement.OfxStatementParser;
+import com.accounting.service.statement.ParsedStatementLine;
+import com.accounting.service.statement.StatementFormat;
+import com.accounting.service.statement.StatementLineHandler;
+import com.accounting.service.statement.StatementParser;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed(value = "accounting.service", histogram = true)
+@Slf4j
+public class StatementImportService {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final BankStatementBatchRepository bankStatementBatchRepository;
+    private final int batchSize;
+
+    public StatementImportService(BankAccountRepository bankAccountRepository,
+                                  BankStatementBatchRepository bankStatementBatchRepository,
+                                  @Value("${accounting.bank.import.batch-size:500}") int batchSize) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.bankStatementBatchRepository = bankStatementBatchRepository;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Streams a statement file into bank_statements. Rows are parsed one at a time, checked against rows
+     * stored for the account before the import, and written in JDBC batches. Only one counter per distinct
+     * row key is kept in memory, not the rows themselves.
+     */
+    @Transactional
+    public StatementImportResultDTO importFile(Long bankAccountId, StatementFormat format, InputStream inputStream,
+                                               String csvDateFormat) throws IOException {
+        if (!bankAccountRepository.existsById(bankAccountId)) {
+            throw new AccountingException("Bank account not found: " + bankAccountId);
+        }
+
+        long started = System.nanoTime();
+        StatementImportResultDTO result = new StatementImportResultDTO();
+        result.setFormat(format.name());
+
+        BatchWriter writer = new BatchWriter(bankAccountId, result);
+        createParser(format, csvDateFormat).parse(inputStream, writer);
+        writer.flush();
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(Math.round(result.getRowsRead() * 1_000_000_000.0 / elapsedNanos * 10) / 10.0);
+        log.info("Imported {} statement rows for bank account {} ({} duplicates, {} rejected, {} rows/s)",
+                result.getImported(), bankAccountId, result.getDuplicatesSkipped(), result.getRejected(),
+                result.getRowsPerSecond());
+        return result;
+    }
+
+    private StatementParser createParser(StatementFormat format, String csvDateFormat) {
+        return switch (format) {
+            case CSV -> new CsvStatementParser(csvDateFormat != null && !csvDateFormat.isBlank()
+                    ? parseDatePattern(csvDateFormat) : null);
+            case OFX -> new OfxStatementParser();
+            case CAMT053 -> new Camt053StatementParser();
+        };
+    }
+
+    private static DateTimeFormatter parseDatePattern(String pattern) {
+        try {
+            return DateTimeFormatter.ofPattern(pattern);
+        } catch (IllegalArgumentException e) {
+            throw new AccountingException("Invalid date format: " + pattern);
+        }
+    }
+
+    private class BatchWriter implements StatementLineHandler {
+
+        private final Long bankAccountId;
+        private final StatementImportResultDTO result;
+        private final List<ParsedStatementLine> pending = new ArrayList<>();
+        // Per key, stored rows from before this import not yet matched by a file row. Taken the first time a key
+        // shows up, before this import inserted any row with it, so identical rows within the file are all kept
+        // unless the account already had them.
+        private final Map<String, Integer> unmatchedStored = new HashMap<>();
+
+        BatchWriter(Long bankAccountId, StatementImportResultDTO result) {
+            this.bankAccountId = bankAccountId;
+            this.result = result;
+        }
+
+        @Override
+        public void onLine(ParsedStatementLine line) {
+            result.setRowsRead(result.getRowsRead() + 1);
+            pending.add(line);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onReject(long rowNumber, String reason) {
+            result.setRowsRead(result.getRowsRead() + 1);
+            result.addRejection(rowNumber, reason);
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            LocalDate from = pending.get(0).getTransactionDate();
+            LocalDate to = from;
+            for (ParsedStatementLine line : pending) {
+                from = line.getTransactionDate().isBefore(from) ? line.getTransactionDate() : from;
+                to = line.getTransactionDate().isAfter(to) ? line.getTransactionDate() : to;
+            }
+            Map<String, Integer> stored = bankStatementBatchRepository.countKeys(bankAccountId, from, to);
+
+            List<BankStatement> statements = new ArrayList<>(pending.size());
+            for (ParsedStatementLine line : pending) {
+                String description = truncate(line.getDescription(), 255);
+                String reference = truncate(line.getReference(), 100);
+                String key = BankStatementBatchRepository.key(line.getTransactionDate(), reference,
+                        line.getDebitAmount(), line.getCreditAmount(), description);
+                int unmatched = unmatchedStored.computeIfAbsent(key, k -> stored.getOrDefault(k, 0));
+                if (unmatched > 0) {
+                    unmatchedStored.put(key, unmatched - 1);
+                    result.setDuplicatesSkipped(result.getDuplicatesSkipped() + 1);
+                    continue;
+                }
+                BankStatement statement = new BankStatement();
+                statement.setStatementDate(line.getStatementDate());
+                statement.setTransactionDate(line.getTransactionDate());
+                statement.setDescription(description);
+                statement.setReference(reference);
+                statement.setDebitAmount(line.getDebitAmount());
+                statement.setCreditAmount(line.getCreditAmount());
+                statement.setBalance(line.getBalance());
+                statements.add(statement);
+            }
+
+            if (!statements.isEmpty()) {
+                bankStatementBatchRepository.insertAll(bankAccountId, statements);
+                result.setImported(result.getImported() + statements.size());
+            }
+            pending.clear();
+        }
+
+        private static String truncate(String value, int maxLength) {
+            return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+        }
+    }
+}
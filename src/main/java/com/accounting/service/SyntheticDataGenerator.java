@@ -0,0 +1,406 @@
+package com.accounting.service;
+
+import com.accounting.dto.SyntheticDataResultDTO;
+import com.accounting.dto.SyntheticDataSpecDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.FiscalYear;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.FiscalYearRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Fills the database with deterministic synthetic data for performance work: fiscal years, customers,
+ * balanced journal entries spread evenly over the years, invoices with items and bank statements. Rows are
+ * written with JDBC batches (one commit per batch), so 10M journal lines fit in memory one batch at a time.
+ * Each kind of data draws from its own split of the seeded random, so changing one volume leaves the
+ * other data unchanged. Everything generated is marked with the SYN prefix in its number or code.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator {
+
+    static final String PREFIX = "SYN-";
+
+    // allocationSize on the entities' @SequenceGenerator
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String[] DESCRIPTIONS = {
+            "Office supplies", "Monthly rent", "Customer receipt", "Supplier payment", "Payroll",
+            "Utilities", "Bank charges", "Equipment purchase", "Consulting fees", "Travel expenses"
+    };
+
+    private static final InvoiceStatusWeight[] INVOICE_STATUSES = {
+            new InvoiceStatusWeight("PAID", 70), new InvoiceStatusWeight("SENT", 15),
+            new InvoiceStatusWeight("DRAFT", 7), new InvoiceStatusWeight("OVERDUE", 5),
+            new InvoiceStatusWeight("CANCELLED", 3)
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountRepository accountRepository;
+    private final FiscalYearRepository fiscalYearRepository;
+    private final PeriodBalanceService periodBalanceService;
+    private final BalanceCache balanceCache;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final ReferenceDataCache referenceDataCache;
+
+    public SyntheticDataResultDTO generate(SyntheticDataSpecDTO spec) {
+        validate(spec);
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM journal_entries WHERE entry_number LIKE ?", Long.class, PREFIX + "%");
+        if (existing != null && existing > 0) {
+            throw new AccountingException("Synthetic data is already present (" + existing + " journal entries)");
+        }
+
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        SplittableRandom journalRandom = random.split();
+        SplittableRandom invoiceRandom = random.split();
+        SplittableRandom statementRandom = random.split();
+
+        LocalDate firstDay = LocalDate.of(spec.getStartYear(), 1, 1);
+        int days = (int) ChronoUnit.DAYS.between(firstDay, firstDay.plusYears(spec.getFiscalYears()));
+
+        SyntheticDataResultDTO result = new SyntheticDataResultDTO();
+        result.setFiscalYears(createFiscalYears(spec));
+        Map<AccountType, List<Long>> chart = loadChart(result);
+
+        log.info("Generating synthetic data from {} over {} days: {}", firstDay, days, spec);
+        insertJournalEntries(spec, journalRandom, chart, firstDay, days, result);
+        List<Long> customerIds = insertCustomers(spec, result);
+        insertInvoices(spec, invoiceRandom, customerIds, chart.get(AccountType.REVENUE), firstDay, days, result);
+        insertBankStatements(spec, statementRandom, chart.get(AccountType.ASSET).get(0), firstDay, days, result);
+
+        referenceDataCache.evictAll();
+        periodBalanceService.rebuild();
+        balanceCache.reload();
+        dashboardSnapshotService.markDirty();
+
+        result.setElapsedMillis(Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("Synthetic data generated in {} ms: {}", result.getElapsedMillis(), result);
+        return result;
+    }
+
+    private static void validate(SyntheticDataSpecDTO spec) {
+        if (spec.getFiscalYears() < 1 || spec.getLinesPerEntry() < 2 || spec.getBatchSize() < 1
+                || spec.getItemsPerInvoice() < 1 || spec.getBankAccounts() < 0 || spec.getCustomers() < 0
+                || spec.getJournalEntries() < 0 || spec.getInvoices() < 0 || spec.getStatementsPerBankAccount() < 0) {
+            throw new AccountingException("Invalid synthetic data volumes: " + spec);
+        }
+        if (spec.getInvoices() > 0 && spec.getCustomers() == 0) {
+            throw new AccountingException("Invoices need at least one customer");
+        }
+    }
+
+    private int createFiscalYears(SyntheticDataSpecDTO spec) {
+        int created = 0;
+        for (int year = spec.getStartYear(); year < spec.getStartYear() + spec.getFiscalYears(); year++) {
+            String name = "FY " + year;
+            if (fiscalYearRepository.findByName(name).isEmpty()) {
+                FiscalYear fiscalYear = new FiscalYear();
+                fiscalYear.setName(name);
+                fiscalYear.setStartDate(LocalDate.of(year, 1, 1));
+                fiscalYear.setEndDate(LocalDate.of(year, 12, 31));
+                fiscalYearRepository.save(fiscalYear);
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Active account ids by type, in code order. Types without an active account get a SYN account.
+     */
+    private Map<AccountType, List<Long>> loadChart(SyntheticDataResultDTO result) {
+        Map<AccountType, List<Long>> chart = new EnumMap<>(AccountType.class);
+        for (Account account : accountRepository.findAllActive()) {
+            chart.computeIfAbsent(account.getAccountType(), type -> new ArrayList<>()).add(account.getId());
+        }
+        for (AccountType type : AccountType.values()) {
+            if (!chart.containsKey(type)) {
+                Account account = new Account();
+                account.setCode(PREFIX + type.name());
+                account.setName("Synthetic " + type.getDisplayName());
+                account.setAccountType(type);
+                account.setIsActive(true);
+                chart.put(type, new ArrayList<>(List.of(accountRepository.save(account).getId())));
+                result.setAccountsCreated(result.getAccountsCreated() + 1);
+            }
+        }
+        return chart;
+    }
+
+    private void insertJournalEntries(SyntheticDataSpecDTO spec, SplittableRandom random,
+                                      Map<AccountType, List<Long>> chart, LocalDate firstDay, int days,
+                                      SyntheticDataResultDTO result) {
+        List<Long> debitAccounts = new ArrayList<>(chart.get(AccountType.ASSET));
+        debitAccounts.addAll(chart.get(AccountType.EXPENSE));
+        List<Long> creditAccounts = new ArrayList<>(chart.get(AccountType.REVENUE));
+        creditAccounts.addAll(chart.get(AccountType.LIABILITY));
+        creditAccounts.addAll(chart.get(AccountType.EQUITY));
+        creditAccounts.addAll(chart.get(AccountType.ASSET));
+
+        int linesPerEntry = spec.getLinesPerEntry();
+        PrimitiveIterator.OfLong entryIds = reserveIds("journal_entries_seq", spec.getJournalEntries());
+        PrimitiveIterator.OfLong lineIds = reserveIds("journal_entry_lines_seq",
+                (long) spec.getJournalEntries() * linesPerEntry);
+        int credits = linesPerEntry / 2;
+        List<Object[]> entries = new ArrayList<>();
+        List<Object[]> lines = new ArrayList<>();
+
+        for (int i = 0; i < spec.getJournalEntries(); i++) {
+            LocalDate date = firstDay.plusDays((long) i * days / spec.getJournalEntries());
+            LocalDateTime createdAt = date.atTime(9, 0).plusSeconds(random.nextInt(8 * 3600));
+            int roll = random.nextInt(100);
+            long entryId = entryIds.nextLong();
+            String status = roll < 97 ? "POSTED" : roll < 99 ? "DRAFT" : "VOID";
+            entries.add(new Object[] {entryId, String.format(PREFIX + "%010d", i + 1), date,
+                    DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)], "REF-" + random.nextInt(1_000_000),
+                    status, createdAt, "DRAFT".equals(status) ? null : createdAt});
+
+            BigDecimal total = BigDecimal.ZERO;
+            for (int line = 0; line < linesPerEntry - credits; line++) {
+                BigDecimal amount = amount(random, 1_000_000);
+                total = total.add(amount);
+                lines.add(new Object[] {lineIds.nextLong(), entryId, pick(random, debitAccounts), amount, BigDecimal.ZERO});
+            }
+            BigDecimal share = total.divide(BigDecimal.valueOf(credits), 2, RoundingMode.DOWN);
+            BigDecimal lastShare = total.subtract(share.multiply(BigDecimal.valueOf(credits - 1)));
+            for (int line = 0; line < credits; line++) {
+                lines.add(new Object[] {lineIds.nextLong(), entryId, pick(random, creditAccounts), BigDecimal.ZERO,
+                        line < credits - 1 ? share : lastShare});
+            }
+
+            if (entries.size() >= spec.getBatchSize() || i == spec.getJournalEntries() - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO journal_entries (id, entry_number, entry_date, description, " +
+                        "reference, status, created_at, posted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", entries);
+                jdbcTemplate.batchUpdate("INSERT INTO journal_entry_lines (id, journal_entry_id, account_id, " +
+                        "debit_amount, credit_amount, exchange_rate) VALUES (?, ?, ?, ?, ?, 1)", lines);
+                result.setJournalEntries(result.getJournalEntries() + entries.size());
+                result.setJournalLines(result.getJournalLines() + lines.size());
+                entries.clear();
+                lines.clear();
+                if (result.getJournalEntries() % (spec.getBatchSize() * 100L) == 0) {
+                    log.info("Generated {} journal entries, {} lines",
+                            result.getJournalEntries(), result.getJournalLines());
+                }
+            }
+        }
+    }
+
+    private List<Long> insertCustomers(SyntheticDataSpecDTO spec, SyntheticDataResultDTO result) {
+        List<Object[]> customers = new ArrayList<>();
+        for (int i = 1; i <= spec.getCustomers(); i++) {
+            customers.add(new Object[] {String.format(PREFIX + "C%06d", i), "Customer " + i,
+                    "customer" + i + "@example.com"});
+            if (customers.size() >= spec.getBatchSize() || i == spec.getCustomers()) {
+                jdbcTemplate.batchUpdate("INSERT INTO customers (code, name, email, created_at) " +
+                        "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", customers);
+                customers.clear();
+            }
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM customers WHERE code LIKE ? ORDER BY code", Long.class, PREFIX + "C%");
+        result.setCustomers(ids.size());
+        return ids;
+    }
+
+    private void insertInvoices(SyntheticDataSpecDTO spec, SplittableRandom random, List<Long> customerIds,
+                                List<Long> revenueAccounts, LocalDate firstDay, int days,
+                                SyntheticDataResultDTO result) {
+        PrimitiveIterator.OfLong itemIds = reserveIds("invoice_items_seq",
+                (long) spec.getInvoices() * spec.getItemsPerInvoice());
+        List<Object[]> invoices = new ArrayList<>();
+        Map<String, List<Object[]>> itemsByNumber = new HashMap<>();
+
+        for (int i = 0; i < spec.getInvoices(); i++) {
+            String number = String.format(PREFIX + "I%08d", i + 1);
+            LocalDate date = firstDay.plusDays((long) i * days / spec.getInvoices());
+
+            List<Object[]> items = new ArrayList<>();
+            BigDecimal subtotal = BigDecimal.ZERO;
+            for (int item = 1; item <= spec.getItemsPerInvoice(); item++) {
+                BigDecimal quantity = BigDecimal.valueOf(1 + random.nextInt(10));
+                BigDecimal unitPrice = amount(random, 50_000);
+                BigDecimal amount = quantity.multiply(unitPrice);
+                subtotal = subtotal.add(amount);
+                items.add(new Object[] {null, "Item " + item, quantity, unitPrice, amount,
+                        pick(random, revenueAccounts)});
+            }
+            itemsByNumber.put(number, items);
+
+            BigDecimal tax = subtotal.multiply(new BigDecimal("0.10")).setScale(2, RoundingMode.HALF_UP);
+            invoices.add(new Object[] {number, pick(random, customerIds), date, date.plusDays(30), subtotal, tax,
+                    subtotal.add(tax), invoiceStatus(random), date.atTime(10, 0)});
+
+            if (invoices.size() >= spec.getBatchSize() || i == spec.getInvoices() - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO invoices (invoice_number, customer_id, invoice_date, due_date, " +
+                        "subtotal, tax_amount, total_amount, status, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", invoices);
+
+                // invoice ids are identity values, so read them back by number to link the items
+                List<Object[]> itemRows = new ArrayList<>();
+                List<Map<String, Object>> inserted = jdbcTemplate.queryForList(
+                        "SELECT id, invoice_number FROM invoices WHERE invoice_number BETWEEN ? AND ?",
+                        invoices.get(0)[0], invoices.get(invoices.size() - 1)[0]);
+                for (Map<String, Object> row : inserted) {
+                    Long invoiceId = ((Number) row.get("id")).longValue();
+                    for (Object[] item : itemsByNumber.get((String) row.get("invoice_number"))) {
+                        itemRows.add(new Object[] {itemIds.nextLong(), invoiceId, item[1], item[2], item[3], item[4], item[5]});
+                    }
+                }
+                jdbcTemplate.batchUpdate("INSERT INTO invoice_items (id, invoice_id, description, quantity, " +
+                        "unit_price, amount, account_id) VALUES (?, ?, ?, ?, ?, ?, ?)", itemRows);
+
+                result.setInvoices(result.getInvoices() + invoices.size());
+                result.setInvoiceItems(result.getInvoiceItems() + itemRows.size());
+                invoices.clear();
+                itemsByNumber.clear();
+            }
+        }
+    }
+
+    private void insertBankStatements(SyntheticDataSpecDTO spec, SplittableRandom random, Long glAccountId,
+                                      LocalDate firstDay, int days, SyntheticDataResultDTO result) {
+        BigDecimal openingBalance = new BigDecimal("10000.00");
+        List<Object[]> bankAccounts = new ArrayList<>();
+        for (int i = 1; i <= spec.getBankAccounts(); i++) {
+            bankAccounts.add(new Object[] {"Synthetic account " + i, "Synthetic Bank",
+                    String.format(PREFIX + "%06d", i), glAccountId, openingBalance, openingBalance});
+        }
+        if (!bankAccounts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO bank_accounts (account_name, bank_name, account_number, " +
+                    "gl_account_id, opening_balance, current_balance, is_active, version) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, true, 0)", bankAccounts);
+        }
+        List<Long> bankAccountIds = jdbcTemplate.queryForList(
+                "SELECT id FROM bank_accounts WHERE account_number LIKE ? ORDER BY account_number",
+                Long.class, PREFIX + "%");
+        result.setBankAccounts(bankAccountIds.size());
+
+        PrimitiveIterator.OfLong statementIds = reserveIds("bank_statements_seq",
+                (long) bankAccountIds.size() * spec.getStatementsPerBankAccount());
+        LocalDateTime importedAt = LocalDateTime.of(firstDay.plusDays(days), LocalTime.NOON);
+        List<Object[]> statements = new ArrayList<>();
+        for (Long bankAccountId : bankAccountIds) {
+            BigDecimal balance = openingBalance;
+            for (int i = 0; i < spec.getStatementsPerBankAccount(); i++) {
+                LocalDate date = firstDay.plusDays((long) i * days / spec.getStatementsPerBankAccount());
+                BigDecimal amount = amount(random, 500_000);
+                boolean credit = random.nextBoolean();
+                balance = credit ? balance.add(amount) : balance.subtract(amount);
+                statements.add(new Object[] {statementIds.nextLong(), bankAccountId, date, date,
+                        DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)], "BNK-" + random.nextInt(1_000_000),
+                        credit ? BigDecimal.ZERO : amount, credit ? amount : BigDecimal.ZERO, balance, importedAt});
+
+                if (statements.size() >= spec.getBatchSize()) {
+                    flushStatements(statements, result);
+                }
+            }
+        }
+        flushStatements(statements, result);
+    }
+
+    private void flushStatements(List<Object[]> statements, SyntheticDataResultDTO result) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bank_statements (id, bank_account_id, statement_date, " +
+                "transaction_date, description, reference, debit_amount, credit_amount, balance, is_reconciled, " +
+                "imported_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?)", statements);
+        result.setBankStatements(result.getBankStatements() + statements.size());
+        statements.clear();
+    }
+
+    /**
+     * Takes enough blocks from a pooled id sequence for {@code count} rows. Hibernate's pooled optimizer
+     * treats each value read from the sequence as the highest id of its block, so ids taken here never
+     * collide with ids the application hands out at the same time, and no sequence has to be moved afterwards.
+     */
+    private PrimitiveIterator.OfLong reserveIds(String sequence, long count) {
+        int blocks = (int) ((count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+        if (blocks == 0) {
+            return LongStream.empty().iterator();
+        }
+        List<Long> blockTops = isMySql()
+                ? reserveTableBlocks(sequence, blocks)
+                : jdbcTemplate.queryForList("SELECT NEXT VALUE FOR " + sequence + " FROM SYSTEM_RANGE(1, ?)",
+                        Long.class, blocks);
+        return blockTops.stream()
+                .flatMapToLong(top -> LongStream.rangeClosed(Math.max(1, top - ID_BLOCK_SIZE + 1), top))
+                .iterator();
+    }
+
+    /**
+     * MySQL sequences are single-row tables. One UPDATE moves next_val past all blocks at once; Hibernate
+     * reads next_val as its block top before adding the increment, so the blocks start at the old value.
+     */
+    private List<Long> reserveTableBlocks(String sequence, int blocks) {
+        long reserved = (long) blocks * ID_BLOCK_SIZE;
+        Long last = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("UPDATE " + sequence + " SET next_val = LAST_INSERT_ID(next_val + " +
+                        reserved + ")");
+                try (ResultSet rows = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                    rows.next();
+                    return rows.getLong(1);
+                }
+            }
+        });
+        long first = last - reserved;
+        return LongStream.range(0, blocks).mapToObj(block -> first + block * ID_BLOCK_SIZE).toList();
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    private static String invoiceStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (InvoiceStatusWeight weight : INVOICE_STATUSES) {
+            roll -= weight.percent();
+            if (roll < 0) {
+                return weight.status();
+            }
+        }
+        return INVOICE_STATUSES[0].status();
+    }
+
+    private static BigDecimal amount(SplittableRandom random, long maxCents) {
+        return BigDecimal.valueOf(random.nextLong(100, maxCents), 2);
+    }
+
+    private static Long pick(SplittableRandom random, List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private record InvoiceStatusWeight(String status, int percent) {
+    }
+}
@@ -1,10 +1,12 @@
 package com.accounting.service;
 
+import com.accounting.dto.UserSummaryDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Role;
 import com.accounting.model.User;
 import com.accounting.repository.RoleRepository;
 import com.accounting.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,6 +19,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "accounting.service", histogram = true)
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
 
@@ -34,6 +37,10 @@ public class UserService implements UserDetailsService {
         return userRepository.findAll();
     }
 
+    public List<UserSummaryDTO> findAllSummaries() {
+        return userRepository.findAllSummaries();
+    }
+
     public List<User> findAllActive() {
         return userRepository.findAllActive();
     }
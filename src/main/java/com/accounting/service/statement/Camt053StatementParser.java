@@ -0,0 +1,173 @@
+package com.accounting.service.statement;
+
+import com.accounting.exception.AccountingException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Parses ISO 20022 CAMT.053 bank-to-customer statements with a StAX cursor, so only the entry being read is
+ * held in memory. Each {@code <Ntry>} becomes a statement line.
+ */
+public class Camt053StatementParser implements StatementParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    @Override
+    public void parse(InputStream inputStream, StatementLineHandler handler) {
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                read(reader, handler);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new AccountingException("Invalid CAMT.053 file: " + e.getMessage());
+        }
+    }
+
+    private void read(XMLStreamReader reader, StatementLineHandler handler) throws XMLStreamException {
+        Deque<String> path = new ArrayDeque<>();
+        LocalDate statementDate = null;
+        Entry entry = null;
+        long rowNumber = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                String parent = path.peek();
+                path.push(name);
+                if ("Ntry".equals(name)) {
+                    entry = new Entry();
+                    rowNumber++;
+                } else if (entry != null) {
+                    readEntryElement(reader, entry, name, parent, path);
+                } else if ("CreDtTm".equals(name) && "Stmt".equals(parent)) {
+                    statementDate = parseDateOrNull(reader.getElementText());
+                    path.pop();
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = path.pop();
+                if ("Ntry".equals(name) && entry != null) {
+                    emit(entry, rowNumber, statementDate, handler);
+                    entry = null;
+                }
+            }
+        }
+    }
+
+    private void readEntryElement(XMLStreamReader reader, Entry entry, String name, String parent, Deque<String> path)
+            throws XMLStreamException {
+        boolean entryLevel = "Ntry".equals(parent);
+        switch (name) {
+            case "Amt" -> {
+                if (entryLevel) {
+                    entry.amount = reader.getElementText().trim();
+                    path.pop();
+                }
+            }
+            case "CdtDbtInd" -> {
+                if (entryLevel) {
+                    entry.creditDebit = reader.getElementText().trim();
+                    path.pop();
+                }
+            }
+            case "Dt", "DtTm" -> {
+                if ("BookgDt".equals(parent) || ("ValDt".equals(parent) && entry.bookingDate == null)) {
+                    entry.bookingDate = parseDateOrNull(reader.getElementText());
+                    path.pop();
+                }
+            }
+            case "AcctSvcrRef", "NtryRef" -> {
+                if (entryLevel && entry.reference == null) {
+                    entry.reference = reader.getElementText().trim();
+                    path.pop();
+                }
+            }
+            case "EndToEndId" -> {
+                if (entry.reference == null) {
+                    entry.reference = reader.getElementText().trim();
+                    path.pop();
+                }
+            }
+            case "AddtlNtryInf" -> {
+                if (entryLevel) {
+                    entry.description = reader.getElementText().trim();
+                    path.pop();
+                }
+            }
+            case "Ustrd" -> {
+                if (entry.description == null) {
+                    entry.description = reader.getElementText().trim();
+                    path.pop();
+                }
+            }
+            default -> { }
+        }
+    }
+
+    private void emit(Entry entry, long rowNumber, LocalDate statementDate, StatementLineHandler handler) {
+        try {
+            if (entry.bookingDate == null) {
+                throw new IllegalArgumentException("Missing booking date");
+            }
+            if (entry.amount == null || entry.amount.isEmpty()) {
+                throw new IllegalArgumentException("Missing amount");
+            }
+
+            BigDecimal amount = new BigDecimal(entry.amount).abs();
+            ParsedStatementLine line = new ParsedStatementLine();
+            line.setRowNumber(rowNumber);
+            line.setTransactionDate(entry.bookingDate);
+            line.setStatementDate(statementDate != null ? statementDate : entry.bookingDate);
+            line.setReference(entry.reference);
+            line.setDescription(entry.description);
+            if ("DBIT".equals(entry.creditDebit)) {
+                line.setDebitAmount(amount);
+            } else if ("CRDT".equals(entry.creditDebit)) {
+                line.setCreditAmount(amount);
+            } else {
+                throw new IllegalArgumentException("Missing or invalid CdtDbtInd");
+            }
+            handler.onLine(line);
+        } catch (RuntimeException e) {
+            handler.onReject(rowNumber, e.getMessage());
+        }
+    }
+
+    private static LocalDate parseDateOrNull(String value) {
+        String text = value != null ? value.trim() : "";
+        if (text.length() < 10) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text.substring(0, 10));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static class Entry {
+        private String amount;
+        private String creditDebit;
+        private LocalDate bookingDate;
+        private String reference;
+        private String description;
+    }
+}
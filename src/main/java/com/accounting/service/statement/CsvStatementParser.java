@@ -0,0 +1,168 @@
+package com.accounting.service.statement;
+
+import com.accounting.exception.AccountingException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses a CSV export with a header row. Recognised columns are a date, description, reference, balance,
+ * and either a signed amount or separate debit (money out) and credit (money in) columns.
+ */
+public class CsvStatementParser implements StatementParser {
+
+    private final DateTimeFormatter dateFormat;
+
+    private int dateColumn = -1;
+    private int statementDateColumn = -1;
+    private int descriptionColumn = -1;
+    private int referenceColumn = -1;
+    private int debitColumn = -1;
+    private int creditColumn = -1;
+    private int amountColumn = -1;
+    private int balanceColumn = -1;
+
+    public CsvStatementParser(DateTimeFormatter dateFormat) {
+        this.dateFormat = dateFormat != null ? dateFormat : DateTimeFormatter.ISO_LOCAL_DATE;
+    }
+
+    @Override
+    public void parse(InputStream inputStream, StatementLineHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        readHeader(splitLine(header.startsWith("\uFEFF") ? header.substring(1) : header));
+
+        long rowNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            rowNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                handler.onLine(toStatementLine(rowNumber, splitLine(line)));
+            } catch (RuntimeException e) {
+                handler.onReject(rowNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void readHeader(List<String> columns) {
+        for (int i = 0; i < columns.size(); i++) {
+            String name = columns.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+            switch (name) {
+                case "date", "transactiondate", "bookingdate", "postingdate", "posteddate" -> dateColumn = i;
+                case "statementdate" -> statementDateColumn = i;
+                case "description", "details", "narrative", "memo", "payee" -> descriptionColumn = i;
+                case "reference", "ref", "fitid", "transactionid" -> referenceColumn = i;
+                case "debit", "withdrawal", "paidout", "moneyout" -> debitColumn = i;
+                case "credit", "deposit", "paidin", "moneyin" -> creditColumn = i;
+                case "amount" -> amountColumn = i;
+                case "balance", "runningbalance" -> balanceColumn = i;
+                default -> { }
+            }
+        }
+        if (dateColumn < 0 || (amountColumn < 0 && debitColumn < 0 && creditColumn < 0)) {
+            throw new AccountingException(
+                    "CSV header must contain a date column and either an amount or debit/credit columns");
+        }
+    }
+
+    private ParsedStatementLine toStatementLine(long rowNumber, List<String> fields) {
+        ParsedStatementLine line = new ParsedStatementLine();
+        line.setRowNumber(rowNumber);
+        line.setTransactionDate(parseDate(field(fields, dateColumn), "date"));
+        String statementDate = field(fields, statementDateColumn);
+        line.setStatementDate(statementDate.isEmpty() ? line.getTransactionDate() : parseDate(statementDate, "statement date"));
+        line.setDescription(emptyToNull(field(fields, descriptionColumn)));
+        line.setReference(emptyToNull(field(fields, referenceColumn)));
+        if (amountColumn >= 0) {
+            line.setSignedAmount(parseAmount(field(fields, amountColumn)));
+        } else {
+            line.setDebitAmount(parseAmount(field(fields, debitColumn)).abs());
+            line.setCreditAmount(parseAmount(field(fields, creditColumn)).abs());
+        }
+        String balance = field(fields, balanceColumn);
+        line.setBalance(balance.isEmpty() ? null : parseAmount(balance));
+        return line;
+    }
+
+    private LocalDate parseDate(String value, String column) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Missing " + column);
+        }
+        try {
+            return LocalDate.parse(value, dateFormat);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        String cleaned = value.replace(",", "").replace(" ", "");
+        if (cleaned.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        boolean negative = cleaned.startsWith("(") && cleaned.endsWith(")");
+        if (negative) {
+            cleaned = cleaned.substring(1, cleaned.length() - 1);
+        }
+        try {
+            BigDecimal amount = new BigDecimal(cleaned);
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return "";
+        }
+        return fields.get(column).trim();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
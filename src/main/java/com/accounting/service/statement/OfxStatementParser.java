@@ -0,0 +1,163 @@
+package com.accounting.service.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Parses OFX 1.x (SGML, closing tags optional) and OFX 2.x (XML) bank statements by reading one tag at a
+ * time; each {@code <STMTTRN>} block becomes a statement line.
+ */
+public class OfxStatementParser implements StatementParser {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Override
+    public void parse(InputStream inputStream, StatementLineHandler handler) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        LocalDate statementDate = null;
+        Transaction transaction = null;
+        long rowNumber = 0;
+
+        String tag;
+        while ((tag = readTag(reader)) != null) {
+            String value = readValue(reader);
+            switch (tag.toUpperCase(Locale.ROOT)) {
+                case "DTEND" -> statementDate = parseDateOrNull(value);
+                case "STMTTRN" -> {
+                    transaction = new Transaction();
+                    rowNumber++;
+                }
+                case "/STMTTRN" -> {
+                    if (transaction != null) {
+                        emit(transaction, rowNumber, statementDate, handler);
+                        transaction = null;
+                    }
+                }
+                case "DTPOSTED" -> {
+                    if (transaction != null) {
+                        transaction.datePosted = value;
+                    }
+                }
+                case "TRNAMT" -> {
+                    if (transaction != null) {
+                        transaction.amount = value;
+                    }
+                }
+                case "FITID" -> {
+                    if (transaction != null) {
+                        transaction.fitId = value;
+                    }
+                }
+                case "NAME" -> {
+                    if (transaction != null) {
+                        transaction.name = value;
+                    }
+                }
+                case "MEMO" -> {
+                    if (transaction != null) {
+                        transaction.memo = value;
+                    }
+                }
+                default -> { }
+            }
+        }
+    }
+
+    private void emit(Transaction transaction, long rowNumber, LocalDate statementDate, StatementLineHandler handler) {
+        try {
+            LocalDate posted = parseDateOrNull(transaction.datePosted);
+            if (posted == null) {
+                throw new IllegalArgumentException("Missing or invalid DTPOSTED");
+            }
+            if (transaction.amount == null || transaction.amount.isEmpty()) {
+                throw new IllegalArgumentException("Missing TRNAMT");
+            }
+
+            ParsedStatementLine line = new ParsedStatementLine();
+            line.setRowNumber(rowNumber);
+            line.setTransactionDate(posted);
+            line.setStatementDate(statementDate != null ? statementDate : posted);
+            line.setReference(transaction.fitId);
+            line.setDescription(joinDescription(transaction.name, transaction.memo));
+            line.setSignedAmount(new BigDecimal(transaction.amount.replace(',', '.')));
+            handler.onLine(line);
+        } catch (RuntimeException e) {
+            handler.onReject(rowNumber, e.getMessage());
+        }
+    }
+
+    private static String joinDescription(String name, String memo) {
+        if (name == null || name.isEmpty()) {
+            return memo;
+        }
+        if (memo == null || memo.isEmpty() || memo.equals(name)) {
+            return name;
+        }
+        return name + " - " + memo;
+    }
+
+    private static LocalDate parseDateOrNull(String value) {
+        if (value == null || value.length() < 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.substring(0, 8), OFX_DATE);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String readTag(Reader reader) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // skip the header and any text between tags
+        }
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim();
+    }
+
+    private static String readValue(Reader reader) throws IOException {
+        StringBuilder value = new StringBuilder();
+        reader.mark(1);
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '<') {
+                reader.reset();
+                break;
+            }
+            value.append((char) c);
+            reader.mark(1);
+        }
+        return unescape(value.toString().trim());
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&amp;", "&");
+    }
+
+    private static class Transaction {
+        private String datePosted;
+        private String amount;
+        private String fitId;
+        private String name;
+        private String memo;
+    }
+}
@@ -0,0 +1,33 @@
+package com.accounting.service.statement;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+public class ParsedStatementLine {
+    private long rowNumber;
+    private LocalDate statementDate;
+    private LocalDate transactionDate;
+    private String description;
+    private String reference;
+    private BigDecimal debitAmount = BigDecimal.ZERO;
+    private BigDecimal creditAmount = BigDecimal.ZERO;
+    private BigDecimal balance;
+
+    /**
+     * Sets debit or credit from a signed amount: money in (positive) is a credit, money out a debit.
+     */
+    public void setSignedAmount(BigDecimal amount) {
+        if (amount.signum() < 0) {
+            debitAmount = amount.negate();
+            creditAmount = BigDecimal.ZERO;
+        } else {
+            debitAmount = BigDecimal.ZERO;
+            creditAmount = amount;
+        }
+    }
+}
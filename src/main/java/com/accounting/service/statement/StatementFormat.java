@@ -0,0 +1,20 @@
+package com.accounting.service.statement;
+
+import java.util.Locale;
+
+public enum StatementFormat {
+    CSV,
+    OFX,
+    CAMT053;
+
+    public static StatementFormat fromFilename(String filename) {
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".ofx") || name.endsWith(".qfx")) {
+            return OFX;
+        }
+        if (name.endsWith(".xml") || name.endsWith(".camt") || name.endsWith(".053")) {
+            return CAMT053;
+        }
+        return CSV;
+    }
+}
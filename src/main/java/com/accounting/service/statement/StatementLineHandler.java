@@ -0,0 +1,11 @@
+package com.accounting.service.statement;
+
+/**
+ * Receives statement rows as a parser reads them, so a whole file never has to be held in memory.
+ */
+public interface StatementLineHandler {
+
+    void onLine(ParsedStatementLine line);
+
+    void onReject(long rowNumber, String reason);
+}
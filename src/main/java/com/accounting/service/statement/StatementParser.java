@@ -0,0 +1,13 @@
+package com.accounting.service.statement;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface StatementParser {
+
+    /**
+     * Reads the statement front to back and hands every transaction, or the reason it was rejected,
+     * to the handler.
+     */
+    void parse(InputStream inputStream, StatementLineHandler handler) throws IOException;
+}
@@ -4,7 +4,8 @@
 MERGE INTO roles (id, name, description) KEY(name) VALUES
     (1, 'ADMIN', 'System administrator with full access'),
     (2, 'ACCOUNTANT', 'Can manage accounts, journal entries, and reports'),
-    (3, 'VIEWER', 'Read-only access to view reports');
+    (3, 'VIEWER', 'Read-only access to view reports'),
+    (4, 'METRICS', 'Prometheus scraping of /actuator/prometheus only');
 
 -- Default Admin User (password: admin)
 -- BCrypt hash for 'admin'
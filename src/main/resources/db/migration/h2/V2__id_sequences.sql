@@ -0,0 +1,12 @@
+-- Pooled id sequences for the write-heavy tables (allocationSize = 50 on the entities).
+-- Each starts a full block above the ids already stored, so tables that used IDENTITY keys before keep
+-- their rows: the pooled optimizer treats a fetched value as the top of its block.
+
+create sequence if not exists journal_entries_seq
+    start with (select coalesce(max(id), 0) + 50 from journal_entries) increment by 50;
+create sequence if not exists journal_entry_lines_seq
+    start with (select coalesce(max(id), 0) + 50 from journal_entry_lines) increment by 50;
+create sequence if not exists invoice_items_seq
+    start with (select coalesce(max(id), 0) + 50 from invoice_items) increment by 50;
+create sequence if not exists bank_statements_seq
+    start with (select coalesce(max(id), 0) + 50 from bank_statements) increment by 50;
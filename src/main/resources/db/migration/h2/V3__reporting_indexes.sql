@@ -0,0 +1,40 @@
+-- Indexes for the reporting and reconciliation queries. Column order follows the JPQL in the repositories:
+-- equality columns first, then the range/sort column, then the columns the query only reads, so the
+-- per-account sums and ledger pages are answered from the index without touching the table rows.
+
+-- Per-account sums, ledger pages and reconciliation candidates:
+-- WHERE jl.account.id = ? ... JOIN je ... SUM(jl.debitAmount), SUM(jl.creditAmount)
+create index if not exists ix_journal_entry_lines_account
+    on journal_entry_lines (account_id, journal_entry_id, debit_amount, credit_amount);
+
+-- Lines of one entry, and the correlated SUM(l.debitAmount) in the journal summary slices
+create index if not exists ix_journal_entry_lines_entry
+    on journal_entry_lines (journal_entry_id, debit_amount);
+
+-- WHERE je.status = 'POSTED' AND je.entryDate BETWEEN ? AND ? ORDER BY je.entryDate, je.entryNumber
+create index if not exists ix_journal_entries_status_date
+    on journal_entries (status, entry_date, entry_number, id);
+
+-- Summary slices without a status filter: ORDER BY entryDate DESC, entryNumber DESC, id DESC
+create index if not exists ix_journal_entries_date
+    on journal_entries (entry_date, entry_number, id);
+
+-- Unreconciled statements / counts per bank account, ordered by transaction date
+create index if not exists ix_bank_statements_account_reconciled
+    on bank_statements (bank_account_id, is_reconciled, transaction_date);
+
+-- Reconciled balance and statement date range per bank account
+create index if not exists ix_bank_statements_account_statement_date
+    on bank_statements (bank_account_id, statement_date);
+
+-- NOT EXISTS (... WHERE bs.matchedJournalLine = jl) and lookups of statements by matched line
+create index if not exists ix_bank_statements_matched_line
+    on bank_statements (matched_journal_line_id);
+
+-- Overdue sweep and counts: WHERE i.status = 'SENT' AND i.dueDate < ?
+create index if not exists ix_invoices_status_due
+    on invoices (status, due_date);
+
+-- Invoice date range listings
+create index if not exists ix_invoices_invoice_date
+    on invoices (invoice_date);
@@ -0,0 +1,9 @@
+-- Heartbeat for read-replica lag checks: ReplicaHealthMonitor writes the time on the primary and reads the
+-- replicated copy back from the replica.
+
+create table if not exists replication_heartbeat (
+    id integer not null,
+    beat_millis bigint not null,
+    primary key (id)
+);
+insert into replication_heartbeat (id, beat_millis) select 1, 0 where not exists (select 1 from replication_heartbeat);
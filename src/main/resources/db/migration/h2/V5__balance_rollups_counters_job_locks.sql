@@ -0,0 +1,30 @@
+-- Tables and columns added on top of the V1 baseline: monthly balance rollups, document number counters,
+-- scheduled job locks and the optimistic lock version of bank accounts. Written to be re-runnable, so databases
+-- that got them from an earlier copy of V1 end up with the same schema as baselined ones.
+
+create table if not exists account_period_balances (
+    id bigint generated by default as identity,
+    account_id bigint not null,
+    period_start date not null,
+    debit_total decimal(19,2) not null,
+    credit_total decimal(19,2) not null,
+    primary key (id),
+    constraint uk_account_period_balances unique (account_id, period_start),
+    constraint fk_account_period_balances_account foreign key (account_id) references accounts (id)
+);
+
+create table if not exists document_number_counters (
+    prefix varchar(30) not null,
+    next_value bigint not null,
+    primary key (prefix)
+);
+
+create table if not exists scheduled_job_locks (
+    name varchar(64) not null,
+    locked_until timestamp(6) not null,
+    locked_at timestamp(6),
+    locked_by varchar(255),
+    primary key (name)
+);
+
+alter table bank_accounts add column if not exists version bigint default 0 not null;
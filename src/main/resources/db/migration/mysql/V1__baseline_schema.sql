@@ -0,0 +1,188 @@
+-- Baseline schema (MySQL). Matches what ddl-auto=update produced before migrations were introduced, so
+-- existing databases are baselined at this version instead of running it.
+
+create table roles (
+    id bigint not null auto_increment,
+    name varchar(50) not null,
+    description varchar(255),
+    primary key (id),
+    constraint uk_roles_name unique (name)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    username varchar(50) not null,
+    password varchar(255) not null,
+    email varchar(100),
+    full_name varchar(100),
+    role_id bigint,
+    enabled bit,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint fk_users_role foreign key (role_id) references roles (id)
+) engine=InnoDB;
+
+create table currencies (
+    id bigint not null auto_increment,
+    code varchar(3) not null,
+    name varchar(50),
+    symbol varchar(5),
+    exchange_rate decimal(15,6),
+    is_base bit,
+    primary key (id),
+    constraint uk_currencies_code unique (code)
+) engine=InnoDB;
+
+create table accounts (
+    id bigint not null auto_increment,
+    code varchar(20) not null,
+    name varchar(100) not null,
+    account_type varchar(20) not null,
+    parent_id bigint,
+    currency_id bigint,
+    description text,
+    is_active bit,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_accounts_code unique (code),
+    constraint fk_accounts_parent foreign key (parent_id) references accounts (id),
+    constraint fk_accounts_currency foreign key (currency_id) references currencies (id)
+) engine=InnoDB;
+
+create table customers (
+    id bigint not null auto_increment,
+    code varchar(20) not null,
+    name varchar(100) not null,
+    email varchar(100),
+    phone varchar(20),
+    address text,
+    tax_id varchar(50),
+    account_id bigint,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_customers_code unique (code),
+    constraint fk_customers_account foreign key (account_id) references accounts (id)
+) engine=InnoDB;
+
+create table vendors (
+    id bigint not null auto_increment,
+    code varchar(20) not null,
+    name varchar(100) not null,
+    email varchar(100),
+    phone varchar(20),
+    address text,
+    tax_id varchar(50),
+    account_id bigint,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_vendors_code unique (code),
+    constraint fk_vendors_account foreign key (account_id) references accounts (id)
+) engine=InnoDB;
+
+create table fiscal_years (
+    id bigint not null auto_increment,
+    name varchar(50) not null,
+    start_date date not null,
+    end_date date not null,
+    is_closed bit,
+    closed_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table journal_entries (
+    id bigint not null auto_increment,
+    entry_number varchar(20) not null,
+    entry_date date not null,
+    description text,
+    reference varchar(100),
+    status varchar(20),
+    created_by bigint,
+    created_at datetime(6),
+    posted_at datetime(6),
+    primary key (id),
+    constraint uk_journal_entries_number unique (entry_number),
+    constraint fk_journal_entries_created_by foreign key (created_by) references users (id)
+) engine=InnoDB;
+
+create table journal_entry_lines (
+    id bigint not null auto_increment,
+    journal_entry_id bigint not null,
+    account_id bigint not null,
+    debit_amount decimal(15,2),
+    credit_amount decimal(15,2),
+    currency_id bigint,
+    exchange_rate decimal(15,6),
+    description varchar(255),
+    primary key (id),
+    constraint fk_journal_entry_lines_entry foreign key (journal_entry_id) references journal_entries (id),
+    constraint fk_journal_entry_lines_account foreign key (account_id) references accounts (id),
+    constraint fk_journal_entry_lines_currency foreign key (currency_id) references currencies (id)
+) engine=InnoDB;
+
+create table invoices (
+    id bigint not null auto_increment,
+    invoice_number varchar(20) not null,
+    customer_id bigint not null,
+    invoice_date date not null,
+    due_date date,
+    currency_id bigint,
+    subtotal decimal(15,2),
+    tax_amount decimal(15,2),
+    total_amount decimal(15,2),
+    status varchar(20),
+    journal_entry_id bigint,
+    notes text,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_invoices_number unique (invoice_number),
+    constraint fk_invoices_customer foreign key (customer_id) references customers (id),
+    constraint fk_invoices_currency foreign key (currency_id) references currencies (id),
+    constraint fk_invoices_journal_entry foreign key (journal_entry_id) references journal_entries (id)
+) engine=InnoDB;
+
+create table invoice_items (
+    id bigint not null auto_increment,
+    invoice_id bigint not null,
+    description varchar(255) not null,
+    quantity decimal(10,2),
+    unit_price decimal(15,2),
+    amount decimal(15,2),
+    account_id bigint,
+    primary key (id),
+    constraint fk_invoice_items_invoice foreign key (invoice_id) references invoices (id),
+    constraint fk_invoice_items_account foreign key (account_id) references accounts (id)
+) engine=InnoDB;
+
+create table bank_accounts (
+    id bigint not null auto_increment,
+    account_name varchar(100) not null,
+    bank_name varchar(100),
+    account_number varchar(50),
+    currency_id bigint,
+    gl_account_id bigint,
+    opening_balance decimal(15,2),
+    current_balance decimal(15,2),
+    is_active bit,
+    primary key (id),
+    constraint fk_bank_accounts_currency foreign key (currency_id) references currencies (id),
+    constraint fk_bank_accounts_gl_account foreign key (gl_account_id) references accounts (id)
+) engine=InnoDB;
+
+create table bank_statements (
+    id bigint not null auto_increment,
+    bank_account_id bigint not null,
+    statement_date date not null,
+    transaction_date date,
+    description varchar(255),
+    reference varchar(100),
+    debit_amount decimal(15,2),
+    credit_amount decimal(15,2),
+    balance decimal(15,2),
+    is_reconciled bit,
+    matched_journal_line_id bigint,
+    imported_at datetime(6),
+    primary key (id),
+    constraint fk_bank_statements_bank_account foreign key (bank_account_id) references bank_accounts (id),
+    constraint fk_bank_statements_matched_line foreign key (matched_journal_line_id) references journal_entry_lines (id)
+) engine=InnoDB;
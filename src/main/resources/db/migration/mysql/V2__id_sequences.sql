@@ -0,0 +1,24 @@
+-- Pooled id sequences for the write-heavy tables (allocationSize = 50 on the entities).
+-- MySQL has no sequences, so each one is a single-row table as Hibernate expects.
+-- Each starts a full block above the ids already stored, so tables that used IDENTITY keys before keep
+-- their rows: the pooled optimizer treats a fetched value as the top of its block.
+
+create table if not exists journal_entries_seq (next_val bigint) engine=InnoDB;
+insert into journal_entries_seq (next_val)
+select next_val from (select coalesce(max(id), 0) + 50 as next_val from journal_entries) t
+where not exists (select 1 from journal_entries_seq);
+
+create table if not exists journal_entry_lines_seq (next_val bigint) engine=InnoDB;
+insert into journal_entry_lines_seq (next_val)
+select next_val from (select coalesce(max(id), 0) + 50 as next_val from journal_entry_lines) t
+where not exists (select 1 from journal_entry_lines_seq);
+
+create table if not exists invoice_items_seq (next_val bigint) engine=InnoDB;
+insert into invoice_items_seq (next_val)
+select next_val from (select coalesce(max(id), 0) + 50 as next_val from invoice_items) t
+where not exists (select 1 from invoice_items_seq);
+
+create table if not exists bank_statements_seq (next_val bigint) engine=InnoDB;
+insert into bank_statements_seq (next_val)
+select next_val from (select coalesce(max(id), 0) + 50 as next_val from bank_statements) t
+where not exists (select 1 from bank_statements_seq);
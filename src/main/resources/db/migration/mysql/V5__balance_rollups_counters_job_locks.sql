@@ -0,0 +1,38 @@
+-- Tables and columns added on top of the V1 baseline: monthly balance rollups, document number counters,
+-- scheduled job locks and the optimistic lock version of bank accounts. Written to be re-runnable, so databases
+-- that got them from an earlier copy of V1 end up with the same schema as baselined ones.
+
+create table if not exists account_period_balances (
+    id bigint not null auto_increment,
+    account_id bigint not null,
+    period_start date not null,
+    debit_total decimal(19,2) not null,
+    credit_total decimal(19,2) not null,
+    primary key (id),
+    constraint uk_account_period_balances unique (account_id, period_start),
+    constraint fk_account_period_balances_account foreign key (account_id) references accounts (id)
+) engine=InnoDB;
+
+create table if not exists document_number_counters (
+    prefix varchar(30) not null,
+    next_value bigint not null,
+    primary key (prefix)
+) engine=InnoDB;
+
+create table if not exists scheduled_job_locks (
+    name varchar(64) not null,
+    locked_until datetime(6) not null,
+    locked_at datetime(6),
+    locked_by varchar(255),
+    primary key (name)
+) engine=InnoDB;
+
+-- MySQL has no ADD COLUMN IF NOT EXISTS
+set @add_version = (select if(count(*) = 0,
+        'alter table bank_accounts add column version bigint not null default 0',
+        'select 1')
+    from information_schema.columns
+    where table_schema = database() and table_name = 'bank_accounts' and column_name = 'version');
+prepare add_version from @add_version;
+execute add_version;
+deallocate prepare add_version;
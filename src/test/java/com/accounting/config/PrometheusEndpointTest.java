@@ -0,0 +1,73 @@
+package com.accounting.config;
+
+import com.accounting.service.AccountService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:prometheus_endpoint;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Test
+    @WithMockUser(roles = "METRICS")
+    void prometheus_ExposesServiceTimersAndAccountingGauges() throws Exception {
+        accountService.findAllActive();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("accounting_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("class=\"com.accounting.service.AccountService\"")))
+                .andExpect(content().string(containsString("method=\"findAllActive\"")))
+                .andExpect(content().string(containsString("accounting_journal_entries_total{")))
+                .andExpect(content().string(containsString("accounting_journal_entries_draft")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    @Test
+    void prometheus_WithoutCredentials_IsUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void otherActuatorEndpoints_RequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "METRICS")
+    void otherActuatorEndpoints_AreForbiddenToScrapers() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "METRICS")
+    void applicationEndpoints_AreForbiddenToScrapers() throws Exception {
+        mockMvc.perform(get("/journal"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/reports/trial-balance"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/journal/save"))
+                .andExpect(status().isForbidden());
+    }
+}
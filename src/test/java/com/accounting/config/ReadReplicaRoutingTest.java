@@ -0,0 +1,160 @@
+package com.accounting.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases kept in sync by {@link LocalReplicaReplicator}. The scheduled check and copy are
+ * pushed out of the way and run by hand, so each test controls how far behind the replica is.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "accounting.datasource.replica.enabled=true",
+        "accounting.datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+        "accounting.datasource.replica.max-lag=PT0.1S",
+        "accounting.datasource.replica.check-interval=PT1H",
+        "accounting.datasource.replica.local-sync-interval=PT1H",
+        "accounting.datasource.replica.local-sync-drain-timeout=PT0.2S",
+        "accounting.metrics.gauge-refresh-interval=PT1H"
+})
+@ActiveProfiles("local-replica")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LocalReplicaReplicator replicator;
+
+    @Autowired
+    private ReplicaHealthMonitor healthMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    @BeforeEach
+    void syncReplica() {
+        replicator.replicateNow();
+        healthMonitor.check();
+    }
+
+    @Test
+    void readOnlyTransaction_UsesReplica() {
+        double replicaBefore = routed("replica");
+
+        assertTrue(healthMonitor.isReplicaUsable());
+        assertEquals("ROUTING_REPLICA", databaseName(true));
+        assertEquals(replicaBefore + 1, routed("replica"));
+    }
+
+    @Test
+    void readWriteTransaction_UsesPrimary() {
+        double primaryBefore = routed("primary");
+
+        assertEquals("ROUTING_PRIMARY", databaseName(false));
+        assertTrue(routed("primary") > primaryBefore);
+    }
+
+    @Test
+    void primaryReads_InsideReadOnlyTransaction_UsePrimary() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        String databaseName = readOnly.execute(status -> primaryReads.call(
+                () -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class)));
+
+        assertTrue(healthMonitor.isReplicaUsable());
+        assertEquals("ROUTING_PRIMARY", databaseName);
+    }
+
+    @Test
+    void laggingReplica_FallsBackToPrimary() throws InterruptedException {
+        double fallbacksBefore = meterRegistry.counter("accounting.datasource.replica.fallbacks").count();
+
+        // The primary gets a new heartbeat that never reaches the replica
+        Thread.sleep(150);
+        healthMonitor.check();
+
+        assertFalse(healthMonitor.isReplicaUsable());
+        assertTrue(healthMonitor.getLag().toMillis() > 100);
+        assertEquals("ROUTING_PRIMARY", databaseName(true));
+        assertEquals(fallbacksBefore + 1, meterRegistry.counter("accounting.datasource.replica.fallbacks").count());
+
+        replicator.replicateNow();
+        healthMonitor.check();
+        assertEquals("ROUTING_REPLICA", databaseName(true));
+    }
+
+    @Test
+    void unreachableReplica_FallsBackToPrimary() {
+        new JdbcTemplate(replicaDataSource).execute("DROP TABLE replication_heartbeat");
+        healthMonitor.check();
+
+        assertFalse(healthMonitor.isReplicaUsable());
+        assertEquals("ROUTING_PRIMARY", databaseName(true));
+    }
+
+    @Test
+    void pausedReplica_FallsBackToPrimaryEvenWhenCaughtUp() {
+        healthMonitor.pause();
+        healthMonitor.check();
+
+        assertFalse(healthMonitor.isReplicaUsable());
+        assertEquals("ROUTING_PRIMARY", databaseName(true));
+
+        // The copy resumes the replica once the latest beat is on it
+        replicator.replicateNow();
+        assertTrue(healthMonitor.isReplicaUsable());
+        assertEquals("ROUTING_REPLICA", databaseName(true));
+    }
+
+    @Test
+    void replicateNow_WhileReplicaReadRuns_LeavesItsTablesInPlace() {
+        jdbcTemplate.update("UPDATE replication_heartbeat SET beat_millis = 1 WHERE id = 1");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Long beatSeenAfterCopy = readOnly.execute(status -> {
+            assertEquals("ROUTING_REPLICA", jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+            // The read holds a replica connection, so the copy gives up instead of dropping the tables under it
+            replicator.replicateNow();
+            return jdbcTemplate.queryForObject("SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class);
+        });
+
+        assertNotEquals(1L, beatSeenAfterCopy);
+        replicator.replicateNow();
+        assertEquals("ROUTING_REPLICA", databaseName(true));
+    }
+
+    private String databaseName(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private double routed(String target) {
+        return meterRegistry.counter("accounting.datasource.connections.routed", "target", target).count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.accounting.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class SqlBudgetFilterTest {
+
+    @Test
+    void doFilter_AddsServerTimingHeaderAndRequestStats() throws Exception {
+        SqlBudgetProperties properties = new SqlBudgetProperties();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/accounts");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new SqlBudgetFilter(properties).doFilter(request, response, chainRunning(
+                "select a from accounts", "select t from totals"));
+
+        assertTrue(response.getHeader("Server-Timing").startsWith("sql;desc=\"2 statements\";dur="),
+                response.getHeader("Server-Timing"));
+        SqlRequestStats stats = (SqlRequestStats) request.getAttribute(SqlRequestStats.REQUEST_ATTRIBUTE);
+        assertEquals(2, stats.getStatements());
+    }
+
+    @Test
+    void doFilter_OverEndpointBudget_LogsWarning(CapturedOutput output) throws Exception {
+        SqlBudgetProperties properties = new SqlBudgetProperties();
+        properties.getBudgets().put("/invoices/{id}", 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/invoices/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/invoices/{id}");
+
+        new SqlBudgetFilter(properties).doFilter(request, new MockHttpServletResponse(), chainRunning(
+                "select i from invoices", "select c from customers"));
+
+        assertTrue(output.getOut().contains("GET /invoices/{id} ran 2 SQL statements"), output.getOut());
+        assertTrue(output.getOut().contains("over its budget of 1"), output.getOut());
+    }
+
+    @Test
+    void doFilter_RepeatedStatement_LogsPossibleNPlusOne(CapturedOutput output) throws Exception {
+        SqlBudgetProperties properties = new SqlBudgetProperties();
+        properties.setRepeatThreshold(3);
+        String[] statements = {"select i from invoices", "select c from customers where id=?",
+                "select c from customers where id=?", "select c from customers where id=?"};
+
+        new SqlBudgetFilter(properties).doFilter(new MockHttpServletRequest("GET", "/invoices"),
+                new MockHttpServletResponse(), chainRunning(statements));
+
+        assertTrue(output.getOut().contains("ran the same statement 3 times, possible N+1: " +
+                "select c from customers where id=?"), output.getOut());
+        assertFalse(output.getOut().contains("over its budget"));
+    }
+
+    @Test
+    void recordStatement_OutsideRecording_IsIgnored() {
+        SqlRequestStats.recordStatement("select 1");
+
+        SqlRequestStats stats = SqlRequestStats.start();
+        SqlRequestStats.stop();
+        SqlRequestStats.recordStatement("select 1");
+
+        assertEquals(0, stats.getStatements());
+    }
+
+    private MockFilterChain chainRunning(String... statements) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                for (String sql : statements) {
+                    SqlRequestStats.recordStatement(sql);
+                }
+                response.getWriter().write("[]");
+                response.flushBuffer();
+            }
+        });
+    }
+}
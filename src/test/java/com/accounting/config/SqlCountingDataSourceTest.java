@@ -0,0 +1,71 @@
+package com.accounting.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SqlCountingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement preparedStatement;
+    @Mock
+    private Statement statement;
+
+    private SqlRequestStats stats;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        stats = SqlRequestStats.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestStats.stop();
+    }
+
+    @Test
+    void jdbcTemplateStatements_AreCounted() throws Exception {
+        when(connection.createStatement()).thenReturn(statement);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(target));
+
+        jdbcTemplate.update("UPDATE bank_statements SET is_reconciled = true WHERE id = ?", 1L);
+        jdbcTemplate.execute("DELETE FROM scheduled_job_locks");
+
+        assertEquals(2, stats.getStatements());
+        assertEquals(1, stats.getRepeatedStatements(1)
+                .get("UPDATE bank_statements SET is_reconciled = true WHERE id = ?"));
+    }
+
+    @Test
+    void preparedStatement_ExecutedSeveralTimes_CountsOnce() throws Exception {
+        try (Connection counting = new SqlCountingDataSource(target).getConnection();
+             PreparedStatement ps = counting.prepareStatement("INSERT INTO journal_entry_lines VALUES (?)")) {
+            ps.addBatch();
+            ps.addBatch();
+            ps.executeBatch();
+        }
+
+        assertEquals(1, stats.getStatements());
+        verify(preparedStatement).executeBatch();
+    }
+}
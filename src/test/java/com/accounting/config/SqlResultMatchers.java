@@ -0,0 +1,33 @@
+package com.accounting.config;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MockMvc matchers on the SQL a request ran, as recorded by {@link SqlBudgetFilter}. Use them to pin an
+ * endpoint's query count so that N+1 regressions fail the build:
+ * {@code mockMvc.perform(get("/accounts")).andExpect(SqlResultMatchers.atMostStatements(2))}.
+ */
+public final class SqlResultMatchers {
+
+    private SqlResultMatchers() {
+    }
+
+    public static ResultMatcher atMostStatements(int max) {
+        return result -> {
+            SqlRequestStats stats = (SqlRequestStats) result.getRequest().getAttribute(SqlRequestStats.REQUEST_ATTRIBUTE);
+            assertNotNull(stats, "No SQL stats on the request; is accounting.sql.enabled off?");
+            if (stats.getStatements() > max) {
+                StringBuilder message = new StringBuilder(String.format("%s %s ran %d SQL statements, expected at most %d",
+                        result.getRequest().getMethod(), result.getRequest().getRequestURI(), stats.getStatements(), max));
+                for (Map.Entry<String, Integer> repeated : stats.getRepeatedStatements(2).entrySet()) {
+                    message.append(String.format("%n  %dx %s", repeated.getValue(), repeated.getKey()));
+                }
+                fail(message.toString());
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.accounting.controller;
+
+import com.accounting.config.SqlResultMatchers;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:account_sql_budget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ACCOUNTANT")
+class AccountControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (accountRepository.count() > 0) {
+            return;
+        }
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            Account account = new Account();
+            account.setCode("B" + i);
+            account.setName("Budget account " + i);
+            account.setAccountType(AccountType.values()[i % AccountType.values().length]);
+            accounts.add(account);
+        }
+        accountRepository.saveAll(accounts);
+    }
+
+    @Test
+    void listAccounts_LoadsBalancesWithoutAQueryPerAccount() throws Exception {
+        mockMvc.perform(get("/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(30))
+                .andExpect(SqlResultMatchers.atMostStatements(2));
+    }
+
+    @Test
+    void listAccounts_ReportsSqlInServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", startsWith("sql;desc=\"")));
+    }
+}
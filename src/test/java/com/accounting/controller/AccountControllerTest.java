@@ -18,9 +18,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -56,7 +58,7 @@ public class AccountControllerTest {
     @WithMockUser
     void testListAccounts() throws Exception {
         Mockito.when(accountService.findAllActive()).thenReturn(Arrays.asList(testAccount));
-        Mockito.when(accountService.getBalance(1L)).thenReturn(BigDecimal.TEN);
+        Mockito.when(accountService.getBalances(anyList())).thenReturn(Map.of(1L, BigDecimal.TEN));
 
         mockMvc.perform(get("/accounts")
                 .accept(MediaType.APPLICATION_JSON)
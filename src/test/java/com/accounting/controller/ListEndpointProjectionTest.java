@@ -0,0 +1,176 @@
+package com.accounting.controller;
+
+import com.accounting.config.SqlResultMatchers;
+import com.accounting.model.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The list endpoints return flat projections: one query each, the joined names inline and no entity graphs
+ * or lazy proxies in the JSON.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:list_projections;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class ListEndpointProjectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (entityManager.createQuery("SELECT COUNT(c) FROM Customer c", Long.class).getSingleResult() > 0) {
+                return;
+            }
+
+            Currency usd = new Currency();
+            usd.setCode("USD");
+            usd.setName("US Dollar");
+            usd.setSymbol("$");
+            entityManager.persist(usd);
+
+            Account parent = account("1000", "Current Assets", null, usd);
+            Account cash = account("1010", "Cash at Bank", parent, usd);
+
+            Customer customer = new Customer();
+            customer.setCode("C-001");
+            customer.setName("Acme Ltd");
+            entityManager.persist(customer);
+            for (int i = 1; i <= 3; i++) {
+                Invoice invoice = new Invoice();
+                invoice.setInvoiceNumber("INV-P-" + i);
+                invoice.setCustomer(customer);
+                invoice.setInvoiceDate(LocalDate.of(2024, 3, i));
+                invoice.setDueDate(LocalDate.of(2024, 4, i));
+                invoice.setStatus(i == 1 ? InvoiceStatus.PAID : InvoiceStatus.SENT);
+                invoice.setTotalAmount(new BigDecimal("100.00"));
+                entityManager.persist(invoice);
+            }
+
+            BankAccount bankAccount = new BankAccount();
+            bankAccount.setAccountName("Operating");
+            bankAccount.setBankName("First Bank");
+            bankAccount.setAccountNumber("12345678");
+            bankAccount.setCurrency(usd);
+            bankAccount.setGlAccount(cash);
+            entityManager.persist(bankAccount);
+
+            Role role = new Role();
+            role.setName("ACCOUNTANT");
+            entityManager.persist(role);
+            User user = new User();
+            user.setUsername("jdoe");
+            user.setPassword("{noop}secret");
+            user.setFullName("J. Doe");
+            user.setEmail("jdoe@example.com");
+            user.setRole(role);
+            entityManager.persist(user);
+
+            for (int i = 1; i <= 3; i++) {
+                JournalEntry entry = new JournalEntry();
+                entry.setEntryNumber("JE-P-" + i);
+                entry.setEntryDate(LocalDate.of(2024, 3, i));
+                entry.setDescription("Projection seed " + i);
+                JournalEntryLine debit = new JournalEntryLine();
+                debit.setAccount(cash);
+                debit.setDebitAmount(new BigDecimal("40.00"));
+                entry.addLine(debit);
+                JournalEntryLine credit = new JournalEntryLine();
+                credit.setAccount(parent);
+                credit.setCreditAmount(new BigDecimal("40.00"));
+                entry.addLine(credit);
+                entityManager.persist(entry);
+            }
+        });
+    }
+
+    @Test
+    void listInvoices_ReturnsCustomerNameInOneQuery() throws Exception {
+        mockMvc.perform(get("/invoices"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].invoiceNumber").value("INV-P-3"))
+                .andExpect(jsonPath("$[0].customerName").value("Acme Ltd"))
+                .andExpect(jsonPath("$[0].customer").doesNotExist())
+                .andExpect(jsonPath("$[0].items").doesNotExist())
+                .andExpect(SqlResultMatchers.atMostStatements(1));
+
+        mockMvc.perform(get("/invoices").param("status", "PAID"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].invoiceNumber").value("INV-P-1"))
+                .andExpect(SqlResultMatchers.atMostStatements(1));
+    }
+
+    @Test
+    void listEntries_ReturnsSummariesWithTotals() throws Exception {
+        mockMvc.perform(get("/journal"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].entryNumber").value("JE-P-3"))
+                .andExpect(jsonPath("$.content[0].totalDebit").value(40.00))
+                .andExpect(jsonPath("$.content[0].lines").doesNotExist())
+                .andExpect(SqlResultMatchers.atMostStatements(2));
+    }
+
+    @Test
+    void listAllAccounts_ReturnsParentAndCurrencyCodes() throws Exception {
+        mockMvc.perform(get("/accounts/all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.code == '1010')].parentCode").value("1000"))
+                .andExpect(jsonPath("$[?(@.code == '1010')].currencyCode").value("USD"))
+                .andExpect(jsonPath("$[0].parent").doesNotExist())
+                .andExpect(SqlResultMatchers.atMostStatements(1));
+    }
+
+    @Test
+    void listBankAccounts_ReturnsGlAccountCode() throws Exception {
+        mockMvc.perform(get("/bank/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].accountName").value("Operating"))
+                .andExpect(jsonPath("$[0].glAccountCode").value("1010"))
+                .andExpect(jsonPath("$[0].currencyCode").value("USD"))
+                .andExpect(jsonPath("$[0].glAccount").doesNotExist())
+                .andExpect(SqlResultMatchers.atMostStatements(1));
+    }
+
+    @Test
+    void listUsers_ReturnsRoleNameWithoutPassword() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("jdoe"))
+                .andExpect(jsonPath("$[0].roleName").value("ACCOUNTANT"))
+                .andExpect(jsonPath("$[0].password").doesNotExist())
+                .andExpect(SqlResultMatchers.atMostStatements(1));
+    }
+
+    private Account account(String code, String name, Account parent, Currency currency) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName(name);
+        account.setAccountType(AccountType.ASSET);
+        account.setParent(parent);
+        account.setCurrency(currency);
+        entityManager.persist(account);
+        return account;
+    }
+}
@@ -0,0 +1,153 @@
+package com.accounting.load;
+
+import com.accounting.dto.SyntheticDataResultDTO;
+import com.accounting.dto.SyntheticDataSpecDTO;
+import com.accounting.model.AccountType;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.CapturingStatementInspector;
+import com.accounting.service.SyntheticDataGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Repeatable load test for the report endpoints on generated data. Each endpoint is called through MockMvc
+ * after a warm-up, and the p50/p95/p99 latency and SQL statements per request are printed and written to
+ * target/report-load-test.csv.
+ *
+ * Tagged "load" and skipped by the default build; run it with {@code mvn -Pload-test test}. Volumes come
+ * from system properties, e.g. {@code -Dload.journal-entries=500000 -Dload.iterations=200}.
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:report_load;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.accounting.repository.CapturingStatementInspector"
+})
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class ReportLoadTest {
+
+    private static final int START_YEAR = 2020;
+    private static final int FISCAL_YEARS = Integer.getInteger("load.fiscal-years", 5);
+    private static final int JOURNAL_ENTRIES = Integer.getInteger("load.journal-entries", 50_000);
+    private static final int WARMUP = Integer.getInteger("load.warmup", 10);
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 50);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void reportEndpoints_LatencyAndSqlCounts() throws Exception {
+        SyntheticDataSpecDTO spec = new SyntheticDataSpecDTO();
+        spec.setStartYear(START_YEAR);
+        spec.setFiscalYears(FISCAL_YEARS);
+        spec.setJournalEntries(JOURNAL_ENTRIES);
+        spec.setInvoices(JOURNAL_ENTRIES / 5);
+        spec.setStatementsPerBankAccount(JOURNAL_ENTRIES / 10);
+        SyntheticDataResultDTO generated = syntheticDataGenerator.generate(spec);
+
+        LocalDate yearStart = LocalDate.of(START_YEAR + FISCAL_YEARS - 1, 1, 1);
+        LocalDate yearEnd = yearStart.withDayOfYear(yearStart.lengthOfYear());
+        Long accountId = accountRepository.findActiveByType(AccountType.ASSET).get(0).getId();
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("trial balance", "/reports/trial-balance?asOfDate=" + yearEnd);
+        endpoints.put("profit & loss", "/reports/profit-loss?startDate=" + yearStart + "&endDate=" + yearEnd);
+        endpoints.put("balance sheet", "/reports/balance-sheet?asOfDate=" + yearEnd);
+        endpoints.put("ledger", "/ledger/view/" + accountId + "?startDate=" + yearStart + "&endDate=" + yearEnd);
+        endpoints.put("ledger page", "/ledger/page/" + accountId + "?size=100&startDate=" + yearStart
+                + "&endDate=" + yearEnd);
+        endpoints.put("dashboard", "/api/dashboard");
+
+        List<EndpointResult> results = new ArrayList<>();
+        for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+            results.add(measure(endpoint.getKey(), endpoint.getValue()));
+        }
+
+        report(generated, results);
+    }
+
+    private EndpointResult measure(String name, String url) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            call(url);
+        }
+        long[] nanos = new long[ITERATIONS];
+        int[] statements = new int[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            CapturingStatementInspector.start();
+            long started = System.nanoTime();
+            try {
+                call(url);
+            } finally {
+                nanos[i] = System.nanoTime() - started;
+                statements[i] = CapturingStatementInspector.stop().size();
+            }
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(statements);
+        return new EndpointResult(name, url, percentile(nanos, 50), percentile(nanos, 95), percentile(nanos, 99),
+                statements[statements.length / 2], statements[statements.length - 1]);
+    }
+
+    private void call(String url) throws Exception {
+        int status = mockMvc.perform(get(url)).andReturn().getResponse().getStatus();
+        assertEquals(200, status, url);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values, in milliseconds.
+     */
+    private static double percentile(long[] sortedNanos, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    private static void report(SyntheticDataResultDTO generated, List<EndpointResult> results) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%nReport load test: %d journal lines, %d invoices, %d bank statements, "
+                        + "%d warm-up + %d measured calls per endpoint%n",
+                generated.getJournalLines(), generated.getInvoices(), generated.getBankStatements(), WARMUP, ITERATIONS));
+        table.append(String.format("%-15s %10s %10s %10s %10s %10s%n",
+                "endpoint", "p50 ms", "p95 ms", "p99 ms", "sql p50", "sql max"));
+        StringBuilder csv = new StringBuilder("endpoint,url,p50_ms,p95_ms,p99_ms,sql_p50,sql_max\n");
+        for (EndpointResult result : results) {
+            table.append(String.format("%-15s %10.2f %10.2f %10.2f %10d %10d%n", result.name(),
+                    result.p50(), result.p95(), result.p99(), result.sqlMedian(), result.sqlMax()));
+            csv.append(String.format("%s,%s,%.3f,%.3f,%.3f,%d,%d%n", result.name(), result.url(),
+                    result.p50(), result.p95(), result.p99(), result.sqlMedian(), result.sqlMax()));
+        }
+        System.out.print(table);
+
+        Path target = Path.of("target");
+        Files.createDirectories(target);
+        Files.writeString(target.resolve("report-load-test.csv"), csv);
+    }
+
+    private record EndpointResult(String name, String url, double p50, double p95, double p99,
+                                  int sqlMedian, int sqlMax) {
+    }
+}
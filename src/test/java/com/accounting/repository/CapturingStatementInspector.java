@@ -0,0 +1,34 @@
+package com.accounting.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread while capturing is on. Register with
+ * hibernate.session_factory.statement_inspector.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured != null ? captured : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,178 @@
+package com.accounting.repository;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement counts of the journal entry fetch plans: list pages, detail view and ledger rows must not grow
+ * with the number of entries or lines on the page.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:journal_fetch_plan;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+class JournalEntryFetchPlanTest {
+
+    private static final int ENTRIES = 30;
+    private static final int LINES_PER_ENTRY = 4;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "entryDate", "entryNumber");
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Account> accounts;
+    private List<Long> entryIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        accounts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Account account = new Account();
+            account.setCode("FP" + i);
+            account.setName("Fetch plan account " + i);
+            account.setAccountType(i % 2 == 0 ? AccountType.ASSET : AccountType.REVENUE);
+            account.setIsActive(true);
+            entityManager.persist(account);
+            accounts.add(account);
+        }
+
+        entryIds = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            JournalEntry entry = new JournalEntry();
+            entry.setEntryNumber("JE-FP-" + String.format("%03d", i));
+            entry.setEntryDate(LocalDate.of(2024, 1, 1).plusDays(i));
+            entry.setDescription("Fetch plan seed " + i);
+            entry.setStatus(EntryStatus.POSTED);
+            for (int line = 0; line < LINES_PER_ENTRY; line++) {
+                JournalEntryLine journalLine = new JournalEntryLine();
+                journalLine.setAccount(accounts.get((i + line) % accounts.size()));
+                journalLine.setDebitAmount(line % 2 == 0 ? new BigDecimal("25.00") : BigDecimal.ZERO);
+                journalLine.setCreditAmount(line % 2 == 0 ? BigDecimal.ZERO : new BigDecimal("25.00"));
+                entry.addLine(journalLine);
+            }
+            entityManager.persist(entry);
+            entryIds.add(entry.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findSliceWithLines_LoadsEntriesAndLinesInTwoQueries() {
+        Slice<JournalEntry> slice = journalEntryRepository.findSliceWithLines(EntryStatus.POSTED,
+                PageRequest.of(0, 10, NEWEST_FIRST));
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (JournalEntry entry : slice.getContent()) {
+            assertEquals(LINES_PER_ENTRY, entry.getLines().size());
+            total = total.add(entry.getTotalDebit());
+        }
+
+        assertEquals(10, slice.getContent().size());
+        assertTrue(slice.hasNext());
+        assertEquals("JE-FP-029", slice.getContent().get(0).getEntryNumber());
+        assertEquals(new BigDecimal("500.00"), total);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findSliceWithLinesAndAccounts_IncludesAccountsInTheSameTwoQueries() {
+        Slice<JournalEntry> slice = journalEntryRepository.findSliceWithLinesAndAccounts(EntryStatus.POSTED,
+                PageRequest.of(0, 5, NEWEST_FIRST));
+
+        for (JournalEntry entry : slice.getContent()) {
+            for (JournalEntryLine line : entry.getLines()) {
+                assertNotNull(line.getAccount().getAccountType());
+            }
+        }
+
+        assertEquals(5, slice.getContent().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findPageWithLines_AddsOnlyTheCountQuery() {
+        Page<JournalEntry> page = journalEntryRepository.findPageWithLines(PageRequest.of(1, 10, NEWEST_FIRST));
+
+        page.getContent().forEach(entry -> assertEquals(LINES_PER_ENTRY, entry.getLines().size()));
+
+        assertEquals(ENTRIES, page.getTotalElements());
+        assertEquals("JE-FP-019", page.getContent().get(0).getEntryNumber());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdWithLines_LoadsDetailViewInOneQuery() {
+        JournalEntry entry = journalEntryRepository.findByIdWithLines(entryIds.get(0)).orElseThrow();
+
+        for (JournalEntryLine line : entry.getLines()) {
+            assertNotNull(line.getAccount().getCode());
+        }
+
+        assertEquals(LINES_PER_ENTRY, entry.getLines().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void lazyLinesAndAccounts_AreBatchFetched() {
+        List<JournalEntry> entries = journalEntryRepository.findAllById(entryIds);
+
+        for (JournalEntry entry : entries) {
+            for (JournalEntryLine line : entry.getLines()) {
+                assertNotNull(line.getAccount().getName());
+            }
+        }
+
+        // entries, one batch of lines (up to 50 entries), one batch of accounts
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByAccountIdAndPostedBetweenDates_LedgerRowsNeedOneQuery() {
+        List<JournalEntryLine> lines = journalEntryLineRepository.findByAccountIdAndPostedBetweenDates(
+                accounts.get(0).getId(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        for (JournalEntryLine line : lines) {
+            assertNotNull(line.getJournalEntry().getEntryNumber());
+        }
+
+        assertFalse(lines.isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
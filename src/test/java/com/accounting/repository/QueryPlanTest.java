@@ -0,0 +1,265 @@
+package com.accounting.repository;
+
+import com.accounting.model.EntryStatus;
+import com.accounting.model.InvoiceStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EXPLAIN on the SQL behind the reporting and reconciliation repository queries and fails when H2
+ * plans a full scan of one of the large tables. The schema comes from the Flyway migrations, so dropping
+ * or reordering an index in db/migration shows up here. Queries that aggregate a whole table by design
+ * name the tables they are allowed to scan.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_plans;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.accounting.repository.CapturingStatementInspector"
+})
+class QueryPlanTest {
+
+    private static final Set<String> LARGE_TABLES =
+            Set.of("JOURNAL_ENTRIES", "JOURNAL_ENTRY_LINES", "BANK_STATEMENTS", "INVOICES");
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+
+    private static final LocalDate FROM = LocalDate.of(2023, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2023, 12, 31);
+    private static final LocalDate MONTH_END = LocalDate.of(2023, 1, 31);
+
+    @Autowired
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @Autowired
+    private JournalEntryRepository journalEntryRepository;
+
+    @Autowired
+    private BankStatementRepository bankStatementRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seed() {
+        Long entries = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM journal_entries", Long.class);
+        if (entries != null && entries > 0) {
+            return;
+        }
+
+        List<Object[]> accounts = new ArrayList<>();
+        for (long id = 1001; id <= 1020; id++) {
+            accounts.add(new Object[] {id, "QP" + id, "Account " + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO accounts (id, code, name, account_type, is_active) " +
+                "VALUES (?, ?, ?, 'ASSET', true)", accounts);
+
+        List<Object[]> journalEntries = new ArrayList<>();
+        List<Object[]> lines = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            String status = id % 10 == 0 ? "DRAFT" : id % 10 == 1 ? "VOID" : "POSTED";
+            journalEntries.add(new Object[] {id, String.format("JE-%06d", id), FROM.plusDays(id % 730), status});
+            for (long line = 0; line < 4; line++) {
+                boolean debit = line % 2 == 0;
+                lines.add(new Object[] {id * 4 + line, id, 1001 + (id + line) % 20, debit ? 10 : 0, debit ? 0 : 10});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO journal_entries (id, entry_number, entry_date, status) " +
+                "VALUES (?, ?, ?, ?)", journalEntries);
+        jdbcTemplate.batchUpdate("INSERT INTO journal_entry_lines (id, journal_entry_id, account_id, " +
+                "debit_amount, credit_amount) VALUES (?, ?, ?, ?, ?)", lines);
+
+        List<Object[]> bankAccounts = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            bankAccounts.add(new Object[] {id, "Bank " + id, 1001 + id % 20});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bank_accounts (id, account_name, gl_account_id, opening_balance, " +
+                "current_balance, is_active, version) VALUES (?, ?, ?, 0, 0, true, 0)", bankAccounts);
+
+        List<Object[]> statements = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            LocalDate date = FROM.plusDays(id % 730);
+            boolean reconciled = id % 3 != 0;
+            statements.add(new Object[] {id, 1 + id % 30, date, date, id % 2 == 0 ? 10 : 0, id % 2 == 0 ? 0 : 10,
+                    reconciled, reconciled ? id * 2 : null});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bank_statements (id, bank_account_id, statement_date, " +
+                "transaction_date, debit_amount, credit_amount, is_reconciled, matched_journal_line_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", statements);
+
+        List<Object[]> customers = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            customers.add(new Object[] {id, "QPC" + id, "Customer " + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customers (id, code, name) VALUES (?, ?, ?)", customers);
+
+        String[] invoiceStatuses = {"DRAFT", "SENT", "PAID", "PAID", "PAID", "OVERDUE", "CANCELLED"};
+        List<Object[]> invoices = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            LocalDate date = FROM.plusDays(id % 730);
+            invoices.add(new Object[] {id, String.format("INV-%06d", id), 1 + id % 10, date, date.plusDays(30),
+                    invoiceStatuses[(int) (id % invoiceStatuses.length)]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO invoices (id, invoice_number, customer_id, invoice_date, due_date, " +
+                "status, total_amount) VALUES (?, ?, ?, ?, ?, ?, 100)", invoices);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void journalLineQueries_UseIndexes() {
+        assertIndexed("findByAccountIdAndPosted",
+                () -> journalEntryLineRepository.findByAccountIdAndPosted(1001L));
+        assertIndexed("findByAccountIdAndPostedBetweenDates",
+                () -> journalEntryLineRepository.findByAccountIdAndPostedBetweenDates(1001L, FROM, TO));
+        assertIndexed("findLedgerPage",
+                () -> journalEntryLineRepository.findLedgerPage(1001L, FROM, TO, PageRequest.of(0, 100)));
+        assertIndexed("findLedgerPageAfter",
+                () -> journalEntryLineRepository.findLedgerPageAfter(1001L, FROM, TO, FROM.plusDays(10),
+                        "JE-000010", 40L, PageRequest.of(0, 100)));
+        assertIndexed("findUnmatchedReconciliationCandidates",
+                () -> journalEntryLineRepository.findUnmatchedReconciliationCandidates(1001L, FROM, TO));
+        assertIndexed("sumDebitByAccountId", () -> journalEntryLineRepository.sumDebitByAccountId(1001L));
+        assertIndexed("sumCreditByAccountId", () -> journalEntryLineRepository.sumCreditByAccountId(1001L));
+        assertIndexed("sumDebitByAccountIdBetweenDates",
+                () -> journalEntryLineRepository.sumDebitByAccountIdBetweenDates(1001L, FROM, TO));
+        assertIndexed("sumCreditByAccountIdBetweenDates",
+                () -> journalEntryLineRepository.sumCreditByAccountIdBetweenDates(1001L, FROM, TO));
+        assertIndexed("sumDebitByAccountIdBeforeDate",
+                () -> journalEntryLineRepository.sumDebitByAccountIdBeforeDate(1001L, TO));
+        assertIndexed("sumCreditByAccountIdBeforeDate",
+                () -> journalEntryLineRepository.sumCreditByAccountIdBeforeDate(1001L, TO));
+        assertIndexed("sumByAccountIdBetweenDates",
+                () -> journalEntryLineRepository.sumByAccountIdBetweenDates(1001L, FROM, TO));
+        assertIndexed("sumByAccountIdsAsOf",
+                () -> journalEntryLineRepository.sumByAccountIdsAsOf(List.of(1001L, 1002L), TO));
+
+        // Trial balance, period rebuilds and the all-account range totals read most posted lines
+        assertIndexed("sumByAccountBetweenDates",
+                () -> journalEntryLineRepository.sumByAccountBetweenDates(FROM, TO), "JOURNAL_ENTRY_LINES");
+        assertIndexed("sumByAccount", () -> journalEntryLineRepository.sumByAccount(),
+                "JOURNAL_ENTRY_LINES", "JOURNAL_ENTRIES");
+        assertIndexed("sumByAccountAndMonth", () -> journalEntryLineRepository.sumByAccountAndMonth(),
+                "JOURNAL_ENTRY_LINES", "JOURNAL_ENTRIES");
+    }
+
+    @Test
+    void journalEntryQueries_UseIndexes() {
+        assertIndexed("findPostedEntriesBetweenDates",
+                () -> journalEntryRepository.findPostedEntriesBetweenDates(FROM, MONTH_END));
+        assertIndexed("findByStatusAndEntryDateBetween",
+                () -> journalEntryRepository.findByStatusAndEntryDateBetween(EntryStatus.POSTED, FROM, MONTH_END));
+        assertIndexed("findByEntryDateBetween", () -> journalEntryRepository.findByEntryDateBetween(FROM, MONTH_END));
+        assertIndexed("findByEntryNumber", () -> journalEntryRepository.findByEntryNumber("JE-000042"));
+        assertIndexed("countByStatus", () -> journalEntryRepository.countByStatus(EntryStatus.DRAFT));
+        assertIndexed("findByIdWithLines", () -> journalEntryRepository.findByIdWithLines(42L));
+
+        assertIndexed("findIdSliceByStatus", () -> journalEntryRepository.findIdSliceByStatus(EntryStatus.POSTED,
+                PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "entryDate"))));
+        assertIndexed("findSummarySlice",
+                () -> journalEntryRepository.findSummarySlice(FROM, TO, PageRequest.of(0, 50)));
+        assertIndexed("findSummarySliceByStatus",
+                () -> journalEntryRepository.findSummarySliceByStatus(EntryStatus.POSTED, FROM, TO, PageRequest.of(0, 50)));
+        assertIndexed("findSummarySliceBefore",
+                () -> journalEntryRepository.findSummarySliceBefore(FROM, TO, TO, "JE-000042", 42L, PageRequest.of(0, 50)));
+        assertIndexed("findSummarySliceByStatusBefore",
+                () -> journalEntryRepository.findSummarySliceByStatusBefore(EntryStatus.POSTED, FROM, TO,
+                        TO, "JE-000042", 42L, PageRequest.of(0, 50)));
+    }
+
+    @Test
+    void bankStatementQueries_UseIndexes() {
+        assertIndexed("findUnreconciledByBankAccountId",
+                () -> bankStatementRepository.findUnreconciledByBankAccountId(1L));
+        assertIndexed("findUnreconciledCandidates",
+                () -> bankStatementRepository.findUnreconciledCandidates(1L));
+        assertIndexed("findByBankAccountIdAndDateRange",
+                () -> bankStatementRepository.findByBankAccountIdAndDateRange(1L, FROM, TO));
+        assertIndexed("getReconciledBalance", () -> bankStatementRepository.getReconciledBalance(1L));
+        assertIndexed("countUnreconciled", () -> bankStatementRepository.countUnreconciled(1L));
+        assertIndexed("countUnreconciledByBankAccountIds",
+                () -> bankStatementRepository.countUnreconciledByBankAccountIds(List.of(1L, 2L)));
+        assertIndexed("sumReconciledByBankAccountIds",
+                () -> bankStatementRepository.sumReconciledByBankAccountIds(List.of(1L, 2L), TO));
+        assertIndexed("findByMatchedJournalLineIds",
+                () -> bankStatementRepository.findByMatchedJournalLineIds(List.of(2L, 4L)));
+    }
+
+    @Test
+    void invoiceQueries_UseIndexes() {
+        assertIndexed("findOverdueInvoices", () -> invoiceRepository.findOverdueInvoices(TO));
+        assertIndexed("countOverdueInvoices", () -> invoiceRepository.countOverdueInvoices(TO));
+        assertIndexed("findByDateRange", () -> invoiceRepository.findByDateRange(FROM, FROM.plusDays(30)));
+        assertIndexed("findByCustomerId", () -> invoiceRepository.findByCustomerId(3L));
+        assertIndexed("findByInvoiceNumber", () -> invoiceRepository.findByInvoiceNumber("INV-000042"));
+
+        // A whole status is a large share of the table, so reading it sequentially is an acceptable plan
+        assertIndexed("sumTotalByStatus", () -> invoiceRepository.sumTotalByStatus(InvoiceStatus.PAID), "INVOICES");
+    }
+
+    private void assertIndexed(String query, Runnable invocation, String... scanAllowed) {
+        CapturingStatementInspector.start();
+        List<String> statements;
+        try {
+            transactionTemplate.executeWithoutResult(status -> invocation.run());
+        } finally {
+            statements = CapturingStatementInspector.stop();
+        }
+        assertFalse(statements.isEmpty(), query + " did not run any SQL");
+
+        Set<String> allowed = Set.of(scanAllowed);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            Matcher scan = TABLE_SCAN.matcher(plan);
+            while (scan.find()) {
+                String table = scan.group(1).toUpperCase(Locale.ROOT);
+                if (LARGE_TABLES.contains(table) && !allowed.contains(table)) {
+                    fail(query + " scans all of " + table + ":\n" + plan);
+                }
+            }
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                // The plan is chosen when the statement is prepared, so the parameter values do not matter
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.accounting.service;
 
+import com.accounting.dto.AccountTotalsDTO;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.Account;
 import com.accounting.model.AccountType;
@@ -28,6 +29,9 @@ class AccountServiceTest {
     @Mock
     private JournalEntryLineRepository journalEntryLineRepository;
 
+    @Mock
+    private BalanceCache balanceCache;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -75,6 +79,7 @@ class AccountServiceTest {
 
         assertFalse(testAccount.getIsActive());
         verify(accountRepository).save(testAccount);
+        verifyNoInteractions(balanceCache);
     }
 
     @Test
@@ -99,8 +104,8 @@ class AccountServiceTest {
         // Service calls account.isDebitNormal().
 
         when(accountRepository.findById(1L)).thenReturn(Optional.of(testAccount));
-        when(journalEntryLineRepository.sumDebitByAccountId(1L)).thenReturn(new BigDecimal("100.00"));
-        when(journalEntryLineRepository.sumCreditByAccountId(1L)).thenReturn(new BigDecimal("20.00"));
+        when(balanceCache.getTotals(1L)).thenReturn(
+                new AccountTotalsDTO(1L, new BigDecimal("100.00"), new BigDecimal("20.00")));
 
         BigDecimal balance = accountService.getBalance(1L);
 
@@ -0,0 +1,91 @@
+package com.accounting.service;
+
+import com.accounting.dto.BankAccountCountDTO;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.model.BankAccount;
+import com.accounting.model.EntryStatus;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.JournalEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountingMetricsTest {
+
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private BankStatementRepository bankStatementRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountingMetrics accountingMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accountingMetrics = new AccountingMetrics(meterRegistry, journalEntryRepository, bankAccountRepository,
+                bankStatementRepository);
+    }
+
+    @Test
+    void onLedgerPosting_CountsPostedAndVoidedEntries() {
+        accountingMetrics.onLedgerPosting(new LedgerPostingEvent(1L, false, List.of()));
+        accountingMetrics.onLedgerPosting(new LedgerPostingEvent(null, false, List.of(), 25));
+        accountingMetrics.onLedgerPosting(new LedgerPostingEvent(1L, true, List.of()));
+
+        assertEquals(26.0, meterRegistry.get("accounting.journal.entries").tag("event", "posted").counter().count());
+        assertEquals(1.0, meterRegistry.get("accounting.journal.entries").tag("event", "voided").counter().count());
+    }
+
+    @Test
+    void refreshGauges_ReportsDraftBacklogAndUnreconciledPerBankAccount() {
+        when(journalEntryRepository.countByStatus(EntryStatus.DRAFT)).thenReturn(7L);
+        when(bankAccountRepository.findAllActive()).thenReturn(List.of(bankAccount(1L), bankAccount(2L)));
+        when(bankStatementRepository.countUnreconciledByBankAccountIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new BankAccountCountDTO(1L, 12L)));
+
+        accountingMetrics.refreshGauges();
+
+        assertEquals(7.0, meterRegistry.get("accounting.journal.entries.draft").gauge().value());
+        assertEquals(12.0, meterRegistry.get("accounting.bank.statements.unreconciled")
+                .tag("bank.account", "1").gauge().value());
+        assertEquals(0.0, meterRegistry.get("accounting.bank.statements.unreconciled")
+                .tag("bank.account", "2").gauge().value());
+        verify(bankStatementRepository, never()).countUnreconciled(any());
+    }
+
+    @Test
+    void refreshGauges_DropsDeactivatedBankAccounts() {
+        when(journalEntryRepository.countByStatus(EntryStatus.DRAFT)).thenReturn(0L);
+        when(bankAccountRepository.findAllActive())
+                .thenReturn(List.of(bankAccount(1L), bankAccount(2L)))
+                .thenReturn(List.of(bankAccount(1L)));
+        when(bankStatementRepository.countUnreconciledByBankAccountIds(any()))
+                .thenReturn(List.of(new BankAccountCountDTO(1L, 3L), new BankAccountCountDTO(2L, 3L)));
+
+        accountingMetrics.refreshGauges();
+        accountingMetrics.refreshGauges();
+
+        assertEquals(1, meterRegistry.find("accounting.bank.statements.unreconciled").gauges().size());
+    }
+
+    private static BankAccount bankAccount(Long id) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setId(id);
+        return bankAccount;
+    }
+}
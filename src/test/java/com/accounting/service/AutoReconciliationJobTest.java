@@ -0,0 +1,47 @@
+package com.accounting.service;
+
+import com.accounting.model.Account;
+import com.accounting.model.BankAccount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoReconciliationJobTest {
+
+    @Mock
+    private BankReconciliationService bankReconciliationService;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @InjectMocks
+    private AutoReconciliationJob autoReconciliationJob;
+
+    @Test
+    void reconcileAll_FailingAccount_DoesNotStopTheOthers() {
+        when(bankReconciliationService.findActiveBankAccounts()).thenReturn(List.of(
+                linkedBankAccount(1L), linkedBankAccount(2L), linkedBankAccount(3L)));
+        when(bankReconciliationService.autoReconcile(1L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(BankAccount.class, 1L));
+        when(bankReconciliationService.autoReconcile(2L)).thenThrow(new NullPointerException());
+
+        autoReconciliationJob.reconcileAll();
+
+        verify(bankReconciliationService).autoReconcile(3L);
+    }
+
+    private static BankAccount linkedBankAccount(Long id) {
+        BankAccount bankAccount = new BankAccount();
+        bankAccount.setId(id);
+        bankAccount.setGlAccount(new Account());
+        return bankAccount;
+    }
+}
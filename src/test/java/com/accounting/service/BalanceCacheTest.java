@@ -0,0 +1,198 @@
+package com.accounting.service;
+
+import com.accounting.config.PrimaryReads;
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.BalanceCacheVerificationDTO;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.repository.JournalEntryLineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceCacheTest {
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    private final PrimaryReads primaryReads = new PrimaryReads(null, false);
+
+    private BalanceCache balanceCache;
+
+    @BeforeEach
+    void setUp() {
+        balanceCache = new BalanceCache(journalEntryLineRepository, primaryReads, false, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void getTotals_AfterReload_IsServedFromMemory() {
+        when(journalEntryLineRepository.sumByAccount()).thenReturn(List.of(
+                new AccountTotalsDTO(1L, new BigDecimal("100.00"), new BigDecimal("20.00"))));
+        balanceCache.reload();
+
+        AccountTotalsDTO totals = balanceCache.getTotals(1L);
+
+        assertEquals(new BigDecimal("100.00"), totals.getTotalDebit());
+        assertEquals(1, balanceCache.getStats().getHits());
+        assertEquals(0, balanceCache.getStats().getMisses());
+        verify(journalEntryLineRepository, never()).sumDebitByAccountId(any());
+    }
+
+    @Test
+    void getTotals_Miss_LoadsFromDatabaseOnce() {
+        when(journalEntryLineRepository.sumDebitByAccountId(5L)).thenReturn(new BigDecimal("10.00"));
+        when(journalEntryLineRepository.sumCreditByAccountId(5L)).thenReturn(BigDecimal.ZERO);
+
+        balanceCache.getTotals(5L);
+        balanceCache.getTotals(5L);
+
+        assertEquals(1, balanceCache.getStats().getHits());
+        assertEquals(1, balanceCache.getStats().getMisses());
+        verify(journalEntryLineRepository, times(1)).sumDebitByAccountId(5L);
+    }
+
+    @Test
+    void getTotals_SeveralMisses_LoadsWithOneGroupedQuery() {
+        when(journalEntryLineRepository.sumByAccountIdsAsOf(List.of(1L, 2L), null)).thenReturn(List.of(
+                new AccountTotalsDTO(1L, new BigDecimal("50.00"), BigDecimal.ZERO)));
+
+        Map<Long, AccountTotalsDTO> totals = balanceCache.getTotals(List.of(1L, 2L));
+        balanceCache.getTotals(List.of(1L, 2L));
+
+        assertEquals(new BigDecimal("50.00"), totals.get(1L).getTotalDebit());
+        assertEquals(BigDecimal.ZERO, totals.get(2L).getTotalDebit());
+        assertEquals(2, balanceCache.getStats().getHits());
+        assertEquals(2, balanceCache.getStats().getMisses());
+        verify(journalEntryLineRepository, times(1)).sumByAccountIdsAsOf(any(), any());
+        verify(journalEntryLineRepository, never()).sumDebitByAccountId(any());
+    }
+
+    @Test
+    void onLedgerPosting_AddsToCachedTotals() {
+        when(journalEntryLineRepository.sumByAccount()).thenReturn(List.of(
+                new AccountTotalsDTO(1L, new BigDecimal("100.00"), BigDecimal.ZERO)));
+        balanceCache.reload();
+
+        List<LedgerPostingEvent.LineAmount> lines = List.of(
+                new LedgerPostingEvent.LineAmount(1L, LocalDate.now(), new BigDecimal("50.00"), BigDecimal.ZERO));
+        balanceCache.onLedgerPosting(new LedgerPostingEvent(7L, false, lines));
+
+        assertEquals(new BigDecimal("150.00"), balanceCache.getTotals(1L).getTotalDebit());
+        assertEquals(0, balanceCache.getStats().getMisses());
+        verify(journalEntryLineRepository, never()).sumDebitByAccountId(any());
+    }
+
+    @Test
+    void onLedgerPosting_RolledBack_LeavesTotalsUnchanged() {
+        when(journalEntryLineRepository.sumByAccount()).thenReturn(List.of(
+                new AccountTotalsDTO(1L, new BigDecimal("100.00"), BigDecimal.ZERO)));
+        balanceCache.reload();
+
+        List<LedgerPostingEvent.LineAmount> lines = List.of(
+                new LedgerPostingEvent.LineAmount(1L, LocalDate.now(), new BigDecimal("50.00"), BigDecimal.ZERO));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            balanceCache.onLedgerPosting(new LedgerPostingEvent(7L, false, lines));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new BigDecimal("100.00"), balanceCache.getTotals(1L).getTotalDebit());
+    }
+
+    @Test
+    void getTotals_WhilePostingCommits_IsNotCached() {
+        List<LedgerPostingEvent.LineAmount> lines = List.of(
+                new LedgerPostingEvent.LineAmount(5L, LocalDate.now(), new BigDecimal("10.00"), BigDecimal.ZERO));
+        when(journalEntryLineRepository.sumDebitByAccountId(5L)).thenReturn(new BigDecimal("10.00"));
+        when(journalEntryLineRepository.sumCreditByAccountId(5L)).thenReturn(BigDecimal.ZERO);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            balanceCache.onLedgerPosting(new LedgerPostingEvent(7L, false, lines));
+            // the load may already see the posting, so adding it after the commit must not count it twice
+            balanceCache.getTotals(5L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new BigDecimal("10.00"), balanceCache.getTotals(5L).getTotalDebit());
+        verify(journalEntryLineRepository, times(2)).sumDebitByAccountId(5L);
+    }
+
+    @Test
+    void getTotals_PostingDuringLoad_IsNotCached() {
+        List<LedgerPostingEvent.LineAmount> lines = List.of(
+                new LedgerPostingEvent.LineAmount(5L, LocalDate.now(), new BigDecimal("10.00"), BigDecimal.ZERO));
+        when(journalEntryLineRepository.sumDebitByAccountId(5L)).thenAnswer(invocation -> {
+            balanceCache.onLedgerPosting(new LedgerPostingEvent(7L, false, lines));
+            return new BigDecimal("10.00");
+        });
+        when(journalEntryLineRepository.sumCreditByAccountId(5L)).thenReturn(BigDecimal.ZERO);
+
+        balanceCache.getTotals(5L);
+        balanceCache.getTotals(5L);
+
+        assertEquals(2, balanceCache.getStats().getMisses());
+        verify(journalEntryLineRepository, times(2)).sumDebitByAccountId(5L);
+    }
+
+    @Test
+    void getTotals_SeveralMissesDuringPosting_AreNotCached() {
+        List<LedgerPostingEvent.LineAmount> lines = List.of(
+                new LedgerPostingEvent.LineAmount(1L, LocalDate.now(), new BigDecimal("10.00"), BigDecimal.ZERO));
+        when(journalEntryLineRepository.sumByAccountIdsAsOf(List.of(1L, 2L), null)).thenAnswer(invocation -> {
+            balanceCache.onLedgerPosting(new LedgerPostingEvent(7L, false, lines));
+            return List.of(new AccountTotalsDTO(1L, new BigDecimal("10.00"), BigDecimal.ZERO));
+        });
+
+        balanceCache.getTotals(List.of(1L, 2L));
+        balanceCache.getTotals(List.of(1L, 2L));
+
+        assertEquals(0, balanceCache.getStats().getHits());
+        verify(journalEntryLineRepository, times(2)).sumByAccountIdsAsOf(any(), any());
+    }
+
+    @Test
+    void getTotals_ExpiredEntry_IsReloaded() {
+        balanceCache = new BalanceCache(journalEntryLineRepository, primaryReads, false, Duration.ZERO);
+        when(journalEntryLineRepository.sumDebitByAccountId(5L)).thenReturn(new BigDecimal("10.00"));
+        when(journalEntryLineRepository.sumCreditByAccountId(5L)).thenReturn(BigDecimal.ZERO);
+
+        balanceCache.getTotals(5L);
+        balanceCache.getTotals(5L);
+
+        assertEquals(2, balanceCache.getStats().getMisses());
+        verify(journalEntryLineRepository, times(2)).sumDebitByAccountId(5L);
+    }
+
+    @Test
+    void verify_ReportsAccountsThatDifferFromJournalLines() {
+        when(journalEntryLineRepository.sumByAccount())
+                .thenReturn(List.of(new AccountTotalsDTO(1L, new BigDecimal("100.00"), BigDecimal.ZERO)))
+                .thenReturn(List.of(new AccountTotalsDTO(1L, new BigDecimal("120.00"), BigDecimal.ZERO)));
+        balanceCache.reload();
+
+        BalanceCacheVerificationDTO verification = balanceCache.verify();
+
+        assertFalse(verification.isConsistent());
+        assertEquals(1L, verification.getMismatches().get(0).getAccountId());
+    }
+}
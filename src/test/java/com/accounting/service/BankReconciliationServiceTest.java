@@ -0,0 +1,164 @@
+package com.accounting.service;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.BankBalanceVerificationDTO;
+import com.accounting.dto.ReconciliationBatchResultDTO;
+import com.accounting.dto.StatementMatchDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.BankAccount;
+import com.accounting.model.BankStatement;
+import com.accounting.model.JournalEntryLine;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementBatchRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankReconciliationServiceTest {
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private BankStatementRepository bankStatementRepository;
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @Mock
+    private BankStatementBatchRepository bankStatementBatchRepository;
+
+    @Mock
+    private ReconciliationSummaryService reconciliationSummaryService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BankReconciliationService bankReconciliationService;
+
+    private BankAccount bankAccount;
+    private BankStatement statement;
+
+    @BeforeEach
+    void setUp() {
+        bankAccount = new BankAccount();
+        bankAccount.setId(1L);
+        bankAccount.setOpeningBalance(new BigDecimal("1000.00"));
+        bankAccount.setCurrentBalance(new BigDecimal("1200.00"));
+
+        statement = new BankStatement();
+        statement.setId(10L);
+        statement.setBankAccount(bankAccount);
+        statement.setCreditAmount(new BigDecimal("75.00"));
+        statement.setDebitAmount(BigDecimal.ZERO);
+        statement.setIsReconciled(false);
+    }
+
+    @Test
+    void reconcileStatement_AdjustsCurrentBalanceByNetAmount() {
+        when(bankStatementRepository.findById(10L)).thenReturn(Optional.of(statement));
+        when(journalEntryLineRepository.findById(20L)).thenReturn(Optional.of(line(20L, "75.00", "0")));
+
+        bankReconciliationService.reconcileStatement(10L, 20L);
+
+        assertEquals(new BigDecimal("1275.00"), bankAccount.getCurrentBalance());
+        verify(bankStatementRepository, never()).getReconciledBalance(anyLong());
+    }
+
+    @Test
+    void unreconcileStatement_ReversesAdjustmentOnlyOnce() {
+        statement.setIsReconciled(true);
+        when(bankStatementRepository.findById(10L)).thenReturn(Optional.of(statement));
+
+        bankReconciliationService.unreconcileStatement(10L);
+        bankReconciliationService.unreconcileStatement(10L);
+
+        assertEquals(new BigDecimal("1125.00"), bankAccount.getCurrentBalance());
+        verify(bankStatementRepository, never()).getReconciledBalance(anyLong());
+    }
+
+    @Test
+    void reconcileStatements_WritesBatchAndAdjustsEachAccountOnce() {
+        BankStatement second = new BankStatement();
+        second.setId(11L);
+        second.setBankAccount(bankAccount);
+        second.setDebitAmount(new BigDecimal("25.00"));
+        second.setCreditAmount(BigDecimal.ZERO);
+        second.setIsReconciled(false);
+        List<StatementMatchDTO> matches = List.of(new StatementMatchDTO(10L, 20L), new StatementMatchDTO(11L, 21L));
+
+        when(bankStatementRepository.findAllById(any())).thenReturn(List.of(statement, second));
+        when(journalEntryLineRepository.findAllById(any())).thenReturn(List.of(
+                line(20L, "75.00", "0"), line(21L, "0", "25.00")));
+        when(bankAccountRepository.findAllById(any())).thenReturn(List.of(bankAccount));
+
+        ReconciliationBatchResultDTO result = bankReconciliationService.reconcileStatements(matches);
+
+        assertEquals(2, result.getStatementsUpdated());
+        assertEquals(List.of(1L), result.getBankAccountIds());
+        assertEquals(new BigDecimal("1250.00"), bankAccount.getCurrentBalance());
+        verify(bankStatementBatchRepository).setMatches(eq(matches), anyInt());
+        verify(bankAccountRepository, times(1)).save(bankAccount);
+    }
+
+    @Test
+    void reconcileStatements_AmountMismatch_RejectsWholeBatch() {
+        when(bankStatementRepository.findAllById(any())).thenReturn(List.of(statement));
+        when(journalEntryLineRepository.findAllById(any())).thenReturn(List.of(line(20L, "70.00", "0")));
+
+        assertThrows(AccountingException.class, () ->
+                bankReconciliationService.reconcileStatements(List.of(new StatementMatchDTO(10L, 20L))));
+
+        verify(bankStatementBatchRepository, never()).setMatches(any(), anyInt());
+        assertEquals(new BigDecimal("1200.00"), bankAccount.getCurrentBalance());
+    }
+
+    @Test
+    void verifyCurrentBalances_ReportsAndRepairsDrift() {
+        when(bankAccountRepository.findAll()).thenReturn(List.of(bankAccount));
+        when(bankStatementRepository.sumReconciledByBankAccountIds(any(), any())).thenReturn(List.of(
+                new AccountTotalsDTO(1L, new BigDecimal("50.00"), new BigDecimal("300.00"))));
+
+        BankBalanceVerificationDTO verification = bankReconciliationService.verifyCurrentBalances(true);
+
+        assertFalse(verification.isConsistent());
+        assertEquals(new BigDecimal("1250.00"), verification.getMismatches().get(0).getExpectedBalance());
+        assertEquals(new BigDecimal("1250.00"), bankAccount.getCurrentBalance());
+    }
+
+    @Test
+    void getReconciledBalance_WithoutOpeningBalance_CountsFromZero() {
+        bankAccount.setOpeningBalance(null);
+        when(bankAccountRepository.findById(1L)).thenReturn(Optional.of(bankAccount));
+        when(bankStatementRepository.getReconciledBalance(1L)).thenReturn(new BigDecimal("75.00"));
+
+        assertEquals(new BigDecimal("75.00"), bankReconciliationService.getReconciledBalance(1L));
+    }
+
+    private static JournalEntryLine line(Long id, String debit, String credit) {
+        JournalEntryLine line = new JournalEntryLine();
+        line.setId(id);
+        line.setDebitAmount(new BigDecimal(debit));
+        line.setCreditAmount(new BigDecimal(credit));
+        return line;
+    }
+}
@@ -0,0 +1,106 @@
+package com.accounting.service;
+
+import com.accounting.config.PrimaryReads;
+import com.accounting.dto.DashboardDTO;
+import com.accounting.event.LedgerPostingEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardSnapshotServiceTest {
+
+    @Mock
+    private ReportService reportService;
+
+    private final PrimaryReads primaryReads = new PrimaryReads(null, false);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(reportService.generateDashboard()).thenAnswer(invocation -> new DashboardDTO());
+    }
+
+    @Test
+    void getSnapshot_ReusesSnapshotBetweenRequests() {
+        DashboardSnapshotService service = new DashboardSnapshotService(reportService, primaryReads, Duration.ZERO, Duration.ofMinutes(5));
+
+        DashboardDTO first = service.getSnapshot();
+        DashboardDTO second = service.getSnapshot();
+
+        assertSame(first, second);
+        assertNotNull(first.getGeneratedAt());
+        assertEquals(300L, first.getMaxStalenessSeconds());
+        verify(reportService, times(1)).generateDashboard();
+    }
+
+    @Test
+    void refreshIfDue_SkipsRebuildWhenNothingPosted() {
+        DashboardSnapshotService service = new DashboardSnapshotService(reportService, primaryReads, Duration.ZERO, Duration.ofMinutes(5));
+        service.getSnapshot();
+
+        service.refreshIfDue();
+
+        verify(reportService, times(1)).generateDashboard();
+    }
+
+    @Test
+    void refreshIfDue_RebuildsAfterLedgerPosting() {
+        DashboardSnapshotService service = new DashboardSnapshotService(reportService, primaryReads, Duration.ZERO, Duration.ofMinutes(5));
+        DashboardDTO before = service.getSnapshot();
+
+        service.onLedgerPosting(new LedgerPostingEvent(1L, false, List.of()));
+        service.refreshIfDue();
+
+        assertNotSame(before, service.getSnapshot());
+        verify(reportService, times(2)).generateDashboard();
+    }
+
+    @Test
+    void refreshIfDue_ThrottlesRebuildsWithinMinimumInterval() {
+        DashboardSnapshotService service = new DashboardSnapshotService(reportService, primaryReads, Duration.ofHours(1), Duration.ofHours(2));
+        service.getSnapshot();
+
+        service.markDirty();
+        service.refreshIfDue();
+
+        verify(reportService, times(1)).generateDashboard();
+    }
+
+    @Test
+    void getSnapshot_ConcurrentFirstRequests_BuildOnce() throws Exception {
+        DashboardSnapshotService service = new DashboardSnapshotService(reportService, primaryReads, Duration.ZERO, Duration.ofMinutes(5));
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reportService.generateDashboard()).thenAnswer(invocation -> {
+            building.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new DashboardDTO();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<DashboardDTO> first = executor.submit(service::getSnapshot);
+            assertTrue(building.await(5, TimeUnit.SECONDS));
+            Future<DashboardDTO> second = executor.submit(service::getSnapshot);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(reportService, times(1)).generateDashboard();
+    }
+}
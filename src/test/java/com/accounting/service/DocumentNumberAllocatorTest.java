@@ -0,0 +1,72 @@
+package com.accounting.service;
+
+import com.accounting.model.DocumentNumberCounter;
+import com.accounting.repository.DocumentNumberCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentNumberAllocatorTest {
+
+    @Mock
+    private DocumentNumberCounterRepository counterRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DocumentNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new DocumentNumberAllocator(counterRepository, transactionManager, 10);
+    }
+
+    @Test
+    void next_NewPrefix_SeedsFromHighestExistingNumber() {
+        DocumentNumberCounter created = new DocumentNumberCounter("JE-202403", 42L);
+        when(counterRepository.findByPrefixForUpdate("JE-202403"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(created));
+
+        String number = allocator.next("JE-202403", () -> 41);
+
+        assertEquals("JE-202403-0042", number);
+        verify(counterRepository).insertCounter("JE-202403", 42L);
+        assertEquals(52L, created.getNextValue());
+    }
+
+    @Test
+    void next_ServesNumbersFromReservedBlockWithoutTouchingTheTable() {
+        when(counterRepository.findByPrefixForUpdate("INV-202403"))
+                .thenReturn(Optional.of(new DocumentNumberCounter("INV-202403", 1L)));
+
+        for (int i = 0; i < 10; i++) {
+            allocator.next("INV-202403", () -> fail("seed must not be used for an existing counter"));
+        }
+
+        verify(counterRepository, times(1)).findByPrefixForUpdate("INV-202403");
+    }
+
+    @Test
+    void next_RequestLargerThanBlock_ReservesEnoughNumbersAtOnce() {
+        DocumentNumberCounter counter = new DocumentNumberCounter("JE-202403", 100L);
+        when(counterRepository.findByPrefixForUpdate("JE-202403")).thenReturn(Optional.of(counter));
+
+        List<String> numbers = allocator.next("JE-202403", 25, () -> null);
+
+        assertEquals(25, numbers.size());
+        assertEquals("JE-202403-0100", numbers.get(0));
+        assertEquals("JE-202403-0124", numbers.get(24));
+        assertEquals(125L, counter.getNextValue());
+    }
+}
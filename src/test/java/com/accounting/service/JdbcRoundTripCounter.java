@@ -0,0 +1,28 @@
+package com.accounting.service;
+
+import org.hibernate.BaseSessionEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts JDBC round trips (single statements and batch executions) made by Hibernate sessions on the
+ * current thread. Register with hibernate.session.events.auto.
+ */
+public class JdbcRoundTripCounter extends BaseSessionEventListener {
+
+    private static final ThreadLocal<AtomicLong> ROUND_TRIPS = ThreadLocal.withInitial(AtomicLong::new);
+
+    public static long current() {
+        return ROUND_TRIPS.get().get();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        ROUND_TRIPS.get().incrementAndGet();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        ROUND_TRIPS.get().incrementAndGet();
+    }
+}
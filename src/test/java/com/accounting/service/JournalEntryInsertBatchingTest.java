@@ -0,0 +1,87 @@
+package com.accounting.service;
+
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.EntryStatus;
+import com.accounting.model.JournalEntry;
+import com.accounting.model.JournalEntryLine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Insert round trips for one 40-line journal entry with JDBC batching (sequence ids) and without it,
+ * which is what IDENTITY ids forced on every entry.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:insert_batching;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session.events.auto=com.accounting.service.JdbcRoundTripCounter"
+})
+class JournalEntryInsertBatchingTest {
+
+    private static final int LINES = 40;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void persistJournalEntry_LinesAreInsertedInOneBatch() {
+        Account[] accounts = transactionTemplate.execute(status ->
+                new Account[] {persistAccount("9901"), persistAccount("9902")});
+        persistEntry("JE-WARMUP", accounts, null);
+
+        long batched = roundTrips("JE-BATCHED", accounts, null);
+        long unbatched = roundTrips("JE-UNBATCHED", accounts, 1);
+
+        assertTrue(batched <= 4, "Batched insert took " + batched + " round trips");
+        assertTrue(unbatched >= LINES + 1, "Unbatched insert took " + unbatched + " round trips");
+    }
+
+    private long roundTrips(String entryNumber, Account[] accounts, Integer jdbcBatchSize) {
+        long before = JdbcRoundTripCounter.current();
+        persistEntry(entryNumber, accounts, jdbcBatchSize);
+        return JdbcRoundTripCounter.current() - before;
+    }
+
+    private void persistEntry(String entryNumber, Account[] accounts, Integer jdbcBatchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcBatchSize != null) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            }
+            JournalEntry entry = new JournalEntry();
+            entry.setEntryNumber(entryNumber);
+            entry.setEntryDate(LocalDate.now());
+            entry.setStatus(EntryStatus.POSTED);
+            for (int i = 0; i < LINES; i++) {
+                JournalEntryLine line = new JournalEntryLine();
+                line.setAccount(accounts[i % 2]);
+                line.setDebitAmount(i % 2 == 0 ? BigDecimal.TEN : BigDecimal.ZERO);
+                line.setCreditAmount(i % 2 == 0 ? BigDecimal.ZERO : BigDecimal.TEN);
+                entry.addLine(line);
+            }
+            entityManager.persist(entry);
+            entityManager.flush();
+        });
+    }
+
+    private Account persistAccount(String code) {
+        Account account = new Account();
+        account.setCode(code);
+        account.setName("Batching " + code);
+        account.setAccountType(AccountType.ASSET);
+        entityManager.persist(account);
+        return account;
+    }
+}
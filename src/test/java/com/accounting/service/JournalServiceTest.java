@@ -1,9 +1,14 @@
 package com.accounting.service;
 
 import com.accounting.dto.JournalEntryDTO;
+import com.accounting.dto.JournalEntrySliceDTO;
+import com.accounting.dto.JournalEntrySummaryDTO;
+import com.accounting.dto.JournalImportResultDTO;
+import com.accounting.event.LedgerPostingEvent;
 import com.accounting.exception.AccountingException;
 import com.accounting.model.*;
 import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryBatchRepository;
 import com.accounting.repository.JournalEntryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,15 +16,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +46,18 @@ class JournalServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JournalEntryBatchRepository journalEntryBatchRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private DocumentNumberAllocator documentNumberAllocator;
+
     @InjectMocks
     private JournalService journalService;
 
@@ -64,6 +91,11 @@ class JournalServiceTest {
         lines.add(debitLine);
         lines.add(creditLine);
         validDto.setLines(lines);
+
+        lenient().when(documentNumberAllocator.next(anyString(), anyInt(), any())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(1);
+            return IntStream.rangeClosed(1, count).mapToObj(n -> "JE-TEST-" + n).toList();
+        });
     }
 
     @Test
@@ -90,6 +122,16 @@ class JournalServiceTest {
         assertThrows(AccountingException.class, () -> journalService.createEntry(validDto, new User()));
     }
 
+    @Test
+    void createEntry_AccountDeactivatedSinceCached_ThrowsException() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(debitAccount));
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(creditAccount));
+        when(accountRepository.findInactiveCodes(any())).thenReturn(List.of("1001"));
+
+        assertThrows(AccountingException.class, () -> journalService.createEntry(validDto, new User()));
+        verify(journalEntryRepository, never()).save(any());
+    }
+
     @Test
     void postEntry_DraftEntry_Success() {
         JournalEntry draftEntry = new JournalEntry();
@@ -129,4 +171,92 @@ class JournalServiceTest {
 
         assertThrows(AccountingException.class, () -> journalService.postEntry(1L));
     }
+
+    @Test
+    void findSlice_NextCursorSeeksPastLastEntry() {
+        JournalEntrySummaryDTO last = new JournalEntrySummaryDTO(7L, "JE-2024-0007", LocalDate.of(2024, 3, 1),
+                "Rent", null, EntryStatus.POSTED, new BigDecimal("100.00"));
+        when(journalEntryRepository.findSummarySliceByStatus(eq(EntryStatus.POSTED), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(last), PageRequest.of(0, 1), true));
+
+        JournalEntrySliceDTO first = journalService.findSlice(EntryStatus.POSTED, null, null, null, 1);
+
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+
+        when(journalEntryRepository.findSummarySliceByStatusBefore(eq(EntryStatus.POSTED), any(), any(),
+                eq(LocalDate.of(2024, 3, 1)), eq("JE-2024-0007"), eq(7L), any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        JournalEntrySliceDTO second = journalService.findSlice(EntryStatus.POSTED, null, null, first.getNextCursor(), 1);
+
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(journalEntryRepository, never()).count();
+    }
+
+    @Test
+    void findSlice_WithoutStatus_UsesUnfilteredQueryOverWholeDateRange() {
+        when(journalEntryRepository.findSummarySlice(eq(LocalDate.of(1000, 1, 1)), eq(LocalDate.of(9999, 12, 31)), any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        JournalEntrySliceDTO slice = journalService.findSlice(null, null, null, null, 20);
+
+        assertFalse(slice.isHasNext());
+        verify(journalEntryRepository, never()).findSummarySliceByStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void findSlice_InvalidCursor_ThrowsException() {
+        assertThrows(AccountingException.class,
+                () -> journalService.findSlice(null, null, null, "not-a-cursor", 20));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importBatch_ReportsInvalidEntriesAndInsertsTheRest() {
+        JournalEntryDTO unknownAccount = new JournalEntryDTO();
+        unknownAccount.setEntryDate(LocalDate.now());
+        unknownAccount.setReference("BILL-2");
+        JournalEntryDTO.JournalEntryLineDTO line = new JournalEntryDTO.JournalEntryLineDTO();
+        line.setAccountId(99L);
+        line.setDebitAmount(new BigDecimal("10.00"));
+        unknownAccount.setLines(new ArrayList<>(List.of(line)));
+
+        when(accountRepository.findAllById(any())).thenReturn(List.of(debitAccount, creditAccount));
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doAnswer(invocation -> {
+            List<JournalEntry> entries = invocation.getArgument(0);
+            entries.forEach(entry -> entry.setId(10L));
+            return null;
+        }).when(journalEntryBatchRepository).insertAll(any());
+
+        JournalImportResultDTO result = journalService.importBatch(List.of(validDto, unknownAccount), true, null);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(10L, result.getResults().get(0).getEntryId());
+        assertEquals("Account not found: 99", result.getResults().get(1).getError());
+        verify(accountRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(any(LedgerPostingEvent.class));
+    }
+
+    @Test
+    void importBatch_AccountDeactivatedSinceCached_RejectsItsEntries() {
+        debitAccount.setCode("1001");
+        creditAccount.setCode("2001");
+        when(accountRepository.findAllById(any())).thenReturn(List.of(debitAccount, creditAccount));
+        when(accountRepository.findInactiveCodes(any())).thenReturn(List.of("1001"));
+
+        JournalImportResultDTO result = journalService.importBatch(List.of(validDto), true, null);
+
+        assertEquals(1, result.getFailed());
+        assertEquals("Cannot use inactive account: 1001", result.getResults().get(0).getError());
+        verify(journalEntryBatchRepository, never()).insertAll(any());
+        verify(eventPublisher, never()).publishEvent(any(LedgerPostingEvent.class));
+    }
 }
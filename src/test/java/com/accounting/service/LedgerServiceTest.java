@@ -0,0 +1,153 @@
+package com.accounting.service;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.LedgerLineDTO;
+import com.accounting.dto.LedgerPageDTO;
+import com.accounting.exception.AccountingException;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    @Mock
+    private PeriodBalanceService periodBalanceService;
+
+    private LedgerService ledgerService;
+    private Account cash;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ledgerService = new LedgerService(accountRepository, journalEntryLineRepository, periodBalanceService, objectMapper,
+                "test-secret");
+
+        cash = new Account();
+        cash.setId(1L);
+        cash.setCode("1001");
+        cash.setName("Cash");
+        cash.setAccountType(AccountType.ASSET);
+
+        when(periodBalanceService.getTotalsAsOfDate(1L, START.minusDays(1)))
+                .thenReturn(new AccountTotalsDTO(1L, new BigDecimal("100.00"), BigDecimal.ZERO));
+    }
+
+    @Test
+    void exportLedger_Csv_WritesRunningBalanceAndEscapesText() throws Exception {
+        when(journalEntryLineRepository.streamByAccountIdAndPostedBetweenDates(1L, START, END)).thenReturn(Stream.of(
+                new LedgerLineDTO(10L, 1L, LocalDate.of(2024, 2, 1), "JE-1", "Sale, cash", null,
+                        new BigDecimal("50.00"), BigDecimal.ZERO),
+                new LedgerLineDTO(11L, 2L, LocalDate.of(2024, 2, 2), "JE-2", "Rent \"Feb\"", "R-7",
+                        BigDecimal.ZERO, new BigDecimal("30.00"))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ledgerService.exportLedger(cash, START, END, LedgerService.ExportFormat.CSV, out);
+
+        String[] rows = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, rows.length);
+        assertEquals("2024-02-01,JE-1,,\"Sale, cash\",50.00,0,150.00", rows[1]);
+        assertEquals("2024-02-02,JE-2,R-7,\"Rent \"\"Feb\"\"\",0,30.00,120.00", rows[2]);
+    }
+
+    @Test
+    void exportLedger_Ndjson_WritesOneJsonObjectPerLine() throws Exception {
+        when(journalEntryLineRepository.streamByAccountIdAndPostedBetweenDates(1L, START, END)).thenReturn(Stream.of(
+                new LedgerLineDTO(10L, 1L, LocalDate.of(2024, 2, 1), "JE-1", "Sale", null,
+                        new BigDecimal("50.00"), BigDecimal.ZERO)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ledgerService.exportLedger(cash, START, END, LedgerService.ExportFormat.NDJSON, out);
+
+        String[] rows = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows.length);
+        assertTrue(rows[0].contains("\"entryDate\":\"2024-02-01\""));
+        assertTrue(rows[0].contains("\"runningBalance\":150.00"));
+    }
+
+    @Test
+    void generateLedgerPage_CursorCarriesKeyAndRunningBalance() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(cash));
+        when(journalEntryLineRepository.findLedgerPage(eq(1L), eq(START), eq(END), any())).thenReturn(List.of(
+                new LedgerLineDTO(10L, 1L, LocalDate.of(2024, 2, 1), "JE-1", "Sale", null,
+                        new BigDecimal("50.00"), BigDecimal.ZERO),
+                new LedgerLineDTO(11L, 2L, LocalDate.of(2024, 2, 2), "JE-2", "Sale", null,
+                        new BigDecimal("25.00"), BigDecimal.ZERO)));
+
+        LedgerPageDTO first = ledgerService.generateLedgerPage(1L, START, END, null, 1);
+
+        assertTrue(first.isHasMore());
+        assertEquals(1, first.getEntries().size());
+        assertEquals(new BigDecimal("150.00"), first.getClosingBalance());
+
+        when(journalEntryLineRepository.findLedgerPageAfter(eq(1L), eq(START), eq(END),
+                eq(LocalDate.of(2024, 2, 1)), eq("JE-1"), eq(10L), any())).thenReturn(List.of(
+                new LedgerLineDTO(11L, 2L, LocalDate.of(2024, 2, 2), "JE-2", "Sale", null,
+                        new BigDecimal("25.00"), BigDecimal.ZERO)));
+
+        LedgerPageDTO second = ledgerService.generateLedgerPage(1L, START, END, first.getNextCursor(), 1);
+
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertEquals(new BigDecimal("150.00"), second.getOpeningBalance());
+        assertEquals(new BigDecimal("175.00"), second.getClosingBalance());
+        verify(periodBalanceService, times(1)).getTotalsAsOfDate(any(), any());
+    }
+
+    @Test
+    void generateLedgerPage_CursorFromOtherStartDate_IsRejected() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(cash));
+        when(journalEntryLineRepository.findLedgerPage(eq(1L), eq(START), eq(END), any())).thenReturn(List.of(
+                new LedgerLineDTO(10L, 1L, LocalDate.of(2024, 2, 1), "JE-1", "Sale", null,
+                        new BigDecimal("50.00"), BigDecimal.ZERO),
+                new LedgerLineDTO(11L, 2L, LocalDate.of(2024, 2, 2), "JE-2", "Sale", null,
+                        new BigDecimal("25.00"), BigDecimal.ZERO)));
+        String cursor = ledgerService.generateLedgerPage(1L, START, END, null, 1).getNextCursor();
+
+        assertThrows(AccountingException.class,
+                () -> ledgerService.generateLedgerPage(1L, START.plusMonths(1), END, cursor, 1));
+        verify(journalEntryLineRepository, never()).findLedgerPageAfter(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void generateLedgerPage_TamperedCursor_IsRejected() {
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(cash));
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "1|2024-01-01|2024-02-01|10|1000000.00|JE-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(AccountingException.class,
+                () -> ledgerService.generateLedgerPage(1L, START, END, payload + ".AAAA", 1));
+    }
+}
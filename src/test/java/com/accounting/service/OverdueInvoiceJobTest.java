@@ -0,0 +1,102 @@
+package com.accounting.service;
+
+import com.accounting.model.Customer;
+import com.accounting.model.Invoice;
+import com.accounting.model.InvoiceStatus;
+import com.accounting.repository.CustomerRepository;
+import com.accounting.repository.InvoiceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:overdue_sweep;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OverdueInvoiceJobTest {
+
+    @Autowired
+    private OverdueInvoiceJob overdueInvoiceJob;
+
+    @Autowired
+    private JobLockService jobLockService;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        invoiceRepository.deleteAll();
+    }
+
+    @Test
+    void markOverdue_UpdatesOnlyPastDueSentInvoicesInOneStatement() {
+        Customer customer = customerRepository.findAll().stream().findFirst().orElseGet(this::createCustomer);
+        List<Invoice> invoices = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            invoices.add(invoice(customer, "OD-" + i, InvoiceStatus.SENT, LocalDate.now().minusDays(1)));
+        }
+        invoices.add(invoice(customer, "OD-FUTURE", InvoiceStatus.SENT, LocalDate.now().plusDays(10)));
+        invoices.add(invoice(customer, "OD-DRAFT", InvoiceStatus.DRAFT, LocalDate.now().minusDays(10)));
+        invoiceRepository.saveAll(invoices);
+        statistics.clear();
+
+        int updated = overdueInvoiceJob.markOverdue();
+
+        assertEquals(50, updated);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(50, invoiceRepository.findByStatus(InvoiceStatus.OVERDUE).size());
+        assertEquals(InvoiceStatus.DRAFT, invoiceRepository.findByInvoiceNumber("OD-DRAFT").orElseThrow().getStatus());
+    }
+
+    @Test
+    void runExclusively_SecondCallerIsSkippedWhileLockIsHeld() {
+        AtomicBoolean nestedRan = new AtomicBoolean();
+
+        boolean ran = jobLockService.runExclusively("test-job", Duration.ofMinutes(5), Duration.ZERO,
+                () -> nestedRan.set(jobLockService.runExclusively("test-job", Duration.ofMinutes(5), Duration.ZERO,
+                        () -> fail("lock should be held"))));
+
+        assertTrue(ran);
+        assertFalse(nestedRan.get());
+        assertTrue(jobLockService.runExclusively("test-job", Duration.ofMinutes(5), Duration.ZERO, () -> { }));
+    }
+
+    private Customer createCustomer() {
+        Customer customer = new Customer();
+        customer.setCode("C-OD");
+        customer.setName("Overdue Customer");
+        return customerRepository.save(customer);
+    }
+
+    private Invoice invoice(Customer customer, String number, InvoiceStatus status, LocalDate dueDate) {
+        Invoice invoice = new Invoice();
+        invoice.setInvoiceNumber(number);
+        invoice.setCustomer(customer);
+        invoice.setInvoiceDate(dueDate.minusDays(30));
+        invoice.setDueDate(dueDate);
+        invoice.setStatus(status);
+        return invoice;
+    }
+}
@@ -0,0 +1,135 @@
+package com.accounting.service;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.repository.AccountPeriodBalanceRepository;
+import com.accounting.repository.AccountRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodBalanceServiceTest {
+
+    @Mock
+    private AccountPeriodBalanceRepository periodBalanceRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    private PeriodBalanceService periodBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        periodBalanceService = new PeriodBalanceService(
+                periodBalanceRepository, accountRepository, journalEntryLineRepository);
+    }
+
+    @Test
+    void onLedgerPosting_AggregatesLinesPerAccountAndMonth() {
+        LocalDate march = LocalDate.of(2024, 3, 10);
+        LedgerPostingEvent event = new LedgerPostingEvent(1L, false, List.of(
+                new LedgerPostingEvent.LineAmount(1L, march, new BigDecimal("40.00"), BigDecimal.ZERO),
+                new LedgerPostingEvent.LineAmount(1L, march, new BigDecimal("60.00"), BigDecimal.ZERO),
+                new LedgerPostingEvent.LineAmount(2L, march, BigDecimal.ZERO, new BigDecimal("100.00"))));
+
+        periodBalanceService.onLedgerPosting(event);
+
+        verify(periodBalanceRepository).addToPeriod(1L, LocalDate.of(2024, 3, 1),
+                new BigDecimal("100.00"), BigDecimal.ZERO);
+        verify(periodBalanceRepository).addToPeriod(2L, LocalDate.of(2024, 3, 1),
+                BigDecimal.ZERO, new BigDecimal("100.00"));
+    }
+
+    @Test
+    void onLedgerPosting_VoidReversesAmounts() {
+        LocalDate march = LocalDate.of(2024, 3, 10);
+        LedgerPostingEvent event = new LedgerPostingEvent(1L, true, List.of(
+                new LedgerPostingEvent.LineAmount(1L, march, new BigDecimal("25.00"), BigDecimal.ZERO)));
+
+        periodBalanceService.onLedgerPosting(event);
+
+        verify(periodBalanceRepository).addToPeriod(1L, LocalDate.of(2024, 3, 1),
+                new BigDecimal("-25.00"), BigDecimal.ZERO.negate());
+    }
+
+    @Test
+    void getTotalsAsOfDate_MidMonth_UsesRollupsPlusOnePartialScan() {
+        LocalDate asOfDate = LocalDate.of(2024, 3, 15);
+        when(periodBalanceRepository.sumByAccountIdBetweenPeriods(eq(1L), any(), eq(LocalDate.of(2024, 2, 1))))
+                .thenReturn(Optional.of(new AccountTotalsDTO(1L, new BigDecimal("500.00"), new BigDecimal("100.00"))));
+        when(journalEntryLineRepository.sumByAccountIdBetweenDates(1L, LocalDate.of(2024, 3, 1), asOfDate))
+                .thenReturn(Optional.of(new AccountTotalsDTO(1L, new BigDecimal("50.00"), BigDecimal.ZERO)));
+
+        AccountTotalsDTO totals = periodBalanceService.getTotalsAsOfDate(1L, asOfDate);
+
+        assertEquals(new BigDecimal("550.00"), totals.getTotalDebit());
+        assertEquals(new BigDecimal("100.00"), totals.getTotalCredit());
+    }
+
+    @Test
+    void getTotalsAsOfDate_MonthEnd_SkipsLineScan() {
+        LocalDate asOfDate = LocalDate.of(2024, 2, 29);
+        when(periodBalanceRepository.sumByAccountIdBetweenPeriods(eq(1L), any(), eq(LocalDate.of(2024, 2, 1))))
+                .thenReturn(Optional.of(new AccountTotalsDTO(1L, new BigDecimal("500.00"), new BigDecimal("100.00"))));
+
+        AccountTotalsDTO totals = periodBalanceService.getTotalsAsOfDate(1L, asOfDate);
+
+        assertEquals(new BigDecimal("500.00"), totals.getTotalDebit());
+        verifyNoInteractions(journalEntryLineRepository);
+    }
+
+    @Test
+    void getTotalsBetweenDates_ScansOnlyPartialBoundaryMonths() {
+        LocalDate startDate = LocalDate.of(2024, 1, 20);
+        LocalDate endDate = LocalDate.of(2024, 4, 10);
+        when(periodBalanceRepository.sumByAccountIdBetweenPeriods(1L, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)))
+                .thenReturn(Optional.of(new AccountTotalsDTO(1L, new BigDecimal("200.00"), BigDecimal.ZERO)));
+        when(journalEntryLineRepository.sumByAccountIdBetweenDates(1L, startDate, LocalDate.of(2024, 1, 31)))
+                .thenReturn(Optional.of(new AccountTotalsDTO(1L, new BigDecimal("10.00"), BigDecimal.ZERO)));
+        when(journalEntryLineRepository.sumByAccountIdBetweenDates(1L, LocalDate.of(2024, 4, 1), endDate))
+                .thenReturn(Optional.empty());
+
+        AccountTotalsDTO totals = periodBalanceService.getTotalsBetweenDates(1L, startDate, endDate);
+
+        assertEquals(new BigDecimal("210.00"), totals.getTotalDebit());
+        assertEquals(BigDecimal.ZERO, totals.getTotalCredit());
+    }
+
+    @Test
+    void getTotalsByAccountBetweenDates_GroupsRollupsAndBoundaryMonths() {
+        LocalDate startDate = LocalDate.of(2024, 1, 20);
+        LocalDate endDate = LocalDate.of(2024, 4, 10);
+        when(periodBalanceRepository.sumByAccountBetweenPeriods(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)))
+                .thenReturn(List.of(new AccountTotalsDTO(1L, new BigDecimal("200.00"), BigDecimal.ZERO),
+                        new AccountTotalsDTO(2L, BigDecimal.ZERO, new BigDecimal("200.00"))));
+        when(journalEntryLineRepository.sumByAccountBetweenDates(startDate, LocalDate.of(2024, 1, 31)))
+                .thenReturn(List.of(new AccountTotalsDTO(1L, new BigDecimal("10.00"), BigDecimal.ZERO)));
+        when(journalEntryLineRepository.sumByAccountBetweenDates(LocalDate.of(2024, 4, 1), endDate))
+                .thenReturn(List.of(new AccountTotalsDTO(3L, new BigDecimal("5.00"), BigDecimal.ZERO)));
+
+        Map<Long, AccountTotalsDTO> totals = periodBalanceService.getTotalsByAccountBetweenDates(startDate, endDate);
+
+        assertEquals(new BigDecimal("210.00"), totals.get(1L).getTotalDebit());
+        assertEquals(new BigDecimal("200.00"), totals.get(2L).getTotalCredit());
+        assertEquals(new BigDecimal("5.00"), totals.get(3L).getTotalDebit());
+        verify(periodBalanceRepository, never()).sumByAccountIdBetweenPeriods(any(), any(), any());
+    }
+}
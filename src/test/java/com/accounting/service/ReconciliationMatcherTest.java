@@ -0,0 +1,71 @@
+package com.accounting.service;
+
+import com.accounting.dto.AutoReconcileResultDTO;
+import com.accounting.dto.ReconciliationCandidateDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReconciliationMatcherTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 15);
+
+    private final ReconciliationMatcher matcher = new ReconciliationMatcher(7);
+
+    @Test
+    void match_SameAmountDifferentScale_PicksNearestDate() {
+        List<ReconciliationCandidateDTO> statements = List.of(candidate(1L, DAY, "250.00", null, "Card payment"));
+        List<ReconciliationCandidateDTO> lines = List.of(
+                candidate(10L, DAY.minusDays(5), "250", null, "Supplier"),
+                candidate(11L, DAY.plusDays(1), "250.0", null, "Supplier"),
+                candidate(12L, DAY, "-250.00", null, "Refund"));
+
+        List<AutoReconcileResultDTO.MatchDTO> matches = matcher.match(statements, lines);
+
+        assertEquals(1, matches.size());
+        assertEquals(11L, matches.get(0).getJournalLineId());
+        assertEquals(1, matches.get(0).getDayDifference());
+    }
+
+    @Test
+    void match_SameDistance_PrefersMatchingReference() {
+        List<ReconciliationCandidateDTO> statements = List.of(candidate(1L, DAY, "99.90", "INV-0042", "Acme Ltd"));
+        List<ReconciliationCandidateDTO> lines = List.of(
+                candidate(10L, DAY.plusDays(2), "99.90", "INV-0041", "Receipt"),
+                candidate(11L, DAY.minusDays(2), "99.90", "inv 0042", "Receipt"));
+
+        List<AutoReconcileResultDTO.MatchDTO> matches = matcher.match(statements, lines);
+
+        assertEquals(11L, matches.get(0).getJournalLineId());
+    }
+
+    @Test
+    void match_EachJournalLineIsUsedOnce() {
+        List<ReconciliationCandidateDTO> statements = List.of(
+                candidate(1L, DAY, "40.00", null, null),
+                candidate(2L, DAY.plusDays(1), "40.00", null, null));
+        List<ReconciliationCandidateDTO> lines = List.of(candidate(10L, DAY, "40.00", null, null));
+
+        List<AutoReconcileResultDTO.MatchDTO> matches = matcher.match(statements, lines);
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).getStatementId());
+    }
+
+    @Test
+    void match_OutsideDateWindow_IsNotMatched() {
+        List<ReconciliationCandidateDTO> statements = List.of(candidate(1L, DAY, "15.00", null, null));
+        List<ReconciliationCandidateDTO> lines = List.of(candidate(10L, DAY.plusDays(8), "15.00", null, null));
+
+        assertTrue(matcher.match(statements, lines).isEmpty());
+    }
+
+    private static ReconciliationCandidateDTO candidate(Long id, LocalDate date, String amount,
+                                                        String reference, String description) {
+        return new ReconciliationCandidateDTO(id, date, new BigDecimal(amount), reference, description);
+    }
+}
@@ -0,0 +1,158 @@
+package com.accounting.service;
+
+import com.accounting.dto.AccountTotalsDTO;
+import com.accounting.dto.ReconciliationSummaryDTO;
+import com.accounting.event.BankReconciliationEvent;
+import com.accounting.event.LedgerPostingEvent;
+import com.accounting.model.Account;
+import com.accounting.model.BankAccount;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementRepository;
+import com.accounting.repository.JournalEntryLineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationSummaryServiceTest {
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private BankStatementRepository bankStatementRepository;
+
+    @Mock
+    private JournalEntryLineRepository journalEntryLineRepository;
+
+    private ReconciliationSummaryService reconciliationSummaryService;
+
+    private BankAccount bankAccount;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationSummaryService = new ReconciliationSummaryService(bankAccountRepository,
+                bankStatementRepository, journalEntryLineRepository, Duration.ofMinutes(15));
+
+        Account glAccount = new Account();
+        glAccount.setId(100L);
+
+        bankAccount = new BankAccount();
+        bankAccount.setId(1L);
+        bankAccount.setAccountName("Operating");
+        bankAccount.setOpeningBalance(new BigDecimal("1000.00"));
+        bankAccount.setGlAccount(glAccount);
+
+        when(bankAccountRepository.findAllActive()).thenReturn(List.of(bankAccount));
+        when(bankStatementRepository.sumReconciledByBankAccountIds(any(), isNull())).thenReturn(List.of(
+                new AccountTotalsDTO(1L, new BigDecimal("200.00"), new BigDecimal("500.00"))));
+        when(journalEntryLineRepository.sumByAccountIdsAsOf(any(), isNull())).thenReturn(List.of(
+                new AccountTotalsDTO(100L, new BigDecimal("1500.00"), new BigDecimal("100.00"))));
+    }
+
+    @Test
+    void getSummaries_ComputesBalancesFromAggregates() {
+        ReconciliationSummaryDTO summary = reconciliationSummaryService.getSummaries(null).get(0);
+
+        assertEquals(new BigDecimal("1300.00"), summary.getReconciledBalance());
+        assertEquals(new BigDecimal("1400.00"), summary.getGlBalance());
+        assertEquals(new BigDecimal("100.00"), summary.getDifference());
+    }
+
+    @Test
+    void getSummaries_WithoutOpeningBalance_UsesStatementsOnly() {
+        bankAccount.setOpeningBalance(null);
+
+        ReconciliationSummaryDTO summary = reconciliationSummaryService.getSummaries(null).get(0);
+
+        assertEquals(new BigDecimal("300.00"), summary.getReconciledBalance());
+    }
+
+    @Test
+    void getSummaries_SecondCall_IsServedFromCache() {
+        reconciliationSummaryService.getSummaries(null);
+        reconciliationSummaryService.getSummaries(null);
+
+        verify(bankStatementRepository, times(1)).sumReconciledByBankAccountIds(any(), isNull());
+        verify(journalEntryLineRepository, times(1)).sumByAccountIdsAsOf(any(), isNull());
+    }
+
+    @Test
+    void onLedgerPosting_ToLinkedGlAccount_EvictsSummary() {
+        reconciliationSummaryService.getSummaries(null);
+
+        reconciliationSummaryService.onLedgerPosting(new LedgerPostingEvent(5L, false, List.of(
+                new LedgerPostingEvent.LineAmount(999L, LocalDate.now(), BigDecimal.ONE, BigDecimal.ZERO))));
+        reconciliationSummaryService.getSummaries(null);
+        verify(journalEntryLineRepository, times(1)).sumByAccountIdsAsOf(any(), isNull());
+
+        reconciliationSummaryService.onLedgerPosting(new LedgerPostingEvent(6L, false, List.of(
+                new LedgerPostingEvent.LineAmount(100L, LocalDate.now(), BigDecimal.ONE, BigDecimal.ZERO))));
+        reconciliationSummaryService.getSummaries(null);
+        verify(journalEntryLineRepository, times(2)).sumByAccountIdsAsOf(any(), isNull());
+    }
+
+    @Test
+    void onBankReconciliation_EvictsSummary() {
+        reconciliationSummaryService.getSummaries(null);
+
+        reconciliationSummaryService.onBankReconciliation(BankReconciliationEvent.of(1L));
+        reconciliationSummaryService.getSummaries(null);
+
+        verify(bankStatementRepository, times(2)).sumReconciledByBankAccountIds(any(), isNull());
+    }
+
+    @Test
+    void getSummaries_ExpiredSummary_IsReloaded() {
+        reconciliationSummaryService = new ReconciliationSummaryService(bankAccountRepository,
+                bankStatementRepository, journalEntryLineRepository, Duration.ZERO);
+
+        reconciliationSummaryService.getSummaries(null);
+        reconciliationSummaryService.getSummaries(null);
+
+        verify(bankStatementRepository, times(2)).sumReconciledByBankAccountIds(any(), isNull());
+    }
+
+    @Test
+    void getSummary_PastTheBound_DropsLeastRecentlyReadSummary() {
+        List<BankAccount> others = new ArrayList<>();
+        for (long id = 2; id <= ReconciliationSummaryService.MAX_CACHED_SUMMARIES; id++) {
+            BankAccount other = new BankAccount();
+            other.setId(id);
+            other.setOpeningBalance(BigDecimal.ZERO);
+            others.add(other);
+        }
+        when(bankAccountRepository.findAllActive()).thenReturn(others);
+        reconciliationSummaryService.getSummaries(null);
+        when(bankAccountRepository.findById(1L)).thenReturn(Optional.of(bankAccount));
+        reconciliationSummaryService.getSummary(1L, null);
+
+        // the cache is full and summary 2 is the least recently read one: one more summary pushes it out
+        BankAccount newest = new BankAccount();
+        newest.setId(5000L);
+        newest.setOpeningBalance(BigDecimal.ZERO);
+        when(bankAccountRepository.findById(5000L)).thenReturn(Optional.of(newest));
+        reconciliationSummaryService.getSummary(5000L, null);
+        when(bankAccountRepository.findById(2L)).thenReturn(Optional.of(others.get(0)));
+
+        clearInvocations(bankStatementRepository);
+        reconciliationSummaryService.getSummary(1L, null);
+        verify(bankStatementRepository, never()).sumReconciledByBankAccountIds(any(), any());
+        reconciliationSummaryService.getSummary(2L, null);
+        verify(bankStatementRepository, times(1)).sumReconciledByBankAccountIds(any(), any());
+    }
+}
@@ -0,0 +1,120 @@
+package com.accounting.service;
+
+import com.accounting.dto.CacheRegionStatsDTO;
+import com.accounting.model.Account;
+import com.accounting.model.AccountType;
+import com.accounting.model.CacheRegions;
+import com.accounting.repository.AccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:reference_cache;DB_CLOSE_DELAY=-1")
+class ReferenceDataCacheTest {
+
+    private static final AtomicInteger CODES = new AtomicInteger();
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        account = new Account();
+        account.setCode("RC" + CODES.incrementAndGet());
+        account.setName("Reference cache account");
+        account.setAccountType(AccountType.ASSET);
+        account = accountRepository.save(account);
+    }
+
+    @Test
+    void findById_SecondLookupIsServedFromTheCache() {
+        accountRepository.findById(account.getId()).orElseThrow();
+        statistics.clear();
+
+        Account cached = accountRepository.findById(account.getId()).orElseThrow();
+
+        assertEquals(account.getCode(), cached.getCode());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getCacheRegionStatistics(CacheRegions.ACCOUNTS).getHitCount() > 0);
+    }
+
+    @Test
+    void findByCode_RepeatedLookupRunsNoSql() {
+        accountRepository.findByCode(account.getCode()).orElseThrow();
+        statistics.clear();
+
+        accountRepository.findByCode(account.getCode()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getCacheRegionStatistics(CacheRegions.REFERENCE_QUERIES).getHitCount());
+    }
+
+    @Test
+    void edit_IsVisibleToCachedLookups() {
+        accountRepository.findByCode(account.getCode()).orElseThrow();
+        assertTrue(accountRepository.findActiveByType(AccountType.ASSET).stream()
+                .anyMatch(active -> active.getId().equals(account.getId())));
+
+        Account edited = accountRepository.findById(account.getId()).orElseThrow();
+        edited.setName("Renamed");
+        edited.setIsActive(false);
+        accountRepository.save(edited);
+
+        assertEquals("Renamed", accountRepository.findByCode(account.getCode()).orElseThrow().getName());
+        assertTrue(accountRepository.findActiveByType(AccountType.ASSET).stream()
+                .noneMatch(active -> active.getId().equals(account.getId())));
+    }
+
+    @Test
+    void evictAll_PicksUpPlainSqlChanges() {
+        accountRepository.findById(account.getId()).orElseThrow();
+        jdbcTemplate.update("UPDATE accounts SET name = ? WHERE id = ?", "Changed in SQL", account.getId());
+        assertEquals("Reference cache account", accountRepository.findById(account.getId()).orElseThrow().getName());
+
+        referenceDataCache.evictAll();
+
+        assertEquals("Changed in SQL", accountRepository.findById(account.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void hitRatio_IsExposedPerRegion() {
+        accountRepository.findById(account.getId()).orElseThrow();
+        accountRepository.findById(account.getId()).orElseThrow();
+
+        CacheRegionStatsDTO accounts = referenceDataCache.getStats().stream()
+                .filter(stats -> stats.getRegion().equals(CacheRegions.ACCOUNTS))
+                .findFirst().orElseThrow();
+        assertTrue(accounts.getHits() > 0);
+        assertTrue(accounts.getHitRatio() > 0);
+        assertTrue(meterRegistry.get("accounting.cache.hit.ratio")
+                .tag("region", CacheRegions.ACCOUNTS).gauge().value() > 0);
+        assertTrue(meterRegistry.get("accounting.cache.gets")
+                .tag("region", CacheRegions.ACCOUNTS).tag("result", "hit").functionCounter().count() > 0);
+    }
+}
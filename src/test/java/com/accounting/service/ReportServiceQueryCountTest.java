@@ -0,0 +1,154 @@
+package com.accounting.service;
+
+import com.accounting.dto.ProfitLossDTO;
+import com.accounting.dto.TrialBalanceDTO;
+import com.accounting.model.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:report_query_count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+class ReportServiceQueryCountTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private PeriodBalanceService periodBalanceService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int accountCount;
+    private int entryCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void generateTrialBalance_QueryCountDoesNotGrowWithChartOfAccounts() {
+        seedAccounts(10);
+        long smallChartQueries = countTrialBalanceQueries();
+
+        seedAccounts(190);
+        long largeChartQueries = countTrialBalanceQueries();
+
+        assertEquals(smallChartQueries, largeChartQueries);
+        assertTrue(largeChartQueries <= 3, "Trial balance ran " + largeChartQueries + " queries");
+    }
+
+    @Test
+    void generateTrialBalance_MatchesPostedTotals() {
+        seedAccounts(20);
+        entityManager.flush();
+        periodBalanceService.rebuild();
+        entityManager.clear();
+
+        TrialBalanceDTO trialBalance = reportService.generateTrialBalance(LocalDate.now());
+
+        assertTrue(trialBalance.isBalanced());
+        assertEquals(20, trialBalance.getLines().size());
+        assertEquals(new BigDecimal("1000.00"), trialBalance.getTotalDebit());
+    }
+
+    @Test
+    void generateProfitLossAndBalanceSheet_QueryCountDoesNotGrowWithChartOfAccounts() {
+        LocalDate today = LocalDate.now();
+        seedAccounts(10);
+        long smallProfitLoss = countQueries(() -> reportService.generateProfitLoss(today.withDayOfYear(1), today));
+        long smallBalanceSheet = countQueries(() -> reportService.generateBalanceSheet(today));
+
+        seedAccounts(190);
+        long largeProfitLoss = countQueries(() -> reportService.generateProfitLoss(today.withDayOfYear(1), today));
+        long largeBalanceSheet = countQueries(() -> reportService.generateBalanceSheet(today));
+
+        assertEquals(smallProfitLoss, largeProfitLoss);
+        assertEquals(smallBalanceSheet, largeBalanceSheet);
+    }
+
+    @Test
+    void generateProfitLoss_MatchesPostedTotals() {
+        seedAccounts(20);
+        entityManager.flush();
+        periodBalanceService.rebuild();
+        entityManager.clear();
+
+        ProfitLossDTO profitLoss = reportService.generateProfitLoss(LocalDate.now().withDayOfYear(1), LocalDate.now());
+
+        assertEquals(10, profitLoss.getRevenueAccounts().size());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(profitLoss.getTotalRevenue()));
+    }
+
+    private long countTrialBalanceQueries() {
+        return countQueries(() -> reportService.generateTrialBalance(LocalDate.now()));
+    }
+
+    private long countQueries(Runnable report) {
+        entityManager.flush();
+        periodBalanceService.rebuild();
+        entityManager.clear();
+        statistics.clear();
+
+        report.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedAccounts(int count) {
+        for (int i = 0; i < count; i += 2) {
+            Account debitAccount = createAccount(AccountType.ASSET);
+            Account creditAccount = createAccount(AccountType.REVENUE);
+
+            JournalEntry entry = new JournalEntry();
+            entry.setEntryNumber("JE-TEST-" + (++entryCount));
+            entry.setEntryDate(LocalDate.now());
+            entry.setDescription("Query count seed");
+            entry.setStatus(EntryStatus.POSTED);
+
+            JournalEntryLine debitLine = new JournalEntryLine();
+            debitLine.setAccount(debitAccount);
+            debitLine.setDebitAmount(new BigDecimal("100.00"));
+            debitLine.setCreditAmount(BigDecimal.ZERO);
+            entry.addLine(debitLine);
+
+            JournalEntryLine creditLine = new JournalEntryLine();
+            creditLine.setAccount(creditAccount);
+            creditLine.setDebitAmount(BigDecimal.ZERO);
+            creditLine.setCreditAmount(new BigDecimal("100.00"));
+            entry.addLine(creditLine);
+
+            entityManager.persist(entry);
+        }
+    }
+
+    private Account createAccount(AccountType type) {
+        Account account = new Account();
+        account.setCode("T" + (++accountCount));
+        account.setName("Test account " + accountCount);
+        account.setAccountType(type);
+        account.setIsActive(true);
+        entityManager.persist(account);
+        return account;
+    }
+}
@@ -0,0 +1,91 @@
+package com.accounting.service;
+
+import com.accounting.dto.StatementImportResultDTO;
+import com.accounting.model.BankStatement;
+import com.accounting.repository.BankAccountRepository;
+import com.accounting.repository.BankStatementBatchRepository;
+import com.accounting.service.statement.StatementFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementImportServiceTest {
+
+    private static final String COFFEE = "03/01/2024,Coffee,,-4.50,\n";
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private BankStatementBatchRepository bankStatementBatchRepository;
+
+    private String coffeeKey;
+
+    @BeforeEach
+    void setUp() {
+        when(bankAccountRepository.existsById(1L)).thenReturn(true);
+        coffeeKey = BankStatementBatchRepository.key(LocalDate.of(2024, 1, 3), null,
+                new BigDecimal("4.50"), BigDecimal.ZERO, "Coffee");
+    }
+
+    @Test
+    void importFile_IdenticalRowsInOneFile_AreAllImported() throws Exception {
+        when(bankStatementBatchRepository.countKeys(eq(1L), any(), any())).thenReturn(Map.of());
+
+        StatementImportResultDTO result = importCsv(new StatementImportService(
+                bankAccountRepository, bankStatementBatchRepository, 500), COFFEE + COFFEE);
+
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getDuplicatesSkipped());
+    }
+
+    @Test
+    void importFile_RowsAlreadyStored_SkipsOnlyThatManyOccurrences() throws Exception {
+        when(bankStatementBatchRepository.countKeys(eq(1L), any(), any())).thenReturn(Map.of(coffeeKey, 1));
+
+        StatementImportResultDTO result = importCsv(new StatementImportService(
+                bankAccountRepository, bankStatementBatchRepository, 500), COFFEE + COFFEE);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getDuplicatesSkipped());
+    }
+
+    @Test
+    void importFile_RowsInsertedByEarlierBatch_AreNotDuplicates() throws Exception {
+        // the second batch sees the row the first batch inserted
+        when(bankStatementBatchRepository.countKeys(eq(1L), any(), any()))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(coffeeKey, 1));
+
+        StatementImportResultDTO result = importCsv(new StatementImportService(
+                bankAccountRepository, bankStatementBatchRepository, 1), COFFEE + COFFEE);
+
+        assertEquals(2, result.getImported());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BankStatement>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bankStatementBatchRepository, times(2)).insertAll(eq(1L), inserted.capture());
+        assertEquals(1, inserted.getAllValues().get(1).size());
+    }
+
+    private static StatementImportResultDTO importCsv(StatementImportService service, String rows) throws Exception {
+        String csv = "Date,Description,Reference,Amount,Balance\n" + rows;
+        return service.importFile(1L, StatementFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "dd/MM/yyyy");
+    }
+}
@@ -0,0 +1,71 @@
+package com.accounting.service;
+
+import com.accounting.dto.SyntheticDataResultDTO;
+import com.accounting.dto.SyntheticDataSpecDTO;
+import com.accounting.exception.AccountingException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:synthetic_data;DB_CLOSE_DELAY=-1")
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private PeriodBalanceService periodBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_WritesRequestedVolumesOfBalancedEntries() {
+        SyntheticDataSpecDTO spec = new SyntheticDataSpecDTO();
+        spec.setFiscalYears(2);
+        spec.setCustomers(20);
+        spec.setJournalEntries(500);
+        spec.setLinesPerEntry(5);
+        spec.setInvoices(60);
+        spec.setItemsPerInvoice(2);
+        spec.setBankAccounts(2);
+        spec.setStatementsPerBankAccount(75);
+        spec.setBatchSize(64);
+
+        SyntheticDataResultDTO result = syntheticDataGenerator.generate(spec);
+
+        assertEquals(500, result.getJournalEntries());
+        assertEquals(2_500, result.getJournalLines());
+        assertEquals(20, result.getCustomers());
+        assertEquals(60, result.getInvoices());
+        assertEquals(120, result.getInvoiceItems());
+        assertEquals(150, result.getBankStatements());
+        assertEquals(2, result.getFiscalYears());
+
+        Long unbalanced = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT journal_entry_id " +
+                "FROM journal_entry_lines GROUP BY journal_entry_id " +
+                "HAVING SUM(debit_amount) <> SUM(credit_amount)) t", Long.class);
+        assertEquals(0L, unbalanced);
+
+        BigDecimal itemTotal = jdbcTemplate.queryForObject("SELECT SUM(amount) FROM invoice_items", BigDecimal.class);
+        BigDecimal subtotal = jdbcTemplate.queryForObject("SELECT SUM(subtotal) FROM invoices", BigDecimal.class);
+        assertEquals(0, itemTotal.compareTo(subtotal));
+
+        assertTrue(periodBalanceService.verify().isConsistent());
+
+        // ids came from the sequences, so the next pooled block starts above every generated row
+        for (String table : new String[] {"journal_entries", "journal_entry_lines", "invoice_items", "bank_statements"}) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            Long blockTop = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + table + "_seq", Long.class);
+            assertTrue(blockTop - 49 > maxId, table + " sequence overlaps generated ids");
+        }
+
+        // a second run would duplicate entry numbers
+        assertThrows(AccountingException.class, () -> syntheticDataGenerator.generate(spec));
+    }
+}
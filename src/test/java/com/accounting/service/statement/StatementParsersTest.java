@@ -0,0 +1,94 @@
+package com.accounting.service.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementParsersTest {
+
+    private final List<ParsedStatementLine> lines = new ArrayList<>();
+    private final List<String> rejections = new ArrayList<>();
+
+    private final StatementLineHandler handler = new StatementLineHandler() {
+        @Override
+        public void onLine(ParsedStatementLine line) {
+            lines.add(line);
+        }
+
+        @Override
+        public void onReject(long rowNumber, String reason) {
+            rejections.add(rowNumber + ": " + reason);
+        }
+    };
+
+    @Test
+    void csv_SignedAmountColumn_SplitsIntoDebitAndCredit() throws Exception {
+        String csv = "Date,Description,Reference,Amount,Balance\n"
+                + "03/01/2024,\"Coffee, large\",R1,-4.50,95.50\n"
+                + "04/01/2024,Salary,R2,\"1,000.00\",1095.50\n"
+                + "not-a-date,Broken,R3,1.00,\n";
+
+        new CsvStatementParser(DateTimeFormatter.ofPattern("dd/MM/yyyy")).parse(stream(csv), handler);
+
+        assertEquals(2, lines.size());
+        assertEquals(LocalDate.of(2024, 1, 3), lines.get(0).getTransactionDate());
+        assertEquals("Coffee, large", lines.get(0).getDescription());
+        assertEquals(new BigDecimal("4.50"), lines.get(0).getDebitAmount());
+        assertEquals(new BigDecimal("1000.00"), lines.get(1).getCreditAmount());
+        assertEquals(List.of("4: Invalid date: not-a-date"), rejections);
+    }
+
+    @Test
+    void ofx_SgmlWithoutClosingTags_ReadsEachTransaction() throws Exception {
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n"
+                + "<DTSTART>20240101<DTEND>20240131120000\n"
+                + "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240105<TRNAMT>-25.00<FITID>F1<NAME>Rent &amp; fees</STMTTRN>\n"
+                + "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240106<TRNAMT>100.00<FITID>F2<NAME>Deposit<MEMO>Branch</STMTTRN>\n"
+                + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+
+        new OfxStatementParser().parse(stream(ofx), handler);
+
+        assertEquals(2, lines.size());
+        assertEquals(LocalDate.of(2024, 1, 31), lines.get(0).getStatementDate());
+        assertEquals("Rent & fees", lines.get(0).getDescription());
+        assertEquals(new BigDecimal("25.00"), lines.get(0).getDebitAmount());
+        assertEquals("F2", lines.get(1).getReference());
+        assertEquals("Deposit - Branch", lines.get(1).getDescription());
+        assertTrue(rejections.isEmpty());
+    }
+
+    @Test
+    void camt053_ReadsEntryLevelAmountsAndDirection() throws Exception {
+        String xml = "<?xml version=\"1.0\"?><Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:camt.053.001.02\">"
+                + "<BkToCstmrStmt><Stmt><CreDtTm>2024-02-01T06:00:00</CreDtTm>"
+                + "<Ntry><Amt Ccy=\"EUR\">12.34</Amt><CdtDbtInd>DBIT</CdtDbtInd><BookgDt><Dt>2024-01-30</Dt></BookgDt>"
+                + "<AcctSvcrRef>REF-1</AcctSvcrRef><NtryDtls><TxDtls><Amt Ccy=\"EUR\">99.99</Amt>"
+                + "<RmtInf><Ustrd>Invoice 42</Ustrd></RmtInf></TxDtls></NtryDtls></Ntry>"
+                + "<Ntry><Amt Ccy=\"EUR\">50.00</Amt><CdtDbtInd>CRDT</CdtDbtInd><BookgDt><Dt>2024-01-31</Dt></BookgDt>"
+                + "<AddtlNtryInf>Transfer in</AddtlNtryInf></Ntry>"
+                + "<Ntry><Amt Ccy=\"EUR\">1.00</Amt><BookgDt><Dt>2024-01-31</Dt></BookgDt></Ntry>"
+                + "</Stmt></BkToCstmrStmt></Document>";
+
+        new Camt053StatementParser().parse(stream(xml), handler);
+
+        assertEquals(2, lines.size());
+        assertEquals(LocalDate.of(2024, 2, 1), lines.get(0).getStatementDate());
+        assertEquals(new BigDecimal("12.34"), lines.get(0).getDebitAmount());
+        assertEquals("REF-1", lines.get(0).getReference());
+        assertEquals("Invoice 42", lines.get(0).getDescription());
+        assertEquals(new BigDecimal("50.00"), lines.get(1).getCreditAmount());
+        assertEquals(List.of("3: Missing or invalid CdtDbtInd"), rejections);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -40,7 +40,7 @@ const InvoiceList = () => {
             <tr key={invoice.id}>
               <td>{invoice.invoiceDate}</td>
               <td>{invoice.invoiceNumber}</td>
-              <td>{invoice.customer ? invoice.customer.name : '-'}</td>
+              <td>{invoice.customerName || '-'}</td>
               <td>{invoice.totalAmount}</td>
               <td>
                 <Badge bg={
@@ -6,6 +6,8 @@ import { Plus, Trash2 } from 'lucide-react';
 
 const JournalList = () => {
     const [entries, setEntries] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const [loading, setLoading] = useState(true);
     const [showModal, setShowModal] = useState(false);
     const [accounts, setAccounts] = useState([]);
@@ -23,8 +25,9 @@ const JournalList = () => {
 
     const fetchEntries = async () => {
         try {
-            const response = await axios.get('/journal');
+            const response = await axios.get('/journal/slice');
             setEntries(response.data.content);
+            setNextCursor(response.data.nextCursor);
         } catch (error) {
             console.error("Error fetching entries", error);
         } finally {
@@ -32,6 +35,19 @@ const JournalList = () => {
         }
     };
 
+    const fetchMoreEntries = async () => {
+        setLoadingMore(true);
+        try {
+            const response = await axios.get('/journal/slice', { params: { cursor: nextCursor } });
+            setEntries(prev => [...prev, ...response.data.content]);
+            setNextCursor(response.data.nextCursor);
+        } catch (error) {
+            console.error("Error fetching entries", error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const fetchAccounts = async () => {
         try {
             const response = await axios.get('/accounts');
@@ -156,12 +172,19 @@ const JournalList = () => {
                                         </Badge>
                                     </td>
                                     <td>
-                                        ${entry.lines ? entry.lines.reduce((sum, l) => sum + (l.debitAmount || 0), 0).toLocaleString() : '0.00'}
+                                        ${(entry.totalDebit || 0).toLocaleString()}
                                     </td>
                                 </motion.tr>
                             ))}
                         </tbody>
                     </table>
+                    {nextCursor && (
+                        <div className="text-center mt-3">
+                            <Button className="netflix-btn" disabled={loadingMore} onClick={fetchMoreEntries}>
+                                {loadingMore ? 'Loading...' : 'Load more'}
+                            </Button>
+                        </div>
+                    )}
                 </div>
             )}
 
@@ -3,6 +3,8 @@ import axios from '../api/axiosConfig';
 import { Form, Row, Col, Button } from 'react-bootstrap';
 import { motion } from 'framer-motion';
 
+const PAGE_SIZE = 100;
+
 const LedgerView = () => {
     const [accounts, setAccounts] = useState([]);
     const [filters, setFilters] = useState({
@@ -28,14 +30,22 @@ const LedgerView = () => {
         fetchAccounts();
     }, []);
 
-    const fetchLedger = async () => {
+    const fetchLedger = async (cursor = null) => {
         if (!filters.accountId) return;
         setLoading(true);
         try {
-            const res = await axios.get(`/ledger/view/${filters.accountId}`, {
-                params: { startDate: filters.startDate, endDate: filters.endDate }
+            const res = await axios.get(`/ledger/page/${filters.accountId}`, {
+                params: { startDate: filters.startDate, endDate: filters.endDate, cursor, size: PAGE_SIZE }
             });
-            setLedgerData(res.data);
+            if (cursor && ledgerData) {
+                setLedgerData({
+                    ...res.data,
+                    openingBalance: ledgerData.openingBalance,
+                    entries: [...ledgerData.entries, ...res.data.entries]
+                });
+            } else {
+                setLedgerData(res.data);
+            }
         } catch (e) {
             console.error(e);
         } finally {
@@ -100,7 +110,7 @@ const LedgerView = () => {
                             </Form.Group>
                         </Col>
                         <Col md={2}>
-                            <Button className="netflix-btn w-100" onClick={fetchLedger}>
+                            <Button className="netflix-btn w-100" onClick={() => fetchLedger()}>
                                 View Ledger
                             </Button>
                         </Col>
@@ -108,9 +118,9 @@ const LedgerView = () => {
                 </Form>
             </div>
 
-            {loading && <p>Loading...</p>}
+            {loading && !ledgerData && <p>Loading...</p>}
 
-            {!loading && ledgerData && (
+            {ledgerData && (
                 <motion.div
                     initial={{ opacity: 0, y: 20 }}
                     animate={{ opacity: 1, y: 0 }}
@@ -119,7 +129,9 @@ const LedgerView = () => {
                         <h4>{ledgerData.accountCode} - {ledgerData.accountName}</h4>
                         <div>
                             <span className="me-3">Opening: ${ledgerData.openingBalance?.toLocaleString()}</span>
-                            <span className="text-white fw-bold">Closing: ${ledgerData.closingBalance?.toLocaleString()}</span>
+                            <span className="text-white fw-bold">
+                                {ledgerData.hasMore ? 'Balance so far' : 'Closing'}: ${ledgerData.closingBalance?.toLocaleString()}
+                            </span>
                         </div>
                     </div>
 
@@ -136,8 +148,8 @@ const LedgerView = () => {
                                 </tr>
                             </thead>
                             <tbody>
-                                {ledgerData.entries.map((entry, idx) => (
-                                    <tr key={idx}>
+                                {ledgerData.entries.map((entry) => (
+                                    <tr key={entry.lineId}>
                                         <td>{new Date(entry.entryDate || entry.date).toLocaleDateString()}</td>
                                         <td>{entry.reference}</td>
                                         <td>{entry.description}</td>
@@ -154,6 +166,14 @@ const LedgerView = () => {
                             </tbody>
                         </table>
                     </div>
+
+                    {ledgerData.hasMore && (
+                        <div className="text-center mt-3">
+                            <Button className="netflix-btn" disabled={loading} onClick={() => fetchLedger(ledgerData.nextCursor)}>
+                                {loading ? 'Loading...' : 'Load more'}
+                            </Button>
+                        </div>
+                    )}
                 </motion.div>
             )}
         </div>